@@ -30,6 +30,7 @@ import org.apache.maven.plugin.logging.SystemStreamLog;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.dependency.pom.DependencyEntry;
 import org.apache.maven.plugins.dependency.utils.DependencySilentLog;
+import org.apache.maven.plugins.dependency.utils.ResolutionCache;
 import org.apache.maven.project.MavenProject;
 import org.sonatype.plexus.build.incremental.BuildContext;
 
@@ -99,6 +100,13 @@ public abstract class AbstractDependencyMojo extends AbstractMojo {
         }
 
         doExecute();
+
+        if (getLog().isDebugEnabled() && session != null) {
+            ResolutionCache cache = ResolutionCache.find(session.getRepositorySession());
+            if (cache != null) {
+                getLog().debug("Resolution cache of the session: " + cache);
+            }
+        }
     }
 
     /**
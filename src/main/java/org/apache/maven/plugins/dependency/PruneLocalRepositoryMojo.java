@@ -0,0 +1,421 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency;
+
+import javax.inject.Inject;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.apache.maven.RepositoryUtils;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.DependencyManagement;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.dependency.utils.DependencyUtil;
+import org.apache.maven.plugins.dependency.utils.FileDeleter;
+import org.apache.maven.plugins.dependency.utils.LocalRepositoryIndex;
+import org.apache.maven.plugins.dependency.utils.ParentPomReader;
+import org.apache.maven.plugins.dependency.utils.ResolverUtil;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.shared.utils.logging.MessageUtils;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.ArtifactTypeRegistry;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.collection.DependencyCollectionException;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.repository.LocalArtifactRequest;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.util.ConfigUtils;
+import org.eclipse.aether.util.artifact.SubArtifact;
+
+/**
+ * Removes from the local repository the artifact versions which have not been used for a while, or the least recently
+ * used ones until the repository fits in a size budget. The dependencies and plugins of the projects of the reactor,
+ * with their parent POMs, and the parents and imported BOMs of the projects are never removed.
+ * <p>
+ * The local repository is scanned once. An artifact version is used when one of its files is read, if the file system
+ * records access times, or downloaded again.
+ *
+ * @since 3.11.1
+ */
+@Mojo(name = "prune-local-repository", aggregator = true, threadSafe = true, requiresProject = false)
+public class PruneLocalRepositoryMojo extends AbstractMojo {
+
+    private final MavenSession session;
+
+    private final ResolverUtil resolverUtil;
+
+    /**
+     * Remove the artifact versions not used for more than this number of days. A value lower than 1 disables this
+     * policy.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.maxUnusedDays", defaultValue = "0")
+    private int maxUnusedDays;
+
+    /**
+     * Remove the least recently used artifact versions until the local repository is not larger than this size, in
+     * bytes or with a unit: <code>K</code>, <code>M</code>, <code>G</code> or <code>T</code>, e.g. <code>20G</code>.
+     * Empty disables this policy.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.maxRepositorySize")
+    private String maxRepositorySize;
+
+    /**
+     * Keep the projects of the reactor, their parents, the BOMs they import and their dependencies and plugins, with
+     * their transitive dependencies and parent POMs.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.protectReactorDependencies", defaultValue = "true")
+    private boolean protectReactorDependencies;
+
+    /**
+     * Number of threads scanning the local repository and deleting from it. A value lower than 1 means the number of
+     * available processors.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.pruneThreads", defaultValue = "0")
+    private int pruneThreads;
+
+    /**
+     * Skip plugin execution completely.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.skip", defaultValue = "false")
+    private boolean skip;
+
+    @Inject
+    public PruneLocalRepositoryMojo(MavenSession session, ResolverUtil resolverUtil) {
+        this.session = session;
+        this.resolverUtil = resolverUtil;
+    }
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if (skip) {
+            getLog().info("Skipping plugin execution");
+            return;
+        }
+        long budget = maxRepositorySize == null || maxRepositorySize.trim().isEmpty()
+                ? -1
+                : parseSize(maxRepositorySize.trim());
+        if (maxUnusedDays < 1 && budget < 0) {
+            getLog().warn("Neither maxUnusedDays nor maxRepositorySize is set, nothing to prune");
+            return;
+        }
+
+        int threads = pruneThreads > 0 ? pruneThreads : Runtime.getRuntime().availableProcessors();
+        Path basedir = session.getRepositorySession()
+                .getLocalRepository()
+                .getBasedir()
+                .toPath();
+
+        Set<Path> protectedDirectories =
+                protectReactorDependencies ? getReactorDirectories() : new HashSet<>();
+        SplitPrefix splitPrefix = new SplitPrefix(session.getRepositorySession());
+
+        long start = System.nanoTime();
+        LocalRepositoryIndex index;
+        try {
+            index = LocalRepositoryIndex.scan(basedir, threads);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to scan the local repository " + basedir, e);
+        }
+        long size = index.getSize();
+        getLog().info(MessageUtils.buffer()
+                .a("Scanned ")
+                .strong(index.getEntries().size())
+                .a(" artifact versions, ")
+                .strong(DependencyUtil.formatSize(size))
+                .a(", in ")
+                .a(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                .a(" ms")
+                .build());
+
+        long unusedSince = maxUnusedDays < 1 ? 0 : System.currentTimeMillis() - TimeUnit.DAYS.toMillis(maxUnusedDays);
+        List<Path> evicted = new ArrayList<>();
+        long remaining = size;
+        for (LocalRepositoryIndex.Entry entry : index.getEntries()) {
+            // least recently used first
+            if (entry.getLastUsed() >= unusedSince && (budget < 0 || remaining <= budget)) {
+                break;
+            }
+            if (isProtected(basedir.relativize(entry.getDirectory()), splitPrefix, protectedDirectories)) {
+                getLog().debug("Keeping " + entry + " needed by the reactor");
+                continue;
+            }
+            getLog().debug("Removing " + entry);
+            evicted.add(entry.getDirectory());
+            remaining -= entry.getSize();
+        }
+        if (budget >= 0 && remaining > budget) {
+            getLog().warn("The local repository still needs " + DependencyUtil.formatSize(remaining)
+                    + " for the artifacts needed by the reactor, more than " + maxRepositorySize);
+        }
+
+        start = System.nanoTime();
+        FileDeleter deleter = new FileDeleter();
+        try {
+            deleter.delete(evicted, threads);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("Interrupted while pruning the local repository", e);
+        }
+        evicted.forEach(directory -> deleteEmptyParents(directory, basedir));
+        for (Path failure : deleter.getFailures()) {
+            getLog().warn("Unable to delete " + failure);
+        }
+
+        getLog().info(MessageUtils.buffer()
+                .a("Removed ")
+                .strong(evicted.size())
+                .a(" artifact versions, freeing ")
+                .strong(DependencyUtil.formatSize(deleter.getDeletedBytes()))
+                .a(" in ")
+                .a(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                .a(" ms; the local repository now holds ")
+                .strong(DependencyUtil.formatSize(size - deleter.getDeletedBytes()))
+                .build());
+    }
+
+    /**
+     * Parses a size in bytes, optionally followed by a binary unit.
+     *
+     * @param size the size, e.g. {@code 500M}
+     * @return the size in bytes
+     * @throws MojoExecutionException if the size cannot be parsed
+     */
+    static long parseSize(String size) throws MojoExecutionException {
+        String units = "KMGT";
+        char last = Character.toUpperCase(size.charAt(size.length() - 1));
+        int unit = units.indexOf(last) + 1;
+        String number = unit > 0 ? size.substring(0, size.length() - 1).trim() : size;
+        try {
+            long value = Long.parseLong(number);
+            if (value < 0 || value > Long.MAX_VALUE >> (10 * unit)) {
+                throw new NumberFormatException(size);
+            }
+            return value << (10 * unit);
+        } catch (NumberFormatException e) {
+            throw new MojoExecutionException("Invalid size: " + size, e);
+        }
+    }
+
+    /**
+     * A version directory is protected when its path from the root of the local repository, or from the prefix of a
+     * split local repository, is one of the protected directories.
+     */
+    private static boolean isProtected(Path directory, SplitPrefix splitPrefix, Set<Path> protectedDirectories) {
+        int prefixLength = splitPrefix.getLength(directory);
+        return prefixLength < directory.getNameCount()
+                && protectedDirectories.contains(directory.subpath(prefixLength, directory.getNameCount()));
+    }
+
+    /**
+     * @return the version directories, relative to the local repository or to its split prefix, of the parents,
+     *         imported BOMs, dependencies and plugins of the projects of the reactor, their transitive dependencies and
+     *         their parent POMs
+     * @throws MojoExecutionException if the dependencies of a project or plugin cannot be collected
+     */
+    private Set<Path> getReactorDirectories() throws MojoExecutionException {
+        RepositorySystemSession repositorySession = session.getRepositorySession();
+        ArtifactTypeRegistry typeRegistry = repositorySession.getArtifactTypeRegistry();
+        Set<String> artifacts = new HashSet<>();
+        Set<Path> directories = new HashSet<>();
+        for (MavenProject project : session.getProjects()) {
+            Artifact projectArtifact = RepositoryUtils.toArtifact(project.getArtifact());
+            List<Dependency> dependencies = project.getDependencies().stream()
+                    .map(d -> RepositoryUtils.toDependency(d, typeRegistry))
+                    .collect(Collectors.toList());
+            List<Dependency> managedDependencies = Optional.ofNullable(project.getDependencyManagement())
+                    .map(DependencyManagement::getDependencies)
+                    .map(list -> list.stream()
+                            .map(d -> RepositoryUtils.toDependency(d, typeRegistry))
+                            .collect(Collectors.toList()))
+                    .orElse(null);
+            List<RemoteRepository> repositories = project.getRemoteProjectRepositories();
+            protect(Collections.singletonList(projectArtifact), repositories, artifacts, directories);
+            protect(resolverUtil.getProjectPoms(project), repositories, artifacts, directories);
+            protect(
+                    collect(projectArtifact, dependencies, managedDependencies, repositories),
+                    repositories,
+                    artifacts,
+                    directories);
+
+            for (Plugin plugin : resolverUtil.getProjectPlugins(project)) {
+                if (plugin.getVersion() == null) {
+                    continue;
+                }
+                Artifact pluginArtifact =
+                        new DefaultArtifact(plugin.getGroupId(), plugin.getArtifactId(), "jar", plugin.getVersion());
+                List<Dependency> pluginDependencies = new ArrayList<>();
+                pluginDependencies.add(new Dependency(pluginArtifact, "runtime"));
+                plugin.getDependencies().stream()
+                        .map(d -> RepositoryUtils.toDependency(d, typeRegistry))
+                        .forEach(pluginDependencies::add);
+                protect(
+                        collect(pluginArtifact, pluginDependencies, null, project.getRemotePluginRepositories()),
+                        project.getRemotePluginRepositories(),
+                        artifacts,
+                        directories);
+            }
+        }
+        getLog().debug("Protecting " + directories.size() + " artifact versions needed by the reactor");
+        return directories;
+    }
+
+    private List<Artifact> collect(
+            Artifact root,
+            List<Dependency> dependencies,
+            List<Dependency> managedDependencies,
+            List<RemoteRepository> repositories)
+            throws MojoExecutionException {
+        try {
+            return resolverUtil.collectDependenciesForArtifact(root, dependencies, managedDependencies, repositories);
+        } catch (DependencyCollectionException e) {
+            throw new MojoExecutionException(
+                    "Cannot collect the dependencies of " + root + " to keep them: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Protects the version directories of the artifacts and of the parents of their POMs, as far as they are found in
+     * the local repository. The directories are kept without the prefix of a split local repository.
+     */
+    private void protect(
+            List<Artifact> collected,
+            List<RemoteRepository> repositories,
+            Set<String> artifacts,
+            Set<Path> directories) {
+        RepositorySystemSession repositorySession = session.getRepositorySession();
+        LocalRepositoryManager localRepositoryManager = repositorySession.getLocalRepositoryManager();
+        ParentPomReader parentPomReader = ParentPomReader.of(repositorySession);
+        for (Artifact artifact : collected) {
+            Artifact pom = new SubArtifact(artifact, "", "pom");
+            while (pom != null && artifacts.add(pom.toString())) {
+                directories.add(
+                        Paths.get(pom.getGroupId().replace('.', '/'), pom.getArtifactId(), pom.getBaseVersion()));
+
+                File file = localRepositoryManager
+                        .find(repositorySession, new LocalArtifactRequest(pom, repositories, null))
+                        .getFile();
+                if (file == null || !file.isFile()) {
+                    break;
+                }
+                try {
+                    pom = parentPomReader.getParent(pom.setFile(file)).orElse(null);
+                } catch (IOException e) {
+                    getLog().debug("Cannot read the parent of " + file + ": " + e.getMessage());
+                    pom = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes the artifact and group directories left empty.
+     */
+    private void deleteEmptyParents(Path directory, Path basedir) {
+        for (Path parent = directory.getParent();
+                parent != null && parent.startsWith(basedir) && !parent.equals(basedir);
+                parent = parent.getParent()) {
+            try {
+                Files.delete(parent);
+            } catch (DirectoryNotEmptyException | NoSuchFileException e) {
+                return;
+            } catch (IOException e) {
+                getLog().debug("Unable to delete " + parent + ": " + e.getMessage());
+                return;
+            }
+        }
+    }
+
+    /**
+     * The leading directories added to the paths of a split local repository, as configured with the
+     * {@code aether.enhancedLocalRepository.*} properties of the resolver.
+     */
+    private static final class SplitPrefix {
+
+        private static final String PREFIX = "aether.enhancedLocalRepository.";
+
+        private final boolean split;
+
+        private final String localPrefix;
+
+        private final boolean splitLocal;
+
+        private final String remotePrefix;
+
+        private final boolean splitRemote;
+
+        private final boolean splitRemoteRepository;
+
+        SplitPrefix(RepositorySystemSession session) {
+            split = ConfigUtils.getBoolean(session, false, PREFIX + "split");
+            localPrefix = ConfigUtils.getString(session, "installed", PREFIX + "localPrefix");
+            splitLocal = ConfigUtils.getBoolean(session, false, PREFIX + "splitLocal");
+            remotePrefix = ConfigUtils.getString(session, "cached", PREFIX + "remotePrefix");
+            splitRemote = ConfigUtils.getBoolean(session, false, PREFIX + "splitRemote");
+            splitRemoteRepository = ConfigUtils.getBoolean(session, false, PREFIX + "splitRemoteRepository");
+        }
+
+        /**
+         * @return the number of leading names of the directory which belong to the prefix, the releases or snapshots
+         *         prefix and the repository id included
+         */
+        int getLength(Path directory) {
+            if (!split || directory.getNameCount() == 0) {
+                return 0;
+            }
+            String first = directory.getName(0).toString();
+            if (first.equals(localPrefix)) {
+                return splitLocal ? 2 : 1;
+            } else if (first.equals(remotePrefix)) {
+                return 1 + (splitRemote ? 1 : 0) + (splitRemoteRepository ? 1 : 0);
+            }
+            return 0;
+        }
+    }
+}
@@ -22,12 +22,15 @@ import javax.inject.Inject;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.apache.maven.RepositoryUtils;
@@ -45,6 +48,9 @@ import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.dependency.utils.DependencyUtil;
+import org.apache.maven.plugins.dependency.utils.FileDeleter;
+import org.apache.maven.plugins.dependency.utils.PurgeReport;
 import org.apache.maven.plugins.dependency.utils.ResolverUtil;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.shared.artifact.filter.resolve.AbstractFilter;
@@ -58,10 +64,10 @@ import org.apache.maven.shared.artifact.filter.resolve.transform.ArtifactInclude
 import org.apache.maven.shared.artifact.filter.resolve.transform.EclipseAetherFilterTransformer;
 import org.apache.maven.shared.utils.logging.MessageBuilder;
 import org.apache.maven.shared.utils.logging.MessageUtils;
-import org.codehaus.plexus.util.FileUtils;
 import org.eclipse.aether.artifact.ArtifactTypeRegistry;
 import org.eclipse.aether.graph.DependencyFilter;
 import org.eclipse.aether.resolution.ArtifactDescriptorException;
+import org.eclipse.aether.resolution.ArtifactResult;
 import org.eclipse.aether.resolution.DependencyResolutionException;
 
 /**
@@ -207,6 +213,45 @@ public class PurgeLocalRepositoryMojo extends AbstractMojo {
     @Parameter(property = "skip", defaultValue = "false")
     private boolean skip;
 
+    /**
+     * Delete the artifact directories concurrently. Directories nested in another one being deleted, as happens with
+     * a coarse {@link #resolutionFuzziness}, are deleted with it.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.parallelPurge", defaultValue = "false")
+    private boolean parallelPurge;
+
+    /**
+     * Maximum number of concurrent deletions when {@link #parallelPurge} is enabled. A value lower than 1 means the
+     * number of available processors.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.purgeThreads", defaultValue = "0")
+    private int purgeThreads;
+
+    /**
+     * Only report what would be deleted, without deleting nor re-resolving anything. The files and directories which
+     * would be deleted are walked concurrently to count their files and bytes, and listed in {@link #purgeReport}.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.dryRun", defaultValue = "false")
+    private boolean dryRun;
+
+    /**
+     * The JSON report written by a {@link #dryRun}.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(
+            property = "mdep.purgeReport",
+            defaultValue = "${project.build.directory}/purge-local-repository-report.json")
+    private File purgeReport;
+
+    private PurgeReport report;
+
     @Inject
     public PurgeLocalRepositoryMojo(MavenProject project, MavenSession session, ResolverUtil resolverUtil) {
         this.session = session;
@@ -287,25 +332,63 @@ public class PurgeLocalRepositoryMojo extends AbstractMojo {
             return;
         }
 
+        if (dryRun) {
+            report = new PurgeReport(new File(localRepository.getBasedir()).toPath());
+        }
+
         if (!(manualInclude == null || manualInclude.isEmpty())) {
             manualIncludes = this.parseIncludes(manualInclude);
         }
         // If it's a manual purge, the only step is to delete from the local repo
         if (manualIncludes != null && !manualIncludes.isEmpty()) {
             manualPurge(manualIncludes);
-            return;
+        } else {
+            Set<Artifact> purgedArtifacts = new HashSet<>();
+            if (shouldPurgeAllProjectsInReactor()) {
+                for (MavenProject reactorProject : reactorProjects) {
+                    purgeLocalRepository(reactorProject, purgedArtifacts);
+                }
+            } else {
+                purgeLocalRepository(project, purgedArtifacts);
+            }
         }
 
-        Set<Artifact> purgedArtifacts = new HashSet<>();
-        if (shouldPurgeAllProjectsInReactor()) {
-            for (MavenProject reactorProject : reactorProjects) {
-                purgeLocalRepository(reactorProject, purgedArtifacts);
-            }
-        } else {
-            purgeLocalRepository(project, purgedArtifacts);
+        if (dryRun) {
+            writeReport();
         }
     }
 
+    /**
+     * Measures the files and directories a purge would delete, and writes the report.
+     *
+     * @throws MojoExecutionException if the report cannot be written
+     */
+    private void writeReport() throws MojoExecutionException {
+        try {
+            report.measure(getThreads());
+            report.write(purgeReport);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to write " + purgeReport, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("Interrupted while measuring the local repository", e);
+        }
+        getLog().info(MessageUtils.buffer()
+                .a("Dry run: purging would delete ")
+                .strong(report.getFiles())
+                .a(" files, ")
+                .strong(DependencyUtil.formatSize(report.getBytes()))
+                .a(", in ")
+                .strong(report.getTargetCount())
+                .a(" locations; see ")
+                .a(purgeReport)
+                .build());
+    }
+
+    private int getThreads() {
+        return purgeThreads > 0 ? purgeThreads : Runtime.getRuntime().availableProcessors();
+    }
+
     /**
      * Determines if all projects in the reactor should be purged from their dependencies. When this goal is started on
      * the command-line, it is always the case. When it is bound to a phase in the lifecycle, it is never the case.
@@ -341,7 +424,7 @@ public class PurgeLocalRepositoryMojo extends AbstractMojo {
         purgeArtifacts(theProject, resolvedArtifactsToPurge);
         purgedArtifacts.addAll(resolvedArtifactsToPurge);
 
-        if (reResolve) {
+        if (reResolve && !dryRun) {
             getLog().info("Re-resolving dependencies");
             try {
                 reResolveArtifacts(theProject, resolvedArtifactsToPurge);
@@ -358,11 +441,11 @@ public class PurgeLocalRepositoryMojo extends AbstractMojo {
      * @param theIncludes the includes
      * @throws MojoExecutionException in case of an error
      */
-    private void manualPurge(List<String> theIncludes) throws MojoExecutionException {
+    private void manualPurge(List<String> theIncludes) throws MojoExecutionException, MojoFailureException {
         MessageBuilder messageBuilder = MessageUtils.buffer();
 
         getLog().info(messageBuilder
-                .a("Deleting ")
+                .a(dryRun ? "Would delete " : "Deleting ")
                 .strong(theIncludes.size())
                 .a(" manual ")
                 .a(theIncludes.size() != 1 ? "dependencies" : "dependency")
@@ -370,6 +453,7 @@ public class PurgeLocalRepositoryMojo extends AbstractMojo {
                 .strong(localRepository.getBasedir())
                 .build());
 
+        Set<Path> purgeDirs = new LinkedHashSet<>();
         for (String gavPattern : theIncludes) {
             if (gavPattern == null || gavPattern.isEmpty()) {
                 getLog().debug("Skipping empty gav pattern");
@@ -383,17 +467,23 @@ public class PurgeLocalRepositoryMojo extends AbstractMojo {
             }
 
             File purgeDir = new File(localRepository.getBasedir(), relativePath);
-            if (purgeDir.exists()) {
+            if (purgeDir.exists() && dryRun) {
+                report.addTarget(purgeDir.toPath(), gavPattern);
+            } else if (purgeDir.exists()) {
                 getLog().debug("Deleting directory: " + purgeDir);
-                try {
-                    FileUtils.deleteDirectory(purgeDir);
-                } catch (IOException e) {
-                    throw new MojoExecutionException("Unable to purge directory: " + purgeDir);
-                }
+                purgeDirs.add(purgeDir.toPath());
             } else {
                 getLog().debug("Directory: " + purgeDir + " doesn't exist");
             }
         }
+
+        if (dryRun) {
+            return;
+        }
+        FileDeleter deleter = delete(purgeDirs);
+        if (!deleter.getFailures().isEmpty()) {
+            throw new MojoExecutionException("Unable to purge directory: " + deleter.getFailures());
+        }
     }
 
     /**
@@ -549,11 +639,11 @@ public class PurgeLocalRepositoryMojo extends AbstractMojo {
         return resolvedArtifacts;
     }
 
-    private void purgeArtifacts(MavenProject theProject, Set<Artifact> artifacts) {
+    private void purgeArtifacts(MavenProject theProject, Set<Artifact> artifacts) throws MojoFailureException {
         MessageBuilder messageBuilder = MessageUtils.buffer();
 
         getLog().info(messageBuilder
-                .a("Deleting ")
+                .a(dryRun ? "Would delete " : "Deleting ")
                 .strong(artifacts.size())
                 .a(" ")
                 .strong(actTransitively ? "transitive" : "direct")
@@ -567,44 +657,96 @@ public class PurgeLocalRepositoryMojo extends AbstractMojo {
                 .a(" resolution fuzziness")
                 .build());
 
+        Set<Path> deleteTargets = new LinkedHashSet<>();
         for (Artifact artifact : artifacts) {
-            verbose("Purging artifact: " + artifact.getId());
-
             File deleteTarget = findDeleteTarget(artifact);
+            if (dryRun) {
+                report.addTarget(deleteTarget.toPath(), artifact.getId());
+                continue;
+            }
+
+            verbose("Purging artifact: " + artifact.getId());
 
             verbose("Deleting: " + deleteTarget);
 
-            if (deleteTarget.isDirectory()) {
-                try {
-                    FileUtils.deleteDirectory(deleteTarget);
-                } catch (IOException e) {
-                    getLog().warn("Unable to purge local repository location: " + deleteTarget, e);
-                }
-            } else {
-                if (!deleteTarget.delete()) {
-                    deleteTarget.deleteOnExit();
-                    getLog().warn("Unable to purge local repository location immediately: " + deleteTarget);
-                }
-            }
+            deleteTargets.add(deleteTarget.toPath());
             artifact.setResolved(false);
         }
+        if (dryRun) {
+            return;
+        }
+
+        for (Path failure : delete(deleteTargets).getFailures()) {
+            getLog().warn("Unable to purge local repository location: " + failure);
+        }
     }
 
+    /**
+     * Deletes the given files and directories, concurrently if {@link #parallelPurge} is enabled, and logs how much
+     * was deleted.
+     *
+     * @param targets the files and directories to delete
+     * @return the deleter, holding the paths which could not be deleted
+     * @throws MojoFailureException if interrupted
+     */
+    private FileDeleter delete(Collection<Path> targets) throws MojoFailureException {
+        long start = System.nanoTime();
+        FileDeleter deleter = new FileDeleter();
+        int threads = parallelPurge ? getThreads() : 1;
+        try {
+            deleter.delete(targets, threads);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoFailureException("Interrupted while purging the local repository", e);
+        }
+
+        getLog().info(MessageUtils.buffer()
+                .a("Deleted ")
+                .strong(deleter.getDeletedFiles())
+                .a(" files, ")
+                .strong(DependencyUtil.formatSize(deleter.getDeletedBytes()))
+                .a(", in ")
+                .a(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                .a(" ms")
+                .build());
+        return deleter;
+    }
+
+    /**
+     * Resolves the purged artifacts again, in a single request so that the resolver downloads them concurrently.
+     * Their descriptors are read first, so that relocated artifacts are resolved at their new coordinates.
+     */
     private void reResolveArtifacts(MavenProject theProject, Set<Artifact> artifacts)
             throws ArtifactResolutionException {
         List<Artifact> missingArtifacts = new ArrayList<>();
 
+        long start = System.nanoTime();
+        List<Artifact> requested = new ArrayList<>(artifacts.size());
+        List<org.eclipse.aether.artifact.Artifact> coordinates = new ArrayList<>(artifacts.size());
         for (Artifact artifact : artifacts) {
             verbose("Resolving artifact: " + artifact.getId());
             try {
-                resolverUtil.resolveArtifact(
-                        RepositoryUtils.toArtifact(artifact), theProject.getRemoteProjectRepositories());
-            } catch (org.eclipse.aether.resolution.ArtifactResolutionException | ArtifactDescriptorException e) {
+                coordinates.add(resolverUtil.relocateArtifact(
+                        RepositoryUtils.toArtifact(artifact), theProject.getRemoteProjectRepositories()));
+                requested.add(artifact);
+            } catch (ArtifactDescriptorException e) {
                 verbose(e.getMessage());
                 missingArtifacts.add(artifact);
             }
         }
 
+        List<ArtifactResult> results =
+                resolverUtil.resolveArtifacts(coordinates, theProject.getRemoteProjectRepositories());
+        for (int i = 0; i < results.size(); i++) {
+            ArtifactResult result = results.get(i);
+            if (!result.isResolved()) {
+                result.getExceptions().forEach(e -> verbose(e.getMessage()));
+                missingArtifacts.add(requested.get(i));
+            }
+        }
+        getLog().info("Re-resolved " + (artifacts.size() - missingArtifacts.size()) + " of " + artifacts.size()
+                + " artifacts in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+
         if (!missingArtifacts.isEmpty()) {
             StringBuilder message = new StringBuilder("required artifacts missing:");
             message.append(System.lineSeparator());
@@ -30,13 +30,12 @@ import java.util.Objects;
 import java.util.Set;
 
 import org.apache.maven.artifact.Artifact;
-import org.apache.maven.artifact.resolver.filter.ArtifactFilter;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.dependency.utils.filters.ArtifactPatternMatcher;
 import org.apache.maven.project.MavenProject;
-import org.apache.maven.shared.artifact.filter.StrictPatternExcludesArtifactFilter;
 import org.apache.maven.shared.dependency.analyzer.ProjectDependencyAnalysis;
 import org.apache.maven.shared.dependency.analyzer.ProjectDependencyAnalyzer;
 import org.apache.maven.shared.dependency.analyzer.ProjectDependencyAnalyzerException;
@@ -562,12 +561,12 @@ public abstract class AbstractAnalyzeMojo extends AbstractMojo {
         if (excludes == null || excludes.length == 0) {
             return artifacts;
         }
-        ArtifactFilter filter = new StrictPatternExcludesArtifactFilter(Arrays.asList(excludes));
+        ArtifactPatternMatcher matcher = ArtifactPatternMatcher.compile(Arrays.asList(excludes));
         Set<Artifact> result = new LinkedHashSet<>();
 
         for (Iterator<Artifact> it = artifacts.iterator(); it.hasNext(); ) {
             Artifact artifact = it.next();
-            if (!filter.include(artifact)) {
+            if (matcher.matches(artifact)) {
                 it.remove();
                 result.add(artifact);
             }
@@ -21,6 +21,7 @@ package org.apache.maven.plugins.dependency.fromConfiguration;
 import javax.inject.Inject;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.maven.artifact.handler.manager.ArtifactHandlerManager;
@@ -34,7 +35,9 @@ import org.apache.maven.plugins.dependency.utils.ResolverUtil;
 import org.apache.maven.plugins.dependency.utils.UnpackUtil;
 import org.apache.maven.plugins.dependency.utils.filters.ArtifactItemFilter;
 import org.apache.maven.plugins.dependency.utils.filters.MarkerFileFilter;
+import org.apache.maven.plugins.dependency.utils.markers.IndexedMarkerHandler;
 import org.apache.maven.plugins.dependency.utils.markers.MarkerHandler;
+import org.apache.maven.plugins.dependency.utils.markers.MarkerIndex;
 import org.apache.maven.plugins.dependency.utils.markers.UnpackFileMarkerHandler;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.components.io.filemappers.FileMapper;
@@ -96,6 +99,50 @@ public class UnpackMojo extends AbstractFromConfigurationMojo {
     @Parameter(property = "mdep.unpack.filemappers")
     private FileMapper[] fileMappers;
 
+    /**
+     * Record the markers of the unpacked artifacts in a single index file of {@link #markersDirectory} instead of
+     * one file per artifact item. The index is read once and written once per execution, including when an item
+     * fails to unpack.
+     * <p>
+     * An indexed marker records the last modification time and the size of the artifact file, and the item is
+     * unpacked again with <code>overWriteIfNewer</code> when either of them changed. Marker files compare the last
+     * modification time of the artifact with the one of the marker file instead.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.useMarkerIndex", defaultValue = "false")
+    private boolean useMarkerIndex;
+
+    private MarkerIndex markerIndex;
+
+    /**
+     * Unpack the artifact items concurrently instead of one after another. Items writing the same files are still
+     * unpacked one after the other, in their declaration order.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.parallelUnpack", defaultValue = "false")
+    private boolean parallelUnpack;
+
+    /**
+     * Maximum number of concurrent extractions when {@link #parallelUnpack} is enabled. A value lower than 1 means
+     * the number of available processors.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.unpackThreads", defaultValue = "0")
+    private int unpackThreads;
+
+    /**
+     * When an artifact item is unpacked again, only rewrite the files whose content changed and delete the files
+     * which are no longer in the archive, so that unchanged files keep their timestamp. The extracted entries are
+     * recorded in {@link #markersDirectory}. Only applies to zip-family archives; others are always fully unpacked.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.incrementalUnpack", defaultValue = "false")
+    private boolean incrementalUnpack;
+
     /**
      * The artifact to unpack from command line. A string of the form
      * <code>groupId:artifactId:version[:packaging[:classifier]]</code>. Use {@link #artifactItems} within the POM
@@ -135,12 +182,38 @@ public class UnpackMojo extends AbstractFromConfigurationMojo {
 
         verifyRequirements();
 
-        List<ArtifactItem> processedItems = getProcessedArtifactItems(false);
-        for (ArtifactItem artifactItem : processedItems) {
-            if (artifactItem.isNeedsProcessing()) {
-                unpackArtifact(artifactItem);
-            } else {
-                this.getLog().info(artifactItem.getArtifact().getFile().getName() + " already unpacked.");
+        if (useMarkerIndex) {
+            markerIndex = MarkerIndex.load(this.markersDirectory);
+        }
+
+        try {
+            List<ArtifactItem> processedItems = getProcessedArtifactItems(false);
+            List<ArtifactItem> itemsToUnpack = new ArrayList<>();
+            for (ArtifactItem artifactItem : processedItems) {
+                if (!artifactItem.isNeedsProcessing()) {
+                    this.getLog().info(artifactItem.getArtifact().getFile().getName() + " already unpacked.");
+                } else if (parallelUnpack) {
+                    itemsToUnpack.add(artifactItem);
+                } else {
+                    unpackArtifact(artifactItem);
+                }
+            }
+
+            if (!itemsToUnpack.isEmpty()) {
+                int threads = unpackThreads > 0 ? unpackThreads : Runtime.getRuntime().availableProcessors();
+                getLog().debug("Unpacking " + itemsToUnpack.size() + " artifacts using " + threads + " threads");
+                unpackUtil.unpack(
+                        itemsToUnpack,
+                        ignorePermissions,
+                        threads,
+                        this::createMarkerHandler,
+                        getStateDirectory(),
+                        getLog());
+            }
+        } finally {
+            // keeps the markers of the items unpacked before a failure
+            if (markerIndex != null) {
+                markerIndex.save();
             }
         }
     }
@@ -153,7 +226,7 @@ public class UnpackMojo extends AbstractFromConfigurationMojo {
      * @see #getArtifact
      */
     private void unpackArtifact(ArtifactItem artifactItem) throws MojoExecutionException {
-        MarkerHandler handler = new UnpackFileMarkerHandler(artifactItem, this.markersDirectory);
+        MarkerHandler handler = createMarkerHandler(artifactItem);
 
         unpackUtil.unpack(
                 artifactItem.getArtifact().getFile(),
@@ -164,18 +237,30 @@ public class UnpackMojo extends AbstractFromConfigurationMojo {
                 artifactItem.getEncoding(),
                 ignorePermissions,
                 artifactItem.getFileMappers(),
+                getStateDirectory(),
                 getLog());
         handler.setMarker();
     }
 
     @Override
     ArtifactItemFilter getMarkedArtifactFilter(ArtifactItem item) {
-        MarkerHandler handler = new UnpackFileMarkerHandler(item, this.markersDirectory);
+        MarkerHandler handler = createMarkerHandler(item);
 
         return new MarkerFileFilter(
                 this.isOverWriteReleases(), this.isOverWriteSnapshots(), this.isOverWriteIfNewer(), handler);
     }
 
+    private File getStateDirectory() {
+        return incrementalUnpack ? this.markersDirectory : null;
+    }
+
+    private MarkerHandler createMarkerHandler(ArtifactItem item) {
+        if (markerIndex != null) {
+            return new IndexedMarkerHandler(item, markerIndex);
+        }
+        return new UnpackFileMarkerHandler(item, this.markersDirectory);
+    }
+
     /**
      * @param removeVersion removeVersion
      * @return list of {@link ArtifactItem}
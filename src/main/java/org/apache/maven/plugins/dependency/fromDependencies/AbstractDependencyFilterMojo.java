@@ -21,12 +21,22 @@ package org.apache.maven.plugins.dependency.fromDependencies;
 import javax.inject.Inject;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import org.apache.maven.RepositoryUtils;
@@ -39,7 +49,9 @@ import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.dependency.AbstractDependencyMojo;
 import org.apache.maven.plugins.dependency.utils.DependencyStatusSets;
 import org.apache.maven.plugins.dependency.utils.DependencyUtil;
+import org.apache.maven.plugins.dependency.utils.ParentPomReader;
 import org.apache.maven.plugins.dependency.utils.ResolverUtil;
+import org.apache.maven.plugins.dependency.utils.filters.ArtifactPatternsFilter;
 import org.apache.maven.plugins.dependency.utils.translators.ArtifactTranslator;
 import org.apache.maven.plugins.dependency.utils.translators.ClassifierTypeTranslator;
 import org.apache.maven.project.DefaultProjectBuildingRequest;
@@ -48,18 +60,18 @@ import org.apache.maven.project.ProjectBuilder;
 import org.apache.maven.project.ProjectBuildingException;
 import org.apache.maven.project.ProjectBuildingRequest;
 import org.apache.maven.shared.artifact.filter.collection.ArtifactFilterException;
-import org.apache.maven.shared.artifact.filter.collection.ArtifactIdFilter;
 import org.apache.maven.shared.artifact.filter.collection.ArtifactsFilter;
 import org.apache.maven.shared.artifact.filter.collection.ClassifierFilter;
 import org.apache.maven.shared.artifact.filter.collection.FilterArtifacts;
-import org.apache.maven.shared.artifact.filter.collection.GroupIdFilter;
 import org.apache.maven.shared.artifact.filter.collection.ProjectTransitivityFilter;
 import org.apache.maven.shared.artifact.filter.collection.ScopeFilter;
 import org.apache.maven.shared.artifact.filter.collection.TypeFilter;
 import org.eclipse.aether.repository.RemoteRepository;
 import org.eclipse.aether.resolution.ArtifactDescriptorException;
 import org.eclipse.aether.resolution.ArtifactResolutionException;
+import org.eclipse.aether.resolution.ArtifactResult;
 import org.eclipse.aether.resolution.DependencyResolutionException;
+import org.eclipse.aether.util.artifact.SubArtifact;
 import org.sonatype.plexus.build.incremental.BuildContext;
 
 /**
@@ -248,6 +260,25 @@ public abstract class AbstractDependencyFilterMojo extends AbstractDependencyMoj
     @Parameter
     private List<GraphRoot> graphRoots;
 
+    /**
+     * Discover the parents of the dependencies concurrently when parents are included, e.g. with
+     * {@code mdep.addParentPoms}. Parents shared by several dependencies are resolved only once, and the parents are
+     * listed in the same order as when they are discovered one dependency after the other.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.parallelParentPoms", defaultValue = "false")
+    protected boolean parallelParentPoms;
+
+    /**
+     * Maximum number of dependencies whose parents are discovered concurrently when {@link #parallelParentPoms} is
+     * enabled. A value lower than 1 means the number of available processors.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.parentPomThreads", defaultValue = "0")
+    protected int parentPomThreads;
+
     private final ResolverUtil resolverUtil;
 
     private final ProjectBuilder projectBuilder;
@@ -332,11 +363,11 @@ public abstract class AbstractDependencyFilterMojo extends AbstractDependencyMoj
                 DependencyUtil.cleanToBeTokenizedString(this.includeClassifiers),
                 DependencyUtil.cleanToBeTokenizedString(this.excludeClassifiers)));
 
-        filter.addFilter(new GroupIdFilter(
+        filter.addFilter(ArtifactPatternsFilter.groupIds(
                 DependencyUtil.cleanToBeTokenizedString(this.includeGroupIds),
                 DependencyUtil.cleanToBeTokenizedString(this.excludeGroupIds)));
 
-        filter.addFilter(new ArtifactIdFilter(
+        filter.addFilter(ArtifactPatternsFilter.artifactIds(
                 DependencyUtil.cleanToBeTokenizedString(this.includeArtifactIds),
                 DependencyUtil.cleanToBeTokenizedString(this.excludeArtifactIds)));
 
@@ -350,13 +381,17 @@ public abstract class AbstractDependencyFilterMojo extends AbstractDependencyMoj
         }
 
         if (includeParents) {
+            // parents already walked, shared by all the chains so that common ancestors are resolved once
+            Set<Artifact> walked = ConcurrentHashMap.newKeySet();
+            walked.addAll(artifacts);
+
             // add dependencies parents
-            for (Artifact dep : new ArrayList<>(artifacts)) {
-                addParentArtifacts(buildProjectFromArtifact(dep), artifacts);
-            }
+            artifacts.addAll(getDependencyParents(new ArrayList<>(artifacts), walked));
 
             // add current project parent
-            addParentArtifacts(getProject(), artifacts);
+            ParentChain projectParents = new ParentChain();
+            getParentArtifacts(getProject(), walked, projectParents);
+            artifacts.addAll(projectParents.parents);
         }
 
         // perform filtering
@@ -389,19 +424,177 @@ public abstract class AbstractDependencyFilterMojo extends AbstractDependencyMoj
         }
     }
 
-    private void addParentArtifacts(MavenProject project, Set<Artifact> artifacts) throws MojoExecutionException {
+    /**
+     * @param dependencies the dependencies whose parents are looked for
+     * @param walked the parents already walked, updated with the ones found
+     * @return the resolved parents, in the order of the dependencies
+     * @throws MojoExecutionException in case of errors
+     */
+    private List<Artifact> getDependencyParents(List<Artifact> dependencies, Set<Artifact> walked)
+            throws MojoExecutionException {
+        List<Artifact> parents = new ArrayList<>();
+        if (!parallelParentPoms || dependencies.size() < 2) {
+            for (Artifact dependency : dependencies) {
+                parents.addAll(getDependencyParents(dependency, walked).parents);
+            }
+            return parents;
+        }
+
+        int threads = parentPomThreads > 0 ? parentPomThreads : Runtime.getRuntime().availableProcessors();
+        getLog().debug("Discovering parents of " + dependencies.size() + " dependencies using " + threads
+                + " threads");
+        List<ParentChain> chains = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, dependencies.size()));
+        try {
+            List<Future<ParentChain>> futures = new ArrayList<>();
+            for (Artifact dependency : dependencies) {
+                futures.add(executor.submit(() -> getDependencyParents(dependency, walked)));
+            }
+            for (Future<ParentChain> future : futures) {
+                chains.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof MojoExecutionException) {
+                throw (MojoExecutionException) e.getCause();
+            }
+            throw new MojoExecutionException(e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("Interrupted while discovering parent POMs", e);
+        } finally {
+            executor.shutdownNow();
+        }
+        return orderParents(dependencies, chains);
+    }
+
+    /**
+     * Lists the parents walked concurrently in the order of a sequential walk, which does not depend on which chain
+     * got a shared parent first: a chain stopped at a parent walked by another chain goes on with the rest of that
+     * chain, unless the parent is already listed.
+     *
+     * @param dependencies the dependencies whose parents have been walked
+     * @param chains the chain walked for each dependency, in the same order
+     * @return the parents, in the order of the dependencies
+     */
+    private static List<Artifact> orderParents(List<Artifact> dependencies, List<ParentChain> chains) {
+        Map<Artifact, ParentChain> owners = new HashMap<>();
+        for (ParentChain chain : chains) {
+            for (Artifact key : chain.keys) {
+                owners.put(key, chain);
+            }
+        }
+
+        Set<Artifact> listed = new HashSet<>(dependencies);
+        List<Artifact> parents = new ArrayList<>();
+        for (ParentChain chain : chains) {
+            int index = 0;
+            while (chain != null) {
+                Artifact stop = chain.stop;
+                for (; index < chain.keys.size(); index++) {
+                    if (!listed.add(chain.keys.get(index))) {
+                        stop = null;
+                        break;
+                    }
+                    parents.add(chain.parents.get(index));
+                }
+                if (stop == null || listed.contains(stop)) {
+                    break;
+                }
+                chain = owners.get(stop);
+                index = chain != null ? chain.keys.indexOf(stop) : 0;
+            }
+        }
+        return parents;
+    }
+
+    /**
+     * Walks up the parents of a dependency by reading the {@code <parent>} of each POM, without building their
+     * projects. When a POM cannot be read this way, e.g. because its parent version is an expression, or when its
+     * parent cannot be resolved from the repositories of the current project, e.g. because it is only available from
+     * a repository declared in a POM of the chain, the rest of the chain is walked from the project built for that
+     * POM.
+     *
+     * @param dependency the dependency whose parents are looked for
+     * @param walked the parents already walked, updated with the ones found
+     * @return the chain of resolved parents, closest first
+     * @throws MojoExecutionException in case of errors
+     */
+    private ParentChain getDependencyParents(Artifact dependency, Set<Artifact> walked)
+            throws MojoExecutionException {
+        ParentPomReader parentPomReader = ParentPomReader.of(session.getRepositorySession());
+        List<RemoteRepository> repositories = getProject().getRemoteProjectRepositories();
+        ParentChain chain = new ParentChain();
+        org.eclipse.aether.artifact.Artifact pom;
+        try {
+            pom = resolverUtil.resolveConcreteArtifact(
+                    new SubArtifact(RepositoryUtils.toArtifact(dependency), null, "pom"),
+                    repositories,
+                    session.getRepositorySession());
+        } catch (ArtifactResolutionException | ArtifactDescriptorException e) {
+            getLog().debug("Building project of " + dependency + " to get its parent: " + e.getMessage());
+            getParentArtifacts(buildProjectFromArtifact(dependency), walked, chain);
+            return chain;
+        }
+
+        while (true) {
+            Optional<org.eclipse.aether.artifact.Artifact> parent;
+            try {
+                parent = parentPomReader.getParent(pom);
+            } catch (IOException e) {
+                getLog().debug("Building project of " + pom + " to get its parent: " + e.getMessage());
+                MavenProject project = buildProjectFromArtifact(RepositoryUtils.toArtifact(pom));
+                getParentArtifacts(project, walked, chain);
+                return chain;
+            }
+            if (!parent.isPresent()) {
+                return chain;
+            }
+            Artifact key = RepositoryUtils.toArtifact(parent.get());
+            if (!walked.add(key)) {
+                // already walked
+                chain.stop = key;
+                return chain;
+            }
+            org.eclipse.aether.artifact.Artifact child = pom;
+            try {
+                pom = resolverUtil.resolveConcreteArtifact(parent.get(), repositories, session.getRepositorySession());
+            } catch (ArtifactResolutionException | ArtifactDescriptorException e) {
+                // the parent may only be available from a repository declared by a POM of the chain
+                getLog().debug("Building project of " + child + " to get its parent: " + e.getMessage());
+                walked.remove(key);
+                getParentArtifacts(buildProjectFromArtifact(RepositoryUtils.toArtifact(child)), walked, chain);
+                return chain;
+            }
+            chain.add(key, RepositoryUtils.toArtifact(pom));
+        }
+    }
+
+    /**
+     * Walks up the parents of a project, stopping at the first one already walked: its own parents have been or
+     * are being walked by the chain which got it first.
+     *
+     * @param project the project whose parents are looked for
+     * @param walked the parents already walked, updated with the ones found
+     * @param chain the chain to add the resolved parents to, closest first
+     * @throws MojoExecutionException in case of errors
+     */
+    private void getParentArtifacts(MavenProject project, Set<Artifact> walked, ParentChain chain)
+            throws MojoExecutionException {
         while (project.hasParent()) {
             project = project.getParent();
 
-            if (artifacts.contains(project.getArtifact())) {
+            if (!walked.add(project.getArtifact())) {
                 // artifact already in the set
+                chain.stop = project.getArtifact();
                 break;
             }
             try {
-                org.eclipse.aether.artifact.Artifact resolvedArtifact = resolverUtil.resolveArtifact(
-                        RepositoryUtils.toArtifact(project.getArtifact()), project.getRemoteProjectRepositories());
+                org.eclipse.aether.artifact.Artifact resolvedArtifact = resolverUtil.resolveConcreteArtifact(
+                        RepositoryUtils.toArtifact(project.getArtifact()),
+                        project.getRemoteProjectRepositories(),
+                        session.getRepositorySession());
 
-                artifacts.add(RepositoryUtils.toArtifact(resolvedArtifact));
+                chain.add(project.getArtifact(), RepositoryUtils.toArtifact(resolvedArtifact));
             } catch (ArtifactResolutionException | ArtifactDescriptorException e) {
                 throw new MojoExecutionException(e.getMessage(), e);
             }
@@ -487,14 +680,19 @@ public abstract class AbstractDependencyFilterMojo extends AbstractDependencyMoj
     private Set<Artifact> resolve(Set<org.eclipse.aether.artifact.Artifact> artifacts, boolean stopOnFailure)
             throws MojoExecutionException {
 
+        // the translated artifacts are siblings of resolved dependencies, so their descriptors
+        // need not be read and all of them can be downloaded at once
+        List<ArtifactResult> results =
+                resolverUtil.resolveArtifacts(artifacts, getProject().getRemoteProjectRepositories());
+
         Set<Artifact> resolvedArtifacts = new LinkedHashSet<>();
-        for (org.eclipse.aether.artifact.Artifact artifact : artifacts) {
-            try {
-                org.eclipse.aether.artifact.Artifact resolveArtifact =
-                        resolverUtil.resolveArtifact(artifact, getProject().getRemoteProjectRepositories());
-                resolvedArtifacts.add(RepositoryUtils.toArtifact(resolveArtifact));
-            } catch (ArtifactResolutionException | ArtifactDescriptorException ex) {
+        for (ArtifactResult result : results) {
+            if (result.isResolved()) {
+                resolvedArtifacts.add(RepositoryUtils.toArtifact(result.getArtifact()));
+            } else {
                 // an error occurred during resolution, log it and continue
+                org.eclipse.aether.artifact.Artifact artifact = result.getRequest().getArtifact();
+                ArtifactResolutionException ex = new ArtifactResolutionException(Collections.singletonList(result));
                 getLog().debug("error resolving: " + artifact, ex);
                 if (stopOnFailure) {
                     throw new MojoExecutionException("error resolving: " + artifact, ex);
@@ -575,4 +773,22 @@ public abstract class AbstractDependencyFilterMojo extends AbstractDependencyMoj
     protected final ResolverUtil getResolverUtil() {
         return resolverUtil;
     }
+
+    /**
+     * The parents found by walking up from one artifact, each with the artifact it was walked as, and the parent the
+     * walk stopped at because another walk got it first.
+     */
+    private static final class ParentChain {
+
+        private final List<Artifact> keys = new ArrayList<>();
+
+        private final List<Artifact> parents = new ArrayList<>();
+
+        private Artifact stop;
+
+        void add(Artifact key, Artifact parent) {
+            keys.add(key);
+            parents.add(parent);
+        }
+    }
 }
@@ -23,6 +23,7 @@ import javax.inject.Inject;
 import java.io.File;
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -35,9 +36,11 @@ import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.plugins.dependency.utils.ChecksumIndex;
 import org.apache.maven.plugins.dependency.utils.CopyUtil;
 import org.apache.maven.plugins.dependency.utils.DependencyStatusSets;
 import org.apache.maven.plugins.dependency.utils.DependencyUtil;
+import org.apache.maven.plugins.dependency.utils.LinkStrategy;
 import org.apache.maven.plugins.dependency.utils.ResolverUtil;
 import org.apache.maven.plugins.dependency.utils.filters.DestFileFilter;
 import org.apache.maven.project.MavenProject;
@@ -100,6 +103,56 @@ public class CopyDependenciesMojo extends AbstractFromDependenciesMojo {
     @Parameter(property = "mdep.copySignatures", defaultValue = "false")
     protected boolean copySignatures;
 
+    /**
+     * Copy the dependencies concurrently instead of one after another. Useful for projects with many dependencies
+     * on storage that sustains concurrent I/O. Failures are still reported for each artifact.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.parallelCopy", defaultValue = "false")
+    protected boolean parallelCopy;
+
+    /**
+     * Maximum number of concurrent copies when {@link #parallelCopy} is enabled. A value lower than 1 means the
+     * number of available processors.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.copyThreads", defaultValue = "0")
+    protected int copyThreads;
+
+    /**
+     * How each file is placed in the output directory:
+     * <ul>
+     * <li><code>copy</code> copies the file (default),</li>
+     * <li><code>hardlink</code> creates a hard link to the file in the local repository, which costs neither I/O nor
+     * disk space when both are on the same file store,</li>
+     * <li><code>symlink</code> creates a symbolic link to the file in the local repository.</li>
+     * </ul>
+     * When a link cannot be created, the file is copied instead. Note that with links, modifying a file in the output
+     * directory modifies the local repository too. Not used with {@link #useRepositoryLayout}.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.linkStrategy", defaultValue = "copy")
+    protected String linkStrategy;
+
+    /**
+     * With {@link #overWriteIfNewer}, decide whether a file must be copied again by comparing its SHA-1 digest with
+     * the digest of the file copied last time, instead of comparing last modification times. This keeps unchanged
+     * files from being copied again when the timestamps of the local repository are not preserved (e.g. after
+     * restoring a CI cache), and copies changed files even when their timestamps collide. Digests are read from the
+     * <code>.sha1</code> files of the local repository when present, computed otherwise, and recorded in
+     * {@link #markersDirectory} with the size and last modification time of each copy: a file not copied by this goal,
+     * or modified since, is copied again.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.useChecksums", defaultValue = "false")
+    protected boolean useChecksums;
+
+    private ChecksumIndex checksumIndex;
+
     @Inject
     public CopyDependenciesMojo(
             MavenSession session,
@@ -122,6 +175,25 @@ public class CopyDependenciesMojo extends AbstractFromDependenciesMojo {
      */
     @Override
     protected void doExecute() throws MojoExecutionException {
+        LinkStrategy strategy = getLinkStrategy();
+        if (useChecksums && !useRepositoryLayout) {
+            checksumIndex = loadChecksumIndex();
+        }
+        try {
+            copyDependencies(strategy);
+        } finally {
+            // records the copies done so far even when a later one fails
+            if (checksumIndex != null) {
+                try {
+                    checksumIndex.save();
+                } catch (IOException e) {
+                    throw new MojoExecutionException("Failed to write checksum index in " + markersDirectory, e);
+                }
+            }
+        }
+    }
+
+    private void copyDependencies(LinkStrategy strategy) throws MojoExecutionException {
         DependencyStatusSets dss = getDependencySets(this.failOnMissingClassifierArtifact, addParentPoms);
         Set<Artifact> artifacts = dss.getResolvedDependencies();
 
@@ -141,9 +213,13 @@ public class CopyDependenciesMojo extends AbstractFromDependenciesMojo {
                 }
             }
 
-            for (Artifact artifact : artifacts) {
-                copyArtifact(
-                        artifact, isStripVersion(), this.prependGroupId, this.useBaseVersion, this.stripClassifier);
+            if (parallelCopy) {
+                copyArtifacts(artifacts, strategy);
+            } else {
+                for (Artifact artifact : artifacts) {
+                    copyArtifact(
+                            artifact, isStripVersion(), this.prependGroupId, this.useBaseVersion, this.stripClassifier);
+                }
             }
         } else {
             RepositorySystemSession repositorySystemSession = getResolverUtil().localRepositorySession(outputDirectory);
@@ -238,28 +314,20 @@ public class CopyDependenciesMojo extends AbstractFromDependenciesMojo {
             boolean removeClassifier)
             throws MojoExecutionException {
 
-        String destFileName = DependencyUtil.getFormattedFileName(
-                artifact, removeVersion, prependGroupId, useBaseVersion, removeClassifier);
-
-        File destDir = DependencyUtil.getFormattedOutputDirectory(
-                useSubDirectoryPerScope,
-                useSubDirectoryPerType,
-                useSubDirectoryPerArtifact,
-                useRepositoryLayout,
-                stripVersion,
-                stripType,
-                outputDirectory,
-                artifact);
-        File destFile = new File(destDir, destFileName);
+        File destFile = getDestFile(artifact, removeVersion, prependGroupId, useBaseVersion, removeClassifier);
         if (destFile.exists()) {
             getLog().warn("Overwriting " + destFile);
         }
         try {
-            copyUtil.copyArtifactFile(artifact, destFile);
+            LinkStrategy strategy = getLinkStrategy();
+            copyUtil.copyArtifactFile(artifact, destFile, strategy);
+            if (checksumIndex != null) {
+                checksumIndex.record(artifact.getFile(), destFile);
+            }
 
             // Copy the signature file if the copySignatures flag is true
             if (copySignatures) {
-                copySignatureFile(artifact, destDir, destFileName);
+                copySignatureFile(artifact, destFile.getParentFile(), destFile.getName(), strategy);
             }
 
         } catch (IOException e) {
@@ -268,6 +336,68 @@ public class CopyDependenciesMojo extends AbstractFromDependenciesMojo {
         }
     }
 
+    /**
+     * Copies the artifacts concurrently, using at most {@link #copyThreads} threads.
+     *
+     * @param artifacts the artifacts to copy
+     * @param strategy how the files are materialized
+     * @throws MojoExecutionException if at least one artifact could not be copied
+     * @see CopyUtil#copyArtifactFiles(Map, int, LinkStrategy)
+     */
+    private void copyArtifacts(Set<Artifact> artifacts, LinkStrategy strategy) throws MojoExecutionException {
+        Map<File, Artifact> destinations = new LinkedHashMap<>();
+        for (Artifact artifact : artifacts) {
+            File destFile = getDestFile(
+                    artifact, isStripVersion(), this.prependGroupId, this.useBaseVersion, this.stripClassifier);
+            // same as a sequential copy: the last artifact with a given file name wins, but never copy
+            // two artifacts to the same file concurrently
+            if (destFile.exists() || destinations.remove(destFile) != null) {
+                getLog().warn("Overwriting " + destFile);
+            }
+            destinations.put(destFile, artifact);
+        }
+
+        Map<Artifact, File> copies = new LinkedHashMap<>();
+        destinations.forEach((destFile, artifact) -> copies.put(artifact, destFile));
+
+        int threads = copyThreads > 0 ? copyThreads : Runtime.getRuntime().availableProcessors();
+        getLog().debug("Copying " + copies.size() + " artifacts using " + threads + " threads");
+        // each copy is recorded as soon as it is done, so a failed copy does not lose the others
+        copyUtil.copyArtifactFiles(copies, threads, strategy, (artifact, destFile) -> {
+            if (checksumIndex != null) {
+                checksumIndex.record(artifact.getFile(), destFile);
+            }
+        });
+
+        if (copySignatures) {
+            for (Map.Entry<Artifact, File> copy : copies.entrySet()) {
+                File destFile = copy.getValue();
+                copySignatureFile(copy.getKey(), destFile.getParentFile(), destFile.getName(), strategy);
+            }
+        }
+    }
+
+    private File getDestFile(
+            Artifact artifact,
+            boolean removeVersion,
+            boolean prependGroupId,
+            boolean useBaseVersion,
+            boolean removeClassifier) {
+        String destFileName = DependencyUtil.getFormattedFileName(
+                artifact, removeVersion, prependGroupId, useBaseVersion, removeClassifier);
+
+        File destDir = DependencyUtil.getFormattedOutputDirectory(
+                useSubDirectoryPerScope,
+                useSubDirectoryPerType,
+                useSubDirectoryPerArtifact,
+                useRepositoryLayout,
+                stripVersion,
+                stripType,
+                outputDirectory,
+                artifact);
+        return new File(destDir, destFileName);
+    }
+
     /**
      * Copies the signature file of the artifact to the destination directory, if it exists or can be resolved.
      * If the signature file does not exist and cannot be resolved, a warning is logged.
@@ -275,8 +405,9 @@ public class CopyDependenciesMojo extends AbstractFromDependenciesMojo {
      * @param artifact the artifact whose signature file should be copied
      * @param destDir the destination directory
      * @param destFileName the destination file name without the extension
+     * @param strategy how the signature file is materialized
      */
-    private void copySignatureFile(Artifact artifact, File destDir, String destFileName) {
+    private void copySignatureFile(Artifact artifact, File destDir, String destFileName, LinkStrategy strategy) {
         File signatureFile = new File(artifact.getFile().getAbsolutePath() + SIGNATURE_EXTENSION);
 
         if (!signatureFile.exists()) {
@@ -285,7 +416,7 @@ public class CopyDependenciesMojo extends AbstractFromDependenciesMojo {
                 org.eclipse.aether.artifact.Artifact aSignatureArtifact =
                         new SubArtifact(aArtifact, null, "jar" + SIGNATURE_EXTENSION);
                 org.eclipse.aether.artifact.Artifact resolvedSignature = getResolverUtil()
-                        .resolveArtifact(aSignatureArtifact, getProject().getRemoteProjectRepositories());
+                        .resolveConcreteArtifact(aSignatureArtifact, getProject().getRemoteProjectRepositories());
                 signatureFile = resolvedSignature.getFile();
             } catch (ArtifactResolutionException | ArtifactDescriptorException e) {
                 getLog().warn("Failed to resolve signature file for artifact: " + artifact, e);
@@ -295,7 +426,7 @@ public class CopyDependenciesMojo extends AbstractFromDependenciesMojo {
         if (signatureFile != null && signatureFile.exists()) {
             File signatureDestFile = new File(destDir, destFileName + SIGNATURE_EXTENSION);
             try {
-                copyUtil.copyFile(signatureFile, signatureDestFile);
+                copyUtil.copyFile(signatureFile, signatureDestFile, strategy);
             } catch (IOException e) {
                 getLog().warn("Failed to copy signature file: " + signatureFile, e);
             }
@@ -334,6 +465,7 @@ public class CopyDependenciesMojo extends AbstractFromDependenciesMojo {
     private void copyPoms(
             File destDir, Set<Artifact> artifacts, boolean removeVersion, boolean removeClassifier, boolean overwrite)
             throws MojoExecutionException {
+        LinkStrategy strategy = getLinkStrategy();
 
         for (Artifact artifact : artifacts) {
             Artifact pomArtifact = getResolvedPomArtifact(artifact);
@@ -348,7 +480,7 @@ public class CopyDependenciesMojo extends AbstractFromDependenciesMojo {
                                 pomArtifact, removeVersion, prependGroupId, useBaseVersion, removeClassifier));
                 if (overwrite || !pomDestFile.exists()) {
                     try {
-                        copyUtil.copyArtifactFile(pomArtifact, pomDestFile);
+                        copyUtil.copyArtifactFile(pomArtifact, pomDestFile, strategy);
                     } catch (IOException e) {
                         throw new MojoExecutionException(
                                 "Failed to copy artifact '" + pomArtifact + "' (" + pomArtifact.getFile() + ") to "
@@ -371,8 +503,8 @@ public class CopyDependenciesMojo extends AbstractFromDependenciesMojo {
         try {
             org.eclipse.aether.artifact.Artifact aArtifact = RepositoryUtils.toArtifact(artifact);
             org.eclipse.aether.artifact.Artifact aPomArtifact = new SubArtifact(aArtifact, null, "pom");
-            org.eclipse.aether.artifact.Artifact resolvedPom =
-                    getResolverUtil().resolveArtifact(aPomArtifact, getProject().getRemoteProjectRepositories());
+            org.eclipse.aether.artifact.Artifact resolvedPom = getResolverUtil()
+                    .resolveConcreteArtifact(aPomArtifact, getProject().getRemoteProjectRepositories());
             pomArtifact = RepositoryUtils.toArtifact(resolvedPom);
         } catch (ArtifactResolutionException | ArtifactDescriptorException e) {
             getLog().info(e.getMessage());
@@ -382,7 +514,7 @@ public class CopyDependenciesMojo extends AbstractFromDependenciesMojo {
 
     @Override
     protected ArtifactsFilter getMarkedArtifactFilter() {
-        return new DestFileFilter(
+        DestFileFilter filter = new DestFileFilter(
                 this.overWriteReleases,
                 this.overWriteSnapshots,
                 this.overWriteIfNewer,
@@ -394,6 +526,27 @@ public class CopyDependenciesMojo extends AbstractFromDependenciesMojo {
                 this.prependGroupId,
                 this.useBaseVersion,
                 this.outputDirectory);
+        filter.setChecksumIndex(checksumIndex);
+        return filter;
+    }
+
+    private ChecksumIndex loadChecksumIndex() throws MojoExecutionException {
+        File baseDirectory = getProject().getBasedir() != null ? getProject().getBasedir() : outputDirectory;
+        File indexFile = new File(markersDirectory, "copy-dependencies.sha1");
+        try {
+            return new ChecksumIndex(indexFile, baseDirectory);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to read checksum index " + indexFile, e);
+        }
+    }
+
+    private LinkStrategy getLinkStrategy() throws MojoExecutionException {
+        try {
+            return LinkStrategy.fromString(linkStrategy);
+        } catch (IllegalArgumentException e) {
+            throw new MojoExecutionException(
+                    "Invalid linkStrategy '" + linkStrategy + "', expected one of copy, hardlink or symlink", e);
+        }
     }
 
     /**
@@ -21,6 +21,9 @@ package org.apache.maven.plugins.dependency.fromDependencies;
 import javax.inject.Inject;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.handler.manager.ArtifactHandlerManager;
@@ -30,12 +33,16 @@ import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.plugins.dependency.fromConfiguration.ArtifactItem;
 import org.apache.maven.plugins.dependency.utils.DependencyStatusSets;
 import org.apache.maven.plugins.dependency.utils.DependencyUtil;
 import org.apache.maven.plugins.dependency.utils.ResolverUtil;
 import org.apache.maven.plugins.dependency.utils.UnpackUtil;
 import org.apache.maven.plugins.dependency.utils.filters.MarkerFileFilter;
 import org.apache.maven.plugins.dependency.utils.markers.DefaultFileMarkerHandler;
+import org.apache.maven.plugins.dependency.utils.markers.IndexedMarkerHandler;
+import org.apache.maven.plugins.dependency.utils.markers.MarkerHandler;
+import org.apache.maven.plugins.dependency.utils.markers.MarkerIndex;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.ProjectBuilder;
 import org.apache.maven.shared.artifact.filter.collection.ArtifactsFilter;
@@ -101,6 +108,50 @@ public class UnpackDependenciesMojo extends AbstractFromDependenciesMojo {
     @Parameter(property = "mdep.unpack.filemappers")
     private FileMapper[] fileMappers;
 
+    /**
+     * Record the markers of the unpacked artifacts in a single index file of {@link #markersDirectory} instead of
+     * one file per artifact. The index is read once and written once per execution, including when an artifact
+     * fails to unpack.
+     * <p>
+     * An indexed marker records the last modification time and the size of the artifact file, and the artifact is
+     * unpacked again with {@link #overWriteIfNewer} when either of them changed. Marker files compare the last
+     * modification time of the artifact with the one of the marker file instead.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.useMarkerIndex", defaultValue = "false")
+    private boolean useMarkerIndex;
+
+    private MarkerIndex markerIndex;
+
+    /**
+     * Unpack the dependencies concurrently instead of one after another. Dependencies writing the same files are
+     * still unpacked one after the other, in the order of the dependency list.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.parallelUnpack", defaultValue = "false")
+    private boolean parallelUnpack;
+
+    /**
+     * Maximum number of concurrent extractions when {@link #parallelUnpack} is enabled. A value lower than 1 means
+     * the number of available processors.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.unpackThreads", defaultValue = "0")
+    private int unpackThreads;
+
+    /**
+     * When a dependency is unpacked again, only rewrite the files whose content changed and delete the files which are
+     * no longer in the archive, so that unchanged files keep their timestamp. The extracted entries are recorded in
+     * {@link #markersDirectory}. Only applies to zip-family archives; others are always fully unpacked.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.incrementalUnpack", defaultValue = "false")
+    private boolean incrementalUnpack;
+
     private final UnpackUtil unpackUtil;
 
     @Inject
@@ -125,30 +176,18 @@ public class UnpackDependenciesMojo extends AbstractFromDependenciesMojo {
      */
     @Override
     protected void doExecute() throws MojoExecutionException {
+        if (useMarkerIndex) {
+            markerIndex = MarkerIndex.load(this.markersDirectory);
+        }
         DependencyStatusSets dss = getDependencySets(this.failOnMissingClassifierArtifact);
 
-        for (Artifact artifact : dss.getResolvedDependencies()) {
-            File destDir = DependencyUtil.getFormattedOutputDirectory(
-                    useSubDirectoryPerScope,
-                    useSubDirectoryPerType,
-                    useSubDirectoryPerArtifact,
-                    useRepositoryLayout,
-                    stripVersion,
-                    stripType,
-                    outputDirectory,
-                    artifact);
-            unpackUtil.unpack(
-                    artifact.getFile(),
-                    artifact.getType(),
-                    destDir,
-                    getIncludes(),
-                    getExcludes(),
-                    getEncoding(),
-                    ignorePermissions,
-                    getFileMappers(),
-                    getLog());
-            DefaultFileMarkerHandler handler = new DefaultFileMarkerHandler(artifact, this.markersDirectory);
-            handler.setMarker();
+        try {
+            unpackArtifacts(dss.getResolvedDependencies());
+        } finally {
+            // keeps the markers of the artifacts unpacked before a failure
+            if (markerIndex != null) {
+                markerIndex.save();
+            }
         }
 
         for (Artifact artifact : dss.getSkippedDependencies()) {
@@ -156,13 +195,81 @@ public class UnpackDependenciesMojo extends AbstractFromDependenciesMojo {
         }
     }
 
+    private void unpackArtifacts(Set<Artifact> artifacts) throws MojoExecutionException {
+        if (parallelUnpack) {
+            List<ArtifactItem> items = new ArrayList<>();
+            for (Artifact artifact : artifacts) {
+                ArtifactItem item = new ArtifactItem(artifact);
+                item.setOutputDirectory(getDestDir(artifact));
+                item.setIncludes(getIncludes());
+                item.setExcludes(getExcludes());
+                item.setEncoding(getEncoding());
+                item.setFileMappers(getFileMappers());
+                items.add(item);
+            }
+            int threads = unpackThreads > 0 ? unpackThreads : Runtime.getRuntime().availableProcessors();
+            getLog().debug("Unpacking " + items.size() + " artifacts using " + threads + " threads");
+            unpackUtil.unpack(
+                    items,
+                    ignorePermissions,
+                    threads,
+                    item -> {
+                        MarkerHandler handler = createMarkerHandler();
+                        handler.setArtifact(item.getArtifact());
+                        return handler;
+                    },
+                    getStateDirectory(),
+                    getLog());
+        } else {
+            for (Artifact artifact : artifacts) {
+                unpackUtil.unpack(
+                        artifact.getFile(),
+                        artifact.getType(),
+                        getDestDir(artifact),
+                        getIncludes(),
+                        getExcludes(),
+                        getEncoding(),
+                        ignorePermissions,
+                        getFileMappers(),
+                        getStateDirectory(),
+                        getLog());
+                MarkerHandler handler = createMarkerHandler();
+                handler.setArtifact(artifact);
+                handler.setMarker();
+            }
+        }
+    }
+
     @Override
     protected ArtifactsFilter getMarkedArtifactFilter() {
         return new MarkerFileFilter(
                 this.overWriteReleases,
                 this.overWriteSnapshots,
                 this.overWriteIfNewer,
-                new DefaultFileMarkerHandler(this.markersDirectory));
+                createMarkerHandler());
+    }
+
+    private File getDestDir(Artifact artifact) {
+        return DependencyUtil.getFormattedOutputDirectory(
+                useSubDirectoryPerScope,
+                useSubDirectoryPerType,
+                useSubDirectoryPerArtifact,
+                useRepositoryLayout,
+                stripVersion,
+                stripType,
+                outputDirectory,
+                artifact);
+    }
+
+    private File getStateDirectory() {
+        return incrementalUnpack ? this.markersDirectory : null;
+    }
+
+    private MarkerHandler createMarkerHandler() {
+        if (markerIndex != null) {
+            return new IndexedMarkerHandler(markerIndex);
+        }
+        return new DefaultFileMarkerHandler(this.markersDirectory);
     }
 
     /**
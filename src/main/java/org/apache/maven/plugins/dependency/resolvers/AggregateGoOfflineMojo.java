@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.resolvers;
+
+import javax.inject.Inject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.maven.RepositoryUtils;
+import org.apache.maven.artifact.ArtifactUtils;
+import org.apache.maven.artifact.handler.manager.ArtifactHandlerManager;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.dependency.utils.ResolverUtil;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectBuilder;
+import org.apache.maven.shared.artifact.filter.collection.ArtifactFilterException;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.collection.DependencyCollectionException;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.resolution.ArtifactResult;
+import org.sonatype.plexus.build.incremental.BuildContext;
+
+/**
+ * Goal that resolves everything the projects of the reactor depend on, like {@code go-offline} on each of them, but
+ * resolving each distinct plugin and dependency only once. The dependency graphs of the projects are collected one
+ * by one, then the union of their artifacts is resolved in batches.
+ *
+ * @since 3.11.1
+ */
+@Mojo(name = "aggregate-go-offline", aggregator = true, threadSafe = true)
+public class AggregateGoOfflineMojo extends GoOfflineMojo {
+
+    @Inject
+    public AggregateGoOfflineMojo(
+            MavenSession session,
+            BuildContext buildContext,
+            MavenProject project,
+            ResolverUtil resolverUtil,
+            ProjectBuilder projectBuilder,
+            ArtifactHandlerManager artifactHandlerManager) {
+        super(session, buildContext, project, resolverUtil, projectBuilder, artifactHandlerManager);
+    }
+
+    @Override
+    protected void doExecute() throws MojoExecutionException {
+        Map<String, Plugin> plugins = new LinkedHashMap<>();
+        // a plugin is resolved from the repositories of the first project declaring it, like the project itself would
+        Map<String, MavenProject> declaringProjects = new HashMap<>();
+        for (MavenProject project : session.getProjects()) {
+            int newPlugins = 0;
+            Set<Plugin> projectPlugins = getProjectPlugins(project);
+            for (Plugin plugin : projectPlugins) {
+                String key = getPluginKey(plugin);
+                if (plugins.putIfAbsent(key, plugin) == null) {
+                    declaringProjects.put(key, project);
+                    newPlugins++;
+                }
+            }
+            logMessage(project.getId() + ": " + projectPlugins.size() + " plugins, " + newPlugins
+                    + " not used by previous projects");
+        }
+
+        exportOfflineRepository(
+                resolveConcurrently(
+                        new ArrayList<>(plugins.values()),
+                        plugin -> declaringProjects.get(getPluginKey(plugin)),
+                        this::resolveReactorDependencyArtifacts,
+                        parallelGoOffline ? getThreads() : 1),
+                session.getProjects());
+    }
+
+    /**
+     * Plugins with the same coordinates but different dependencies are resolved separately.
+     */
+    private static String getPluginKey(Plugin plugin) {
+        return plugin.getId()
+                + plugin.getDependencies().stream()
+                        .map(Dependency::getManagementKey)
+                        .sorted()
+                        .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    /**
+     * Collects the dependency graph of every project of the reactor, then resolves the union of their artifacts,
+     * grouped by remote repositories.
+     *
+     * @return the resolved artifacts
+     * @throws MojoExecutionException listing the artifacts which could not be resolved
+     */
+    private List<Artifact> resolveReactorDependencyArtifacts()
+            throws ArtifactFilterException, DependencyCollectionException, MojoExecutionException {
+        Set<String> reactorKeys = session.getProjects().stream()
+                .map(project -> ArtifactUtils.key(project.getArtifact()))
+                .collect(Collectors.toSet());
+
+        Map<String, Artifact> artifacts = new LinkedHashMap<>();
+        Map<List<RemoteRepository>, List<Artifact>> artifactsByRepositories = new LinkedHashMap<>();
+        for (MavenProject project : session.getProjects()) {
+            List<Artifact> graph = getResolverUtil()
+                    .collectDependenciesForArtifact(
+                            RepositoryUtils.toArtifact(project.getArtifact()),
+                            getDirectDependencies(project),
+                            getManagedDependencies(project),
+                            project.getRemoteProjectRepositories());
+
+            int newArtifacts = 0;
+            for (Artifact artifact : graph) {
+                String key = ArtifactUtils.key(artifact.getGroupId(), artifact.getArtifactId(), artifact.getVersion());
+                if (excludeReactor && reactorKeys.contains(key)) {
+                    continue;
+                }
+                if (artifacts.putIfAbsent(artifact.toString(), artifact) == null) {
+                    artifactsByRepositories
+                            .computeIfAbsent(project.getRemoteProjectRepositories(), r -> new ArrayList<>())
+                            .add(artifact);
+                    newArtifacts++;
+                }
+            }
+            logMessage(project.getId() + ": " + graph.size() + " dependencies, " + newArtifacts
+                    + " not needed by previous projects");
+        }
+
+        List<Artifact> resolved = new ArrayList<>();
+        List<String> failures = new ArrayList<>();
+        for (Map.Entry<List<RemoteRepository>, List<Artifact>> group : artifactsByRepositories.entrySet()) {
+            for (ArtifactResult result : getResolverUtil().resolveArtifacts(group.getValue(), group.getKey())) {
+                if (result.isResolved()) {
+                    resolved.add(result.getArtifact());
+                } else {
+                    failures.add(result.getRequest().getArtifact() + ": "
+                            + result.getExceptions().stream()
+                                    .map(Exception::getMessage)
+                                    .collect(Collectors.joining("; ")));
+                }
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new MojoExecutionException("Failed to resolve " + failures.size() + " artifact(s):\n  "
+                    + String.join("\n  ", failures));
+        }
+        return resolved;
+    }
+}
@@ -20,17 +20,38 @@ package org.apache.maven.plugins.dependency.resolvers;
 
 import javax.inject.Inject;
 
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.apache.maven.RepositoryUtils;
 import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.ArtifactUtils;
 import org.apache.maven.artifact.DefaultArtifact;
 import org.apache.maven.artifact.handler.DefaultArtifactHandler;
 import org.apache.maven.artifact.handler.manager.ArtifactHandlerManager;
@@ -43,21 +64,26 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.dependency.fromDependencies.AbstractDependencyFilterMojo;
 import org.apache.maven.plugins.dependency.utils.DependencyUtil;
+import org.apache.maven.plugins.dependency.utils.ParentPomReader;
 import org.apache.maven.plugins.dependency.utils.ResolverUtil;
+import org.apache.maven.plugins.dependency.utils.filters.ArtifactPatternsFilter;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.ProjectBuilder;
 import org.apache.maven.shared.artifact.filter.collection.ArtifactFilterException;
-import org.apache.maven.shared.artifact.filter.collection.ArtifactIdFilter;
 import org.apache.maven.shared.artifact.filter.collection.ArtifactsFilter;
 import org.apache.maven.shared.artifact.filter.collection.ClassifierFilter;
 import org.apache.maven.shared.artifact.filter.collection.FilterArtifacts;
-import org.apache.maven.shared.artifact.filter.collection.GroupIdFilter;
 import org.apache.maven.shared.artifact.filter.collection.ScopeFilter;
 import org.apache.maven.shared.artifact.filter.collection.TypeFilter;
+import org.codehaus.plexus.util.FileUtils;
+import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.artifact.ArtifactTypeRegistry;
+import org.eclipse.aether.installation.InstallationException;
+import org.eclipse.aether.repository.RemoteRepository;
 import org.eclipse.aether.resolution.ArtifactDescriptorException;
 import org.eclipse.aether.resolution.ArtifactResolutionException;
 import org.eclipse.aether.resolution.DependencyResolutionException;
+import org.eclipse.aether.util.artifact.SubArtifact;
 import org.sonatype.plexus.build.incremental.BuildContext;
 
 import static java.util.Optional.ofNullable;
@@ -81,6 +107,44 @@ public class GoOfflineMojo extends AbstractDependencyFilterMojo {
     @Parameter(property = "excludeReactor", defaultValue = "true")
     protected boolean excludeReactor;
 
+    /**
+     * Resolve the plugins, their dependencies and the project dependencies concurrently. Every resolution is
+     * attempted, and the failures are reported together at the end.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.parallelGoOffline", defaultValue = "false")
+    protected boolean parallelGoOffline;
+
+    /**
+     * Maximum number of concurrent plugin resolutions when {@link #parallelGoOffline} is enabled. A value lower than
+     * 1 means the number of available processors.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.goOfflineThreads", defaultValue = "0")
+    protected int goOfflineThreads;
+
+    /**
+     * Directory where a repository holding only what was resolved is written: the plugins, their dependencies and
+     * the project dependencies, with their POMs, parent POMs and the BOMs these import. It has the layout of a local
+     * repository, so it can replace the whole local repository in an offline build environment.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.offlineRepository")
+    protected File offlineRepository;
+
+    /**
+     * Zip archive of the repository described in {@link #offlineRepository}, to be extracted as the local
+     * repository of an offline build environment. If {@link #offlineRepository} is not set, the repository is
+     * written in a temporary directory first, deleted once packed.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.offlineArchive")
+    protected File offlineArchive;
+
     @Inject
     public GoOfflineMojo(
             MavenSession session,
@@ -100,13 +164,23 @@ public class GoOfflineMojo extends AbstractDependencyFilterMojo {
      */
     @Override
     protected void doExecute() throws MojoExecutionException {
+        if (parallelGoOffline) {
+            List<Plugin> plugins = new ArrayList<>(getProjectPlugins(getProject()));
+            exportOfflineRepository(
+                    resolveConcurrently(
+                            plugins, plugin -> getProject(), this::resolveDependencyArtifacts, getThreads()),
+                    Collections.singletonList(getProject()));
+            return;
+        }
 
+        Set<org.eclipse.aether.artifact.Artifact> resolved = new LinkedHashSet<>();
         try {
-            final Set<Plugin> plugins = getProjectPlugins();
+            final Set<Plugin> plugins = getProjectPlugins(getProject());
 
             for (Plugin plugin : plugins) {
                 org.eclipse.aether.artifact.Artifact artifact =
                         getResolverUtil().resolvePlugin(plugin);
+                resolved.add(artifact);
 
                 logMessage("Resolved plugin: "
                         + DependencyUtil.getFormattedFileName(RepositoryUtils.toArtifact(artifact), false));
@@ -118,6 +192,7 @@ public class GoOfflineMojo extends AbstractDependencyFilterMojo {
                         logMessage(
                                 "      " + DependencyUtil.getFormattedFileName(RepositoryUtils.toArtifact(a), false));
                     }
+                    resolved.addAll(artifacts);
                 }
             }
 
@@ -127,6 +202,7 @@ public class GoOfflineMojo extends AbstractDependencyFilterMojo {
                 logMessage("Resolved dependency: "
                         + DependencyUtil.getFormattedFileName(RepositoryUtils.toArtifact(artifact), false));
             }
+            resolved.addAll(dependencies);
 
         } catch (ArtifactFilterException
                 | ArtifactResolutionException
@@ -134,6 +210,297 @@ public class GoOfflineMojo extends AbstractDependencyFilterMojo {
                 | ArtifactDescriptorException e) {
             throw new MojoExecutionException(e.getMessage(), e);
         }
+
+        exportOfflineRepository(resolved, Collections.singletonList(getProject()));
+    }
+
+    /**
+     * @return the number of threads resolving plugins in parallel mode
+     */
+    protected int getThreads() {
+        return goOfflineThreads > 0 ? goOfflineThreads : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Resolves the plugins and their dependencies on worker threads, while the dependencies are resolved by the
+     * calling thread, then logs the results in a stable order followed by a summary.
+     *
+     * @param plugins the plugins to resolve
+     * @param declaringProject provides the project declaring each plugin, whose repositories resolve it
+     * @param dependencyResolution resolves the dependencies
+     * @param threads the number of threads resolving plugins
+     * @return the resolved plugins, plugin dependencies and dependencies
+     * @throws MojoExecutionException listing every failed resolution
+     */
+    protected Set<org.eclipse.aether.artifact.Artifact> resolveConcurrently(
+            List<Plugin> plugins,
+            Function<Plugin, MavenProject> declaringProject,
+            Callable<List<org.eclipse.aether.artifact.Artifact>> dependencyResolution,
+            int threads)
+            throws MojoExecutionException {
+        plugins.sort(Comparator.comparing(Plugin::getId));
+        Predicate<Dependency> dependencyFilter = getDependencyFilter();
+
+        getLog().debug("Resolving " + plugins.size() + " plugins using " + threads + " threads");
+
+        Map<String, Throwable> failures = new LinkedHashMap<>();
+        Set<org.eclipse.aether.artifact.Artifact> pluginArtifacts = new LinkedHashSet<>();
+        Set<org.eclipse.aether.artifact.Artifact> pluginDependencies = new LinkedHashSet<>();
+        List<org.eclipse.aether.artifact.Artifact> dependencies = Collections.emptyList();
+        int resolvedPlugins = 0;
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, Math.max(1, plugins.size())));
+        try {
+            Map<Plugin, Future<org.eclipse.aether.artifact.Artifact>> pluginFutures = new LinkedHashMap<>();
+            Map<Plugin, Future<List<org.eclipse.aether.artifact.Artifact>>> dependencyFutures = new LinkedHashMap<>();
+            for (Plugin plugin : plugins) {
+                MavenProject project = declaringProject.apply(plugin);
+                List<RemoteRepository> pluginRepositories = project.getRemotePluginRepositories();
+                List<RemoteRepository> repositories = project.getRemoteProjectRepositories();
+                pluginFutures.put(
+                        plugin,
+                        executor.submit(() -> getResolverUtil().resolvePlugin(plugin, pluginRepositories, session)));
+                if (!excludeTransitive) {
+                    dependencyFutures.put(
+                            plugin,
+                            executor.submit(() -> getResolverUtil()
+                                    .resolveDependencies(plugin, dependencyFilter, repositories, session)));
+                }
+            }
+
+            // meanwhile, this thread resolves the dependencies
+            try {
+                dependencies = dependencyResolution.call();
+            } catch (Exception e) {
+                failures.put("dependencies", e);
+            }
+
+            for (Plugin plugin : plugins) {
+                try {
+                    org.eclipse.aether.artifact.Artifact artifact = pluginFutures.get(plugin).get();
+                    pluginArtifacts.add(artifact);
+                    resolvedPlugins++;
+                    logMessage("Resolved plugin: "
+                            + DependencyUtil.getFormattedFileName(RepositoryUtils.toArtifact(artifact), false));
+                } catch (ExecutionException e) {
+                    failures.put("plugin " + plugin.getId(), e.getCause());
+                }
+
+                Future<List<org.eclipse.aether.artifact.Artifact>> future = dependencyFutures.get(plugin);
+                if (future != null) {
+                    try {
+                        List<org.eclipse.aether.artifact.Artifact> artifacts = future.get();
+                        logMessage("Resolved plugin dependency:");
+                        for (org.eclipse.aether.artifact.Artifact a : artifacts) {
+                            logMessage("      "
+                                    + DependencyUtil.getFormattedFileName(RepositoryUtils.toArtifact(a), false));
+                        }
+                        pluginDependencies.addAll(artifacts);
+                    } catch (ExecutionException e) {
+                        failures.put("dependencies of plugin " + plugin.getId(), e.getCause());
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("Interrupted while resolving plugins", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (org.eclipse.aether.artifact.Artifact artifact : dependencies) {
+            logMessage("Resolved dependency: "
+                    + DependencyUtil.getFormattedFileName(RepositoryUtils.toArtifact(artifact), false));
+        }
+
+        logMessage("Resolved " + resolvedPlugins + " of " + plugins.size() + " plugins, "
+                + pluginDependencies.size() + " distinct plugin dependencies and " + dependencies.size()
+                + " dependencies" + (failures.isEmpty() ? "" : "; " + failures.size() + " resolution(s) failed"));
+
+        if (!failures.isEmpty()) {
+            List<String> messages = new ArrayList<>();
+            for (Map.Entry<String, Throwable> failure : failures.entrySet()) {
+                messages.add(failure.getKey() + ": " + failure.getValue().getMessage());
+            }
+            MojoExecutionException exception = new MojoExecutionException(
+                    "Failed to resolve " + failures.size() + " item(s):\n  " + String.join("\n  ", messages));
+            failures.values().forEach(exception::addSuppressed);
+            throw exception;
+        }
+
+        Set<org.eclipse.aether.artifact.Artifact> resolved = new LinkedHashSet<>(pluginArtifacts);
+        resolved.addAll(pluginDependencies);
+        resolved.addAll(dependencies);
+        return resolved;
+    }
+
+    /**
+     * Installs the resolved artifacts, with their POMs, parent POMs and the BOMs these import, in
+     * {@link #offlineRepository}, then packs it in {@link #offlineArchive}. The parents of the projects and the BOMs
+     * they import, nested imports included, are installed too, since an offline build reads them before any
+     * dependency. A BOM which cannot be determined is reported as a warning. Does nothing if neither is set.
+     *
+     * @param artifacts the resolved artifacts
+     * @param projects the projects the artifacts were resolved for
+     * @throws MojoExecutionException if the repository or the archive cannot be written
+     */
+    protected void exportOfflineRepository(
+            Collection<org.eclipse.aether.artifact.Artifact> artifacts, Collection<MavenProject> projects)
+            throws MojoExecutionException {
+        if (offlineRepository == null && offlineArchive == null) {
+            return;
+        }
+        File directory = offlineRepository;
+        if (directory == null) {
+            try {
+                directory = Files.createTempDirectory("offline-repository").toFile();
+            } catch (IOException e) {
+                throw new MojoExecutionException("Failed to create a temporary offline repository", e);
+            }
+        }
+        try {
+            installOfflineRepository(artifacts, projects, directory);
+            if (offlineArchive != null) {
+                try {
+                    packRepository(directory, offlineArchive);
+                } catch (IOException e) {
+                    throw new MojoExecutionException("Failed to write " + offlineArchive, e);
+                }
+                logMessage("Packed offline repository in " + offlineArchive);
+            }
+        } finally {
+            if (offlineRepository == null) {
+                try {
+                    FileUtils.deleteDirectory(directory);
+                } catch (IOException e) {
+                    getLog().warn("Failed to delete the temporary offline repository " + directory, e);
+                }
+            }
+        }
+    }
+
+    private void installOfflineRepository(
+            Collection<org.eclipse.aether.artifact.Artifact> artifacts,
+            Collection<MavenProject> projects,
+            File directory)
+            throws MojoExecutionException {
+        List<RemoteRepository> repositories = getOfflineRemoteRepositories();
+        Set<org.eclipse.aether.artifact.Artifact> installed = new LinkedHashSet<>();
+        Set<String> poms = new HashSet<>();
+        for (org.eclipse.aether.artifact.Artifact artifact : artifacts) {
+            if (artifact.getFile() == null) {
+                continue;
+            }
+            addWithBaseVersion(artifact, installed);
+            org.eclipse.aether.artifact.Artifact pom;
+            if ("pom".equals(artifact.getExtension()) && artifact.getClassifier().isEmpty()) {
+                pom = artifact;
+                poms.add(artifact.toString());
+                addParentPoms(artifact, repositories, installed, poms);
+            } else {
+                pom = new SubArtifact(artifact, "", "pom");
+                addPom(pom, repositories, installed, poms);
+            }
+            // the offline build reads these BOMs to build the model of the artifact
+            for (org.eclipse.aether.artifact.Artifact bom :
+                    getResolverUtil().getImportedPoms(pom, repositories, session.getProjectBuildingRequest())) {
+                addPom(bom, repositories, installed, poms);
+            }
+        }
+
+        // the projects of the reactor are built, not read from the repository
+        Set<String> reactorKeys = session.getProjects().stream()
+                .map(project -> ArtifactUtils.key(project.getGroupId(), project.getArtifactId(), project.getVersion()))
+                .collect(Collectors.toSet());
+        for (MavenProject project : projects) {
+            List<RemoteRepository> projectRepositories = project.getRemoteProjectRepositories();
+            for (org.eclipse.aether.artifact.Artifact pom : getResolverUtil().getProjectPoms(project)) {
+                String key = ArtifactUtils.key(pom.getGroupId(), pom.getArtifactId(), pom.getVersion());
+                if (!reactorKeys.contains(key)) {
+                    addPom(pom, projectRepositories, installed, poms);
+                }
+            }
+        }
+
+        RepositorySystemSession repositorySession = getResolverUtil().localRepositorySession(directory);
+        try {
+            getResolverUtil().installArtifacts(installed, repositorySession);
+        } catch (InstallationException e) {
+            throw new MojoExecutionException("Failed to install artifacts in " + directory, e);
+        }
+        logMessage("Installed " + installed.size() + " files in offline repository " + directory);
+    }
+
+    /**
+     * Adds a POM and its parents, unless it was added already. A POM which cannot be resolved or read is reported,
+     * but does not fail the export: the offline build may not need it.
+     */
+    private void addPom(
+            org.eclipse.aether.artifact.Artifact pom,
+            List<RemoteRepository> repositories,
+            Set<org.eclipse.aether.artifact.Artifact> installed,
+            Set<String> poms) {
+        if (!poms.add(pom.toString())) {
+            return;
+        }
+        try {
+            org.eclipse.aether.artifact.Artifact resolved =
+                    getResolverUtil().resolveConcreteArtifact(pom, repositories, session.getRepositorySession());
+            addWithBaseVersion(resolved, installed);
+            addParentPoms(resolved, repositories, installed, poms);
+        } catch (ArtifactResolutionException | ArtifactDescriptorException e) {
+            getLog().warn("Cannot add " + pom + " to the offline repository: " + e.getMessage());
+        }
+    }
+
+    private void addParentPoms(
+            org.eclipse.aether.artifact.Artifact pom,
+            List<RemoteRepository> repositories,
+            Set<org.eclipse.aether.artifact.Artifact> installed,
+            Set<String> poms) {
+        try {
+            Optional<org.eclipse.aether.artifact.Artifact> parent =
+                    ParentPomReader.of(session.getRepositorySession()).getParent(pom);
+            if (parent.isPresent()) {
+                addPom(parent.get(), repositories, installed, poms);
+            }
+        } catch (IOException e) {
+            getLog().warn("Cannot add the parent of " + pom + " to the offline repository: " + e.getMessage());
+        }
+    }
+
+    /**
+     * A timestamped snapshot is also added under its base version, which is the version builds refer to.
+     */
+    private static void addWithBaseVersion(
+            org.eclipse.aether.artifact.Artifact artifact, Set<org.eclipse.aether.artifact.Artifact> installed) {
+        installed.add(artifact);
+        if (artifact.isSnapshot() && !artifact.getBaseVersion().equals(artifact.getVersion())) {
+            installed.add(artifact.setVersion(artifact.getBaseVersion()));
+        }
+    }
+
+    private List<RemoteRepository> getOfflineRemoteRepositories() {
+        Set<RemoteRepository> repositories = new LinkedHashSet<>(getProject().getRemoteProjectRepositories());
+        repositories.addAll(getProject().getRemotePluginRepositories());
+        return new ArrayList<>(repositories);
+    }
+
+    private static void packRepository(File directory, File archive) throws IOException {
+        Path root = directory.toPath();
+        Path archivePath = archive.toPath().toAbsolutePath();
+        if (archivePath.getParent() != null) {
+            Files.createDirectories(archivePath.getParent());
+        }
+        try (ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(archivePath)));
+                Stream<Path> files = Files.walk(root)) {
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)
+                            .filter(file -> !file.toAbsolutePath().equals(archivePath))
+                            .sorted()::iterator) {
+                zip.putNextEntry(new ZipEntry(root.relativize(file).toString().replace(File.separatorChar, '/')));
+                Files.copy(file, zip);
+                zip.closeEntry();
+            }
+        }
     }
 
     private Predicate<Dependency> getDependencyFilter() {
@@ -144,7 +511,7 @@ public class GoOfflineMojo extends AbstractDependencyFilterMojo {
         }
     }
 
-    private void logMessage(String message) {
+    protected void logMessage(String message) {
         if (isSilent()) {
             getLog().debug(message);
         } else {
@@ -161,7 +528,22 @@ public class GoOfflineMojo extends AbstractDependencyFilterMojo {
      */
     protected List<org.eclipse.aether.artifact.Artifact> resolveDependencyArtifacts()
             throws ArtifactFilterException, DependencyResolutionException {
-        Collection<Dependency> dependencies = getProject().getDependencies();
+        return getResolverUtil()
+                .resolveDependenciesForArtifact(
+                        RepositoryUtils.toArtifact(getProject().getArtifact()),
+                        getDirectDependencies(getProject()),
+                        getManagedDependencies(getProject()),
+                        getProject().getRemoteProjectRepositories());
+    }
+
+    /**
+     * @param project a project
+     * @return the filtered direct dependencies of the project
+     * @throws ArtifactFilterException in case of an error while filtering the artifacts
+     */
+    protected List<org.eclipse.aether.graph.Dependency> getDirectDependencies(MavenProject project)
+            throws ArtifactFilterException {
+        Collection<Dependency> dependencies = project.getDependencies();
 
         dependencies = filterDependencies(dependencies);
 
@@ -173,33 +555,35 @@ public class GoOfflineMojo extends AbstractDependencyFilterMojo {
         ArtifactTypeRegistry artifactTypeRegistry =
                 session.getRepositorySession().getArtifactTypeRegistry();
 
-        List<org.eclipse.aether.graph.Dependency> dependableCoordinates = dependencies.stream()
+        return dependencies.stream()
                 .filter(excludeReactorProjectsDependencyFilter)
                 .map(d -> RepositoryUtils.toDependency(d, artifactTypeRegistry))
                 .collect(Collectors.toList());
+    }
 
-        List<org.eclipse.aether.graph.Dependency> managedDependencies = ofNullable(
-                        getProject().getDependencyManagement())
+    /**
+     * @param project a project
+     * @return the managed dependencies of the project, or {@code null} if it has none
+     */
+    protected List<org.eclipse.aether.graph.Dependency> getManagedDependencies(MavenProject project) {
+        ArtifactTypeRegistry artifactTypeRegistry =
+                session.getRepositorySession().getArtifactTypeRegistry();
+
+        return ofNullable(project.getDependencyManagement())
                 .map(DependencyManagement::getDependencies)
                 .map(list -> list.stream()
                         .map(d -> RepositoryUtils.toDependency(d, artifactTypeRegistry))
                         .collect(Collectors.toList()))
                 .orElse(null);
-
-        return getResolverUtil()
-                .resolveDependenciesForArtifact(
-                        RepositoryUtils.toArtifact(getProject().getArtifact()),
-                        dependableCoordinates,
-                        managedDependencies,
-                        getProject().getRemoteProjectRepositories());
     }
 
     /**
      * This method retrieve plugins list from the project.
      *
+     * @param project a project
      * @return set of plugin used in project
      */
-    private Set<Plugin> getProjectPlugins() {
+    protected Set<Plugin> getProjectPlugins(MavenProject project) {
         Predicate<Plugin> pluginsFilter = new PluginsIncludeExcludeFilter(
                 toList(includeGroupIds),
                 toList(excludeGroupIds),
@@ -211,7 +595,7 @@ public class GoOfflineMojo extends AbstractDependencyFilterMojo {
             reactorExclusionFilter = new PluginsReactorExcludeFilter(session.getProjects());
         }
 
-        return getResolverUtil().getProjectPlugins(getProject()).stream()
+        return getResolverUtil().getProjectPlugins(project).stream()
                 .filter(reactorExclusionFilter)
                 .filter(pluginsFilter)
                 .collect(Collectors.toSet());
@@ -290,11 +674,11 @@ public class GoOfflineMojo extends AbstractDependencyFilterMojo {
                 DependencyUtil.cleanToBeTokenizedString(this.includeClassifiers),
                 DependencyUtil.cleanToBeTokenizedString(this.excludeClassifiers)));
 
-        filter.addFilter(new GroupIdFilter(
+        filter.addFilter(ArtifactPatternsFilter.groupIds(
                 DependencyUtil.cleanToBeTokenizedString(this.includeGroupIds),
                 DependencyUtil.cleanToBeTokenizedString(this.excludeGroupIds)));
 
-        filter.addFilter(new ArtifactIdFilter(
+        filter.addFilter(ArtifactPatternsFilter.artifactIds(
                 DependencyUtil.cleanToBeTokenizedString(this.includeArtifactIds),
                 DependencyUtil.cleanToBeTokenizedString(this.excludeArtifactIds)));
 
@@ -19,9 +19,22 @@
 package org.apache.maven.plugins.dependency.tree;
 
 import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.traversal.DependencyNodeVisitor;
 
 /**
  * Abstract class for visitors performing serialization.
+ * <p>
+ * Graphs should be serialized with {@link #traverse(DependencyNode, DependencyNodeVisitor)} rather than
+ * {@link DependencyNode#accept(DependencyNodeVisitor)}, which recurses and does not stop on cycles.
+ * </p>
  *
  * @author <a href="mailto:jerome.creignou@gmail.com">Jerome Creignou</a>
  */
@@ -43,4 +56,67 @@ public abstract class AbstractSerializingVisitor {
     public AbstractSerializingVisitor(Writer writer) {
         this.writer = writer;
     }
+
+    /**
+     * Visits a dependency graph depth first, like {@link DependencyNode#accept(DependencyNodeVisitor)}: the children
+     * of a node are visited if its visit returns <code>true</code>, and its remaining siblings are skipped if its end
+     * visit returns <code>false</code>. The path to the current node is kept on an explicit stack rather than the call
+     * stack, so that deep graphs cannot overflow it, and each node instance is visited once: a node reached again,
+     * through a cycle or from another parent, is skipped.
+     *
+     * @param root the root node of the graph
+     * @param visitor the visitor to apply
+     * @return the result of the end visit of the root node
+     */
+    public static boolean traverse(DependencyNode root, DependencyNodeVisitor visitor) {
+        Set<DependencyNode> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Frame> path = new ArrayDeque<>();
+        visited.add(root);
+        path.push(new Frame(root, visitor.visit(root)));
+
+        boolean result = true;
+        while (!path.isEmpty()) {
+            Frame frame = path.peek();
+            DependencyNode child = frame.nextChild();
+            if (child != null) {
+                if (visited.add(child)) {
+                    path.push(new Frame(child, visitor.visit(child)));
+                }
+                continue;
+            }
+            path.pop();
+            result = visitor.endVisit(frame.node);
+            if (!result && !path.isEmpty()) {
+                path.peek().skipChildren();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * A node on the path to the current one, with its children left to visit.
+     */
+    private static final class Frame {
+
+        private final DependencyNode node;
+
+        private final List<DependencyNode> children;
+
+        private int next;
+
+        Frame(DependencyNode node, boolean visitChildren) {
+            this.node = node;
+            this.children = visitChildren && node.getChildren() != null
+                    ? node.getChildren()
+                    : Collections.<DependencyNode>emptyList();
+        }
+
+        DependencyNode nextChild() {
+            return next < children.size() ? children.get(next++) : null;
+        }
+
+        void skipChildren() {
+            next = children.size();
+        }
+    }
 }
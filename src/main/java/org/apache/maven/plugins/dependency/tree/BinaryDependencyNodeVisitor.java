@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.tree;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.traversal.DependencyNodeVisitor;
+
+import static org.apache.maven.plugins.dependency.tree.DependencyGraphSnapshot.END_TAG;
+import static org.apache.maven.plugins.dependency.tree.DependencyGraphSnapshot.FORMAT_VERSION;
+import static org.apache.maven.plugins.dependency.tree.DependencyGraphSnapshot.MAGIC;
+import static org.apache.maven.plugins.dependency.tree.DependencyGraphSnapshot.OPTIONAL;
+import static org.apache.maven.plugins.dependency.tree.DependencyGraphSnapshot.ROOT_TAG;
+import static org.apache.maven.plugins.dependency.tree.DependencyGraphSnapshot.SCOPES;
+import static org.apache.maven.plugins.dependency.tree.DependencyGraphSnapshot.SCOPE_OTHER;
+
+/**
+ * A dependency node visitor that serializes visited nodes to an output stream using a compact binary format, read
+ * back by {@link DependencyGraphSnapshot}. Each node is written when visited; only the indices of the nodes from the
+ * root to the current one, and the strings written so far, are kept in memory.
+ *
+ * @since 3.11.1
+ */
+public class BinaryDependencyNodeVisitor implements DependencyNodeVisitor {
+
+    private final OutputStream out;
+
+    private final Map<String, Integer> strings = new HashMap<>();
+
+    private final Deque<Integer> path = new ArrayDeque<>();
+
+    private int nodeCount;
+
+    /**
+     * Creates a new instance of {@link BinaryDependencyNodeVisitor}. The stream will be used to write the output,
+     * and flushed once the root node is written.
+     *
+     * @param out the stream to write to, buffered by the caller
+     */
+    public BinaryDependencyNodeVisitor(OutputStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public boolean visit(DependencyNode node) {
+        try {
+            if (path.isEmpty()) {
+                startGraph();
+                writeNumber(ROOT_TAG);
+            } else {
+                writeNumber(path.peek() + 2);
+            }
+            path.push(nodeCount++);
+
+            Artifact artifact = node.getArtifact();
+            writeString(artifact.getGroupId());
+            writeString(artifact.getArtifactId());
+            writeString(artifact.getVersion());
+            writeString(artifact.getType());
+            writeString(artifact.getClassifier());
+            int scope = SCOPES.indexOf(artifact.getScope());
+            int flags = scope >= 0 ? scope : SCOPE_OTHER;
+            if (artifact.isOptional()) {
+                flags |= OPTIONAL;
+            }
+            out.write(flags);
+            if (scope < 0) {
+                writeString(artifact.getScope());
+            }
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write binary format output", e);
+        }
+    }
+
+    @Override
+    public boolean endVisit(DependencyNode node) {
+        try {
+            path.pop();
+            if (path.isEmpty()) {
+                writeNumber(END_TAG);
+                out.flush();
+            }
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write binary format output", e);
+        }
+    }
+
+    private void startGraph() throws IOException {
+        out.write(MAGIC);
+        out.write(FORMAT_VERSION);
+        nodeCount = 0;
+        strings.clear();
+        for (int i = 1; i < SCOPES.size(); i++) {
+            strings.put(SCOPES.get(i), i);
+        }
+    }
+
+    private void writeString(String string) throws IOException {
+        if (string == null) {
+            writeNumber(0);
+            return;
+        }
+        Integer index = strings.get(string);
+        if (index != null) {
+            writeNumber(index);
+        } else {
+            // indices start after null and the scopes
+            index = strings.size() + 1;
+            strings.put(string, index);
+            writeNumber(index);
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeNumber(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private void writeNumber(int number) throws IOException {
+        while ((number & ~0x7F) != 0) {
+            out.write((number & 0x7F) | 0x80);
+            number >>>= 7;
+        }
+        out.write(number);
+    }
+}
@@ -113,7 +113,7 @@ public class BuildingDependencyNodeVisitor implements DependencyNodeVisitor {
 
         // apply the visitor to the resultant tree on the last visit
         if (parentNodes.empty() && visitor != null) {
-            rootNode.accept(visitor);
+            AbstractSerializingVisitor.traverse(rootNode, visitor);
         }
 
         return true;
@@ -190,15 +190,7 @@ public class BuildingDependencyNodeVisitor implements DependencyNodeVisitor {
 
         @Override
         public boolean accept(DependencyNodeVisitor visitor) {
-            if (visitor.visit(this)) {
-                for (DependencyNode child : getChildren()) {
-                    if (!child.accept(visitor)) {
-                        break;
-                    }
-                }
-            }
-
-            return visitor.endVisit(this);
+            return AbstractSerializingVisitor.traverse(this, visitor);
         }
 
         @Override
@@ -52,7 +52,6 @@ public class DOTDependencyNodeVisitor extends AbstractSerializingVisitor impleme
         try {
             if (node.getParent() == null || node.getParent() == node) {
                 writer.write("digraph \"" + node.toNodeString() + "\" { " + System.lineSeparator());
-                writer.flush();
             }
 
             // Generate "currentNode -> Child" lines
@@ -63,7 +62,6 @@ public class DOTDependencyNodeVisitor extends AbstractSerializingVisitor impleme
                 writer.write("\t\"" + node.toNodeString() + "\" -> \"" + child.toNodeString() + "\" ; "
                         + System.lineSeparator());
             }
-            writer.flush();
         } catch (IOException e) {
             throw new UncheckedIOException("Failed to write DOT format output", e);
         }
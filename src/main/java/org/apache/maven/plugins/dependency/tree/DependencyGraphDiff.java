@@ -0,0 +1,351 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.tree;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.maven.artifact.versioning.ComparableVersion;
+
+/**
+ * The changes of the dependencies of a module between two {@link DependencyGraphSnapshot snapshots} of its graph.
+ * Nodes are matched by their {@link DependencyGraphSnapshot#getKey(int) versionless key}: the strings of both graphs
+ * are numbered once, and the nodes hashed by the numbers of their group id, artifact id, type and classifier, so
+ * comparing two graphs takes a time linear in their sizes. Each key occurs once in a graph written by the tree goal,
+ * which does not write verbose trees in the binary format: their nodes omitted for a conflict would be compared in
+ * place of the resolved ones. When a key occurs several times anyway, its first occurrence is the one compared.
+ *
+ * @since 3.11.1
+ */
+public class DependencyGraphDiff {
+
+    /**
+     * The kind of change of a dependency.
+     */
+    public enum Kind {
+        ADDED,
+        REMOVED,
+        UPGRADED,
+        DOWNGRADED,
+        /**
+         * The version is spelled differently but equivalent, like {@code 1.0} and {@code 1.0.0}.
+         */
+        VERSION_CHANGED,
+        SCOPE_CHANGED;
+
+        /**
+         * @return the name of the kind in the output, e.g. {@code scope changed}
+         */
+        public String getLabel() {
+            return name().toLowerCase(Locale.ROOT).replace('_', ' ');
+        }
+    }
+
+    private final String module;
+
+    private final List<Change> changes;
+
+    private DependencyGraphDiff(String module, List<Change> changes) {
+        this.module = module;
+        this.changes = changes;
+    }
+
+    /**
+     * Compares two graphs of a module. A missing graph stands for a module without any dependency, so that all the
+     * dependencies of the other graph are either added or removed. The roots are not compared.
+     *
+     * @param baseline the graph before, or {@code null}
+     * @param current the graph after, or {@code null}
+     * @return the changes from the baseline graph to the current one
+     */
+    public static DependencyGraphDiff compare(DependencyGraphSnapshot baseline, DependencyGraphSnapshot current) {
+        StringIds ids = new StringIds();
+        int[] baselineIds = ids.of(baseline);
+        int[] currentIds = ids.of(current);
+        Map<Identity, Integer> baselineNodes = index(baseline, baselineIds);
+        Map<Identity, Integer> currentNodes = index(current, currentIds);
+        ComparableVersion[] parsedVersions = new ComparableVersion[ids.size()];
+        List<Change> changes = new ArrayList<>();
+
+        for (Map.Entry<Identity, Integer> entry : currentNodes.entrySet()) {
+            int node = entry.getValue();
+            Integer baselineNode = baselineNodes.get(entry.getKey());
+            if (baselineNode == null) {
+                changes.add(new Change(
+                        Kind.ADDED,
+                        current.getKey(node),
+                        null,
+                        null,
+                        current.getVersion(node),
+                        current.getScope(node)));
+                continue;
+            }
+            int oldVersion = baselineIds[baseline.getVersionIndex(baselineNode)];
+            int newVersion = currentIds[current.getVersionIndex(node)];
+            Kind kind = null;
+            if (oldVersion != newVersion) {
+                int comparison = parse(baseline.getVersion(baselineNode), oldVersion, parsedVersions)
+                        .compareTo(parse(current.getVersion(node), newVersion, parsedVersions));
+                kind = comparison > 0 ? Kind.DOWNGRADED : comparison < 0 ? Kind.UPGRADED : Kind.VERSION_CHANGED;
+            } else if (baselineIds[baseline.getScopeIndex(baselineNode)]
+                    != currentIds[current.getScopeIndex(node)]) {
+                kind = Kind.SCOPE_CHANGED;
+            }
+            if (kind != null) {
+                changes.add(new Change(
+                        kind,
+                        current.getKey(node),
+                        baseline.getVersion(baselineNode),
+                        baseline.getScope(baselineNode),
+                        current.getVersion(node),
+                        current.getScope(node)));
+            }
+        }
+        for (Map.Entry<Identity, Integer> entry : baselineNodes.entrySet()) {
+            if (!currentNodes.containsKey(entry.getKey())) {
+                int node = entry.getValue();
+                changes.add(new Change(
+                        Kind.REMOVED,
+                        baseline.getKey(node),
+                        baseline.getVersion(node),
+                        baseline.getScope(node),
+                        null,
+                        null));
+            }
+        }
+
+        DependencyGraphSnapshot graph = current != null ? current : baseline;
+        return new DependencyGraphDiff(graph.getKey(0), changes);
+    }
+
+    /**
+     * @return the first node of each identity but the root, in the order of the graph
+     */
+    private static Map<Identity, Integer> index(DependencyGraphSnapshot graph, int[] ids) {
+        if (graph == null) {
+            return Collections.emptyMap();
+        }
+        Map<Identity, Integer> nodes = new LinkedHashMap<>(graph.getNodeCount() * 4 / 3 + 1);
+        for (int node = 1; node < graph.getNodeCount(); node++) {
+            nodes.putIfAbsent(new Identity(graph, ids, node), node);
+        }
+        return nodes;
+    }
+
+    private static ComparableVersion parse(String version, int id, ComparableVersion[] parsedVersions) {
+        if (parsedVersions[id] == null) {
+            parsedVersions[id] = new ComparableVersion(Objects.toString(version, ""));
+        }
+        return parsedVersions[id];
+    }
+
+    /**
+     * @return the versionless key of the root of the graphs
+     */
+    public String getModule() {
+        return module;
+    }
+
+    /**
+     * @return the changes, the added and changed dependencies in the order of the current graph first, then the
+     *         removed ones in the order of the baseline graph
+     */
+    public List<Change> getChanges() {
+        return Collections.unmodifiableList(changes);
+    }
+
+    /**
+     * @param kind a kind of change
+     * @return the number of changes of that kind
+     */
+    public int count(Kind kind) {
+        return (int) changes.stream().filter(change -> change.getKind() == kind).count();
+    }
+
+    /**
+     * Numbers the strings of the compared graphs, so that equal strings of both graphs get the same id. An empty
+     * string gets the id of {@code null}.
+     */
+    private static final class StringIds {
+
+        private final Map<String, Integer> ids = new HashMap<>();
+
+        int[] of(DependencyGraphSnapshot graph) {
+            if (graph == null) {
+                return new int[0];
+            }
+            int[] graphIds = new int[graph.getStringCount()];
+            for (int index = 0; index < graphIds.length; index++) {
+                String string = graph.getString(index);
+                if (string != null && string.isEmpty()) {
+                    // like a missing classifier
+                    string = null;
+                }
+                Integer id = ids.get(string);
+                if (id == null) {
+                    id = ids.size();
+                    ids.put(string, id);
+                }
+                graphIds[index] = id;
+            }
+            return graphIds;
+        }
+
+        int size() {
+            return ids.size();
+        }
+    }
+
+    /**
+     * The versionless identity of a node, as the ids of its group id, artifact id, type and classifier.
+     */
+    private static final class Identity {
+
+        private final int groupId;
+
+        private final int artifactId;
+
+        private final int type;
+
+        private final int classifier;
+
+        private final int hash;
+
+        Identity(DependencyGraphSnapshot graph, int[] ids, int node) {
+            groupId = ids[graph.getGroupIdIndex(node)];
+            artifactId = ids[graph.getArtifactIdIndex(node)];
+            type = ids[graph.getTypeIndex(node)];
+            classifier = ids[graph.getClassifierIndex(node)];
+            hash = ((groupId * 31 + artifactId) * 31 + type) * 31 + classifier;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Identity)) {
+                return false;
+            }
+            Identity identity = (Identity) other;
+            return artifactId == identity.artifactId
+                    && groupId == identity.groupId
+                    && type == identity.type
+                    && classifier == identity.classifier;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * The change of one dependency.
+     */
+    public static final class Change {
+
+        private final Kind kind;
+
+        private final String key;
+
+        private final String oldVersion;
+
+        private final String oldScope;
+
+        private final String newVersion;
+
+        private final String newScope;
+
+        Change(Kind kind, String key, String oldVersion, String oldScope, String newVersion, String newScope) {
+            this.kind = kind;
+            this.key = key;
+            this.oldVersion = oldVersion;
+            this.oldScope = oldScope;
+            this.newVersion = newVersion;
+            this.newScope = newScope;
+        }
+
+        /**
+         * @return the kind of change; a dependency whose version changed is upgraded, downgraded or of a changed
+         *         version, whether its scope changed too or not
+         */
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * @return the versionless key of the dependency, {@code groupId:artifactId:type[:classifier]}
+         */
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * @return the version in the baseline graph, or {@code null} if added
+         */
+        public String getOldVersion() {
+            return oldVersion;
+        }
+
+        /**
+         * @return the scope in the baseline graph, or {@code null} if added
+         */
+        public String getOldScope() {
+            return oldScope;
+        }
+
+        /**
+         * @return the version in the current graph, or {@code null} if removed
+         */
+        public String getNewVersion() {
+            return newVersion;
+        }
+
+        /**
+         * @return the scope in the current graph, or {@code null} if removed
+         */
+        public String getNewScope() {
+            return newScope;
+        }
+
+        /**
+         * @return a line describing the change, e.g. {@code upgraded org.example:lib:jar 1.0 -> 1.1}
+         */
+        @Override
+        public String toString() {
+            switch (kind) {
+                case ADDED:
+                    return "added " + key + ":" + newVersion + ":" + newScope;
+                case REMOVED:
+                    return "removed " + key + ":" + oldVersion + ":" + oldScope;
+                case SCOPE_CHANGED:
+                    return "scope changed " + key + ":" + newVersion + " " + oldScope + " -> " + newScope;
+                default:
+                    String line = kind.getLabel() + " " + key + " " + oldVersion + " -> " + newVersion;
+                    return Objects.equals(oldScope, newScope)
+                            ? line
+                            : line + " (" + oldScope + " -> " + newScope + ")";
+            }
+        }
+    }
+}
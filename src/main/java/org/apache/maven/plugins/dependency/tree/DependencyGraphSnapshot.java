@@ -0,0 +1,394 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.tree;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A dependency graph read from the {@code binary} output of the tree goal, written by
+ * {@link BinaryDependencyNodeVisitor}. The nodes are numbered in the order they were visited, the root being node
+ * {@code 0}, and their properties are kept in arrays indexed by node, the strings being shared.
+ * <p>
+ * The format is a sequence of graphs, since the output file may be appended to. Each graph is:
+ * <ul>
+ * <li>the magic bytes {@code MDG} and the format version, one byte;</li>
+ * <li>one record per node, starting with its tag: {@code 1} for the root, the index of the parent plus {@code 2}
+ * otherwise. Then come the references to its group id, artifact id, version, type and classifier, and a flags
+ * byte: the scope in the 3 low bits, followed by a reference to the scope string when it is
+ * {@link #SCOPE_OTHER}, and {@link #OPTIONAL} set for an optional dependency;</li>
+ * <li>the tag {@code 0}.</li>
+ * </ul>
+ * Numbers are unsigned variable-length integers, 7 bits per byte, least significant bits first. A string
+ * reference is the index of the string in the table of the graph, which starts with {@code null} and the
+ * {@link #SCOPES scopes with a code}; a reference to the next free index is followed by a new string, as its UTF-8
+ * length and bytes.
+ *
+ * @since 3.11.1
+ */
+public final class DependencyGraphSnapshot {
+
+    static final byte[] MAGIC = {'M', 'D', 'G'};
+
+    static final int FORMAT_VERSION = 1;
+
+    static final int END_TAG = 0;
+
+    static final int ROOT_TAG = 1;
+
+    /**
+     * The scopes with a code, which is their index. {@code null} stands for the absence of a scope, on the root.
+     */
+    static final List<String> SCOPES =
+            Arrays.asList(null, "compile", "provided", "runtime", "test", "system", "import");
+
+    static final int SCOPE_MASK = 0x07;
+
+    static final int SCOPE_OTHER = 0x07;
+
+    static final int OPTIONAL = 0x08;
+
+    private final String[] strings;
+
+    private final int nodeCount;
+
+    private final int[] parents;
+
+    private final int[] groupIds;
+
+    private final int[] artifactIds;
+
+    private final int[] versions;
+
+    private final int[] types;
+
+    private final int[] classifiers;
+
+    private final int[] scopes;
+
+    private final byte[] flags;
+
+    /**
+     * The first child of each node, and the next sibling of each node, or {@code -1}.
+     */
+    private final int[] firstChildren;
+
+    private final int[] nextSiblings;
+
+    private DependencyGraphSnapshot(Reader reader) {
+        strings = reader.strings.toArray(new String[0]);
+        nodeCount = reader.nodeCount;
+        parents = Arrays.copyOf(reader.parents, nodeCount);
+        groupIds = Arrays.copyOf(reader.groupIds, nodeCount);
+        artifactIds = Arrays.copyOf(reader.artifactIds, nodeCount);
+        versions = Arrays.copyOf(reader.versions, nodeCount);
+        types = Arrays.copyOf(reader.types, nodeCount);
+        classifiers = Arrays.copyOf(reader.classifiers, nodeCount);
+        scopes = Arrays.copyOf(reader.scopes, nodeCount);
+        flags = Arrays.copyOf(reader.flags, nodeCount);
+
+        firstChildren = new int[nodeCount];
+        nextSiblings = new int[nodeCount];
+        Arrays.fill(firstChildren, -1);
+        Arrays.fill(nextSiblings, -1);
+        // walking backwards, each child becomes the first one of its parent once its later siblings are linked
+        for (int node = nodeCount - 1; node > 0; node--) {
+            nextSiblings[node] = firstChildren[parents[node]];
+            firstChildren[parents[node]] = node;
+        }
+    }
+
+    /**
+     * Reads the graphs of a file.
+     *
+     * @param file the file written by the tree goal
+     * @return the graphs of the file, in order
+     * @throws IOException if the file cannot be read, or is not in the expected format
+     */
+    public static List<DependencyGraphSnapshot> readAll(File file) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file.toPath()))) {
+            List<DependencyGraphSnapshot> graphs = new ArrayList<>();
+            for (DependencyGraphSnapshot graph = read(in); graph != null; graph = read(in)) {
+                graphs.add(graph);
+            }
+            return graphs;
+        }
+    }
+
+    /**
+     * Reads the next graph of a stream.
+     *
+     * @param in the stream to read, buffered by the caller
+     * @return the graph read, or {@code null} if the end of the stream is reached
+     * @throws IOException if the stream cannot be read, or is not in the expected format
+     */
+    public static DependencyGraphSnapshot read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        int first = data.read();
+        if (first < 0) {
+            return null;
+        }
+        byte[] magic = new byte[MAGIC.length];
+        magic[0] = (byte) first;
+        data.readFully(magic, 1, magic.length - 1);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("Not a binary dependency graph");
+        }
+        int version = data.readUnsignedByte();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported binary dependency graph version " + version);
+        }
+
+        Reader reader = new Reader(data);
+        for (int tag = reader.readNumber(); tag != END_TAG; tag = reader.readNumber()) {
+            reader.readNode(tag);
+        }
+        return new DependencyGraphSnapshot(reader);
+    }
+
+    /**
+     * @return the number of nodes, the root included
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * @param node a node
+     * @return the parent of the node, or {@code -1} for the root
+     */
+    public int getParent(int node) {
+        return parents[node];
+    }
+
+    /**
+     * @param node a node
+     * @return the children of the node, in order
+     */
+    public List<Integer> getChildren(int node) {
+        List<Integer> children = new ArrayList<>();
+        for (int child = firstChildren[node]; child >= 0; child = nextSiblings[child]) {
+            children.add(child);
+        }
+        return children;
+    }
+
+    /**
+     * @param node a node
+     * @return the group id of the node artifact
+     */
+    public String getGroupId(int node) {
+        return strings[groupIds[node]];
+    }
+
+    /**
+     * @param node a node
+     * @return the artifact id of the node artifact
+     */
+    public String getArtifactId(int node) {
+        return strings[artifactIds[node]];
+    }
+
+    /**
+     * @param node a node
+     * @return the version of the node artifact
+     */
+    public String getVersion(int node) {
+        return strings[versions[node]];
+    }
+
+    /**
+     * @param node a node
+     * @return the type of the node artifact
+     */
+    public String getType(int node) {
+        return strings[types[node]];
+    }
+
+    /**
+     * @param node a node
+     * @return the classifier of the node artifact, or {@code null}
+     */
+    public String getClassifier(int node) {
+        return strings[classifiers[node]];
+    }
+
+    /**
+     * @param node a node
+     * @return the scope of the node artifact, or {@code null}
+     */
+    public String getScope(int node) {
+        return strings[scopes[node]];
+    }
+
+    /**
+     * @param node a node
+     * @return whether the node artifact is an optional dependency
+     */
+    public boolean isOptional(int node) {
+        return (flags[node] & OPTIONAL) != 0;
+    }
+
+    /**
+     * @param node a node
+     * @return the versionless key of the node artifact, {@code groupId:artifactId:type[:classifier]}
+     */
+    public String getKey(int node) {
+        String key = getGroupId(node) + ":" + getArtifactId(node) + ":" + getType(node);
+        String classifier = getClassifier(node);
+        return classifier == null || classifier.isEmpty() ? key : key + ":" + classifier;
+    }
+
+    // the string table and the indices of the node strings, for comparisons without hashing strings for each node
+
+    int getStringCount() {
+        return strings.length;
+    }
+
+    String getString(int index) {
+        return strings[index];
+    }
+
+    int getGroupIdIndex(int node) {
+        return groupIds[node];
+    }
+
+    int getArtifactIdIndex(int node) {
+        return artifactIds[node];
+    }
+
+    int getVersionIndex(int node) {
+        return versions[node];
+    }
+
+    int getTypeIndex(int node) {
+        return types[node];
+    }
+
+    int getClassifierIndex(int node) {
+        return classifiers[node];
+    }
+
+    int getScopeIndex(int node) {
+        return scopes[node];
+    }
+
+    /**
+     * Reads the records of a graph into growing arrays.
+     */
+    private static final class Reader {
+
+        private final DataInputStream data;
+
+        private final List<String> strings = new ArrayList<>();
+
+        private int nodeCount;
+
+        private int[] parents = new int[64];
+
+        private int[] groupIds = new int[64];
+
+        private int[] artifactIds = new int[64];
+
+        private int[] versions = new int[64];
+
+        private int[] types = new int[64];
+
+        private int[] classifiers = new int[64];
+
+        private int[] scopes = new int[64];
+
+        private byte[] flags = new byte[64];
+
+        Reader(DataInputStream data) {
+            this.data = data;
+            strings.add(null);
+            // the scopes with a code are referenced from the flags, so they take the first indices
+            strings.addAll(SCOPES.subList(1, SCOPES.size()));
+        }
+
+        void readNode(int tag) throws IOException {
+            int parent = tag - 2;
+            if (parent >= nodeCount || (tag == ROOT_TAG) != (nodeCount == 0)) {
+                throw new IOException("Invalid node record " + tag + " for node " + nodeCount);
+            }
+            if (nodeCount == parents.length) {
+                grow();
+            }
+            int node = nodeCount++;
+            parents[node] = parent;
+            groupIds[node] = readString();
+            artifactIds[node] = readString();
+            versions[node] = readString();
+            types[node] = readString();
+            classifiers[node] = readString();
+            flags[node] = data.readByte();
+            int scope = flags[node] & SCOPE_MASK;
+            scopes[node] = scope == SCOPE_OTHER ? readString() : scope;
+        }
+
+        private void grow() {
+            int length = parents.length * 2;
+            parents = Arrays.copyOf(parents, length);
+            groupIds = Arrays.copyOf(groupIds, length);
+            artifactIds = Arrays.copyOf(artifactIds, length);
+            versions = Arrays.copyOf(versions, length);
+            types = Arrays.copyOf(types, length);
+            classifiers = Arrays.copyOf(classifiers, length);
+            scopes = Arrays.copyOf(scopes, length);
+            flags = Arrays.copyOf(flags, length);
+        }
+
+        private int readString() throws IOException {
+            int index = readNumber();
+            if (index == strings.size()) {
+                byte[] bytes = new byte[readNumber()];
+                data.readFully(bytes);
+                strings.add(new String(bytes, StandardCharsets.UTF_8));
+            } else if (index > strings.size()) {
+                throw new IOException("Invalid string reference " + index);
+            }
+            return index;
+        }
+
+        int readNumber() throws IOException {
+            int number = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                int b = data.read();
+                if (b < 0) {
+                    throw new EOFException("Truncated binary dependency graph");
+                }
+                number |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return number;
+                }
+            }
+            throw new IOException("Invalid number in binary dependency graph");
+        }
+    }
+}
@@ -69,6 +69,7 @@ public class GraphmlDependencyNodeVisitor extends AbstractSerializingVisitor imp
         try {
             if (node.getParent() == null || node.getParent() == node) {
                 writer.write(GRAPHML_FOOTER);
+                writer.flush();
             } else {
                 DependencyNode p = node.getParent();
                 writer.write("<edge source=\"" + generateId(p) + "\" target=\"" + generateId(node) + "\">");
@@ -79,7 +80,6 @@ public class GraphmlDependencyNodeVisitor extends AbstractSerializingVisitor imp
                 }
                 writer.write("</edge>" + System.lineSeparator());
             }
-            writer.flush();
             return true;
         } catch (IOException e) {
             throw new UncheckedIOException("Failed to write GraphML format output", e);
@@ -94,7 +94,6 @@ public class GraphmlDependencyNodeVisitor extends AbstractSerializingVisitor imp
         try {
             if (node.getParent() == null || node.getParent() == node) {
                 writer.write(GRAPHML_HEADER);
-                writer.flush();
             }
             // write node
             writer.write("<node id=\"" + generateId(node) + "\">");
@@ -102,7 +101,6 @@ public class GraphmlDependencyNodeVisitor extends AbstractSerializingVisitor imp
             writer.write("<data key=\"d0\"><y:ShapeNode><y:NodeLabel>" + node.toNodeString()
                     + "</y:NodeLabel></y:ShapeNode></data>");
             writer.write("</node>" + System.lineSeparator());
-            writer.flush();
             return true;
         } catch (IOException e) {
             throw new UncheckedIOException("Failed to write GraphML format output", e);
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.tree;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.filter.DependencyNodeFilter;
+import org.apache.maven.shared.dependency.graph.traversal.DependencyNodeVisitor;
+
+/**
+ * A dependency node visitor that delegates accepted nodes and their ancestors, in a single traversal. The visit of a
+ * node is held back until a node accepted by the filter is found below it, so that the delegate visits the same nodes,
+ * in the same order, as when filtering with an {@code AncestorOrSelfDependencyNodeFilter} built from the accepted
+ * nodes in a first traversal.
+ */
+final class IncludingDependencyNodeVisitor implements DependencyNodeVisitor {
+    private final DependencyNodeVisitor visitor;
+
+    private final DependencyNodeFilter filter;
+
+    /**
+     * The nodes from the root to the current one. The delegated ones always come first, as the ancestors of a
+     * delegated node are delegated too.
+     */
+    private final List<DependencyNode> path = new ArrayList<>();
+
+    private int delegatedCount;
+
+    /**
+     * The depth of the delegated node whose children the delegate does not visit, or <code>-1</code>.
+     */
+    private int skippedDepth = -1;
+
+    IncludingDependencyNodeVisitor(DependencyNodeVisitor visitor, DependencyNodeFilter filter) {
+        this.visitor = visitor;
+        this.filter = filter;
+    }
+
+    @Override
+    public boolean visit(DependencyNode node) {
+        path.add(node);
+        if (skippedDepth >= 0) {
+            return false;
+        }
+        if (!filter.accept(node)) {
+            // an accepted node may still be found below
+            return true;
+        }
+        while (delegatedCount < path.size()) {
+            int depth = delegatedCount++;
+            if (!visitor.visit(path.get(depth))) {
+                skippedDepth = depth;
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean endVisit(DependencyNode node) {
+        int depth = path.size() - 1;
+        path.remove(depth);
+        if (skippedDepth == depth) {
+            skippedDepth = -1;
+        }
+        if (depth < delegatedCount) {
+            delegatedCount = depth;
+            return visitor.endVisit(node);
+        }
+        return true;
+    }
+}
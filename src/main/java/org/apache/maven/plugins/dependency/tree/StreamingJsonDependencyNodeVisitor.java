@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.tree;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.traversal.DependencyNodeVisitor;
+
+/**
+ * A dependency node visitor that serializes visited nodes to a writer using the JSON format, writing each node as it
+ * is visited. The output is the same as the one of {@link JsonDependencyNodeVisitor}, but only the path from the root
+ * to the current node is kept in memory, so it does not need to be wrapped in a
+ * {@link BuildingDependencyNodeVisitor}: the children of a node are the visited ones, and filtered nodes are left
+ * out.
+ *
+ * @since 3.11.1
+ */
+public class StreamingJsonDependencyNodeVisitor extends AbstractSerializingVisitor implements DependencyNodeVisitor {
+
+    private static final String EOL = System.lineSeparator();
+
+    /**
+     * Whether a child was written, for each node from the root to the current one.
+     */
+    private final Deque<boolean[]> path = new ArrayDeque<>();
+
+    /**
+     * Creates a new instance of {@link StreamingJsonDependencyNodeVisitor}. The writer will be used to write the
+     * output, and flushed once the root node is written.
+     *
+     * @param writer  the writer to write to
+     */
+    public StreamingJsonDependencyNodeVisitor(Writer writer) {
+        super(writer);
+    }
+
+    @Override
+    public boolean visit(DependencyNode node) {
+        try {
+            int depth = path.size();
+            boolean[] parentHasChildren = path.peek();
+            if (parentHasChildren != null) {
+                // the comma ends the optional field of the parent, or the previous sibling
+                writer.write("," + EOL);
+                if (!parentHasChildren[0]) {
+                    writer.write(indent(fieldIndent(depth - 1)) + "\"children\": [" + EOL);
+                    parentHasChildren[0] = true;
+                }
+            }
+            writer.write(indent(4 * depth) + "{" + EOL);
+            writeFields(fieldIndent(depth), node.getArtifact());
+            path.push(new boolean[1]);
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write JSON format output", e);
+        }
+    }
+
+    @Override
+    public boolean endVisit(DependencyNode node) {
+        try {
+            boolean[] hasChildren = path.pop();
+            int depth = path.size();
+            writer.write(EOL);
+            if (hasChildren[0]) {
+                writer.write(indent(fieldIndent(depth) + 2) + "]" + EOL);
+            }
+            writer.write(indent(4 * depth) + "}");
+            if (depth == 0) {
+                writer.write(EOL);
+                writer.flush();
+            }
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write JSON format output", e);
+        }
+    }
+
+    private static int fieldIndent(int depth) {
+        return 4 * depth + 2;
+    }
+
+    /**
+     * Writes the fields of the artifact, leaving the last one open: whether it is followed by a comma depends on the
+     * children to come.
+     */
+    private void writeFields(int indent, Artifact artifact) throws IOException {
+        writeField(indent, "groupId", artifact.getGroupId());
+        writer.write("," + EOL);
+        writeField(indent, "artifactId", artifact.getArtifactId());
+        writer.write("," + EOL);
+        writeField(indent, "version", artifact.getVersion());
+        writer.write("," + EOL);
+        writeField(indent, "type", artifact.getType());
+        writer.write("," + EOL);
+        writeField(indent, "scope", artifact.getScope());
+        writer.write("," + EOL);
+        writeField(indent, "classifier", artifact.getClassifier());
+        writer.write("," + EOL);
+        writeField(indent, "optional", String.valueOf(artifact.isOptional()));
+    }
+
+    private void writeField(int indent, String key, String value) throws IOException {
+        writer.write(indent(indent));
+        writer.write('"');
+        writer.write(key);
+        writer.write("\": \"");
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    writer.write('\\');
+                }
+                writer.write(c);
+            }
+        }
+        writer.write('"');
+    }
+
+    private static String indent(int indent) {
+        StringBuilder sb = new StringBuilder(indent);
+        for (int i = 0; i < indent; i++) {
+            sb.append(' ');
+        }
+        return sb.toString();
+    }
+}
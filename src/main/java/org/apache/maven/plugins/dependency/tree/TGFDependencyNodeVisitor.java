@@ -134,7 +134,6 @@ public class TGFDependencyNodeVisitor extends AbstractSerializingVisitor impleme
             writer.write(" ");
             writer.write(node.toNodeString());
             writer.write(System.lineSeparator());
-            writer.flush();
             return true;
         } catch (IOException e) {
             throw new UncheckedIOException("Failed to write TGF format output", e);
@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.tree;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.dependency.tree.DependencyGraphDiff.Change;
+import org.apache.maven.plugins.dependency.tree.DependencyGraphDiff.Kind;
+import org.apache.maven.plugins.dependency.utils.DependencyUtil;
+import org.apache.maven.plugins.dependency.utils.LogWriter;
+
+/**
+ * Compares two dependency graphs written by the tree goal with <code>-DoutputType=binary</code>, typically before and
+ * after a change, and reports the dependencies added, removed, upgraded, downgraded, whose version is spelled
+ * differently, like <code>1.0</code> and <code>1.0.0</code>, or whose scope changed.
+ * <p>
+ * The graphs of a file written for a whole reactor, with <code>-DappendOutput=true</code>, are matched by module.
+ *
+ * @since 3.11.1
+ */
+@Mojo(name = "tree-diff", requiresProject = false, threadSafe = true)
+public class TreeDiffMojo extends AbstractMojo {
+
+    /**
+     * The graphs to compare from, written by the tree goal in the <code>binary</code> format.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.baselineTree", required = true)
+    private File baselineTree;
+
+    /**
+     * The graphs to compare to, written by the tree goal in the <code>binary</code> format.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.currentTree", required = true)
+    private File currentTree;
+
+    /**
+     * If specified, the differences are written to this file instead of the console.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "outputFile")
+    private File outputFile;
+
+    /**
+     * The format of the differences: <code>text</code> (default) or <code>json</code>.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "outputType", defaultValue = "text")
+    private String outputType;
+
+    @Parameter(property = "outputEncoding", defaultValue = "${project.reporting.outputEncoding}")
+    private String outputEncoding;
+
+    /**
+     * Fail the build if the dependencies changed.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.failOnChange", defaultValue = "false")
+    private boolean failOnChange;
+
+    /**
+     * Skip plugin execution completely.
+     *
+     * @since 3.11.1
+     */
+    @Parameter(property = "mdep.skip", defaultValue = "false")
+    private boolean skip;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if (skip) {
+            getLog().info("Skipping plugin execution");
+            return;
+        }
+        if (!"text".equals(outputType) && !"json".equals(outputType)) {
+            throw new MojoFailureException("Unsupported outputType " + outputType + ", expected text or json");
+        }
+
+        List<DependencyGraphDiff> diffs;
+        try {
+            List<DependencyGraphSnapshot> baselines = DependencyGraphSnapshot.readAll(baselineTree);
+            List<DependencyGraphSnapshot> currents = DependencyGraphSnapshot.readAll(currentTree);
+            diffs = compare(baselines, currents);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Cannot read dependency graphs: " + e.getMessage(), e);
+        }
+
+        try {
+            if (outputFile != null) {
+                String encoding = Objects.toString(outputEncoding, "UTF-8");
+                try (Writer writer = DependencyUtil.newWriter(outputFile, false, encoding)) {
+                    write(diffs, writer);
+                }
+                getLog().info("Wrote dependency graph differences to: " + outputFile);
+            } else {
+                try (Writer writer = new LogWriter(getLog())) {
+                    write(diffs, writer);
+                }
+            }
+        } catch (IOException e) {
+            throw new MojoExecutionException("Cannot write dependency graph differences", e);
+        }
+
+        String summary = summarize(diffs);
+        getLog().info(summary);
+        if (failOnChange && diffs.stream().anyMatch(diff -> !diff.getChanges().isEmpty())) {
+            throw new MojoFailureException("Dependencies changed: " + summary);
+        }
+    }
+
+    /**
+     * Compares the graphs module by module. When each file holds a single graph, these are compared whatever their
+     * modules, so that a renamed project can still be compared.
+     *
+     * @param baselines the graphs to compare from
+     * @param currents the graphs to compare to
+     * @return the differences of each module, in the order of the current graphs, then the modules removed
+     */
+    static List<DependencyGraphDiff> compare(
+            List<DependencyGraphSnapshot> baselines, List<DependencyGraphSnapshot> currents) {
+        List<DependencyGraphDiff> diffs = new ArrayList<>();
+        if (baselines.size() == 1 && currents.size() == 1) {
+            diffs.add(DependencyGraphDiff.compare(baselines.get(0), currents.get(0)));
+            return diffs;
+        }
+
+        Map<String, DependencyGraphSnapshot> baselinesByModule = new LinkedHashMap<>();
+        for (DependencyGraphSnapshot baseline : baselines) {
+            baselinesByModule.putIfAbsent(baseline.getKey(0), baseline);
+        }
+        for (DependencyGraphSnapshot current : currents) {
+            diffs.add(DependencyGraphDiff.compare(baselinesByModule.remove(current.getKey(0)), current));
+        }
+        for (DependencyGraphSnapshot baseline : baselinesByModule.values()) {
+            diffs.add(DependencyGraphDiff.compare(baseline, null));
+        }
+        return diffs;
+    }
+
+    private void write(List<DependencyGraphDiff> diffs, Writer writer) throws IOException {
+        if ("json".equals(outputType)) {
+            writeJson(diffs, writer);
+        } else {
+            writeText(diffs, writer);
+        }
+    }
+
+    private static void writeText(List<DependencyGraphDiff> diffs, Writer writer) throws IOException {
+        String eol = System.lineSeparator();
+        for (DependencyGraphDiff diff : diffs) {
+            if (diff.getChanges().isEmpty()) {
+                continue;
+            }
+            writer.write(diff.getModule() + eol);
+            for (Change change : diff.getChanges()) {
+                writer.write("  " + change + eol);
+            }
+        }
+    }
+
+    private static void writeJson(List<DependencyGraphDiff> diffs, Writer writer) throws IOException {
+        String eol = System.lineSeparator();
+        writer.write("[");
+        String separator = eol;
+        for (DependencyGraphDiff diff : diffs) {
+            for (Change change : diff.getChanges()) {
+                writer.write(separator);
+                writer.write("  {" + eol);
+                writer.write("    \"module\": " + DependencyUtil.quoteJson(diff.getModule()) + "," + eol);
+                writer.write("    \"change\": " + DependencyUtil.quoteJson(change.getKind().getLabel()) + "," + eol);
+                writer.write("    \"key\": " + DependencyUtil.quoteJson(change.getKey()) + "," + eol);
+                writer.write("    \"oldVersion\": " + DependencyUtil.quoteJson(change.getOldVersion()) + "," + eol);
+                writer.write("    \"newVersion\": " + DependencyUtil.quoteJson(change.getNewVersion()) + "," + eol);
+                writer.write("    \"oldScope\": " + DependencyUtil.quoteJson(change.getOldScope()) + "," + eol);
+                writer.write("    \"newScope\": " + DependencyUtil.quoteJson(change.getNewScope()) + eol);
+                writer.write("  }");
+                separator = "," + eol;
+            }
+        }
+        writer.write(separator.equals(eol) ? "]" + eol : eol + "]" + eol);
+    }
+
+    private static String summarize(List<DependencyGraphDiff> diffs) {
+        Map<Kind, Integer> counts = new EnumMap<>(Kind.class);
+        for (DependencyGraphDiff diff : diffs) {
+            for (Kind kind : Kind.values()) {
+                counts.merge(kind, diff.count(kind), Integer::sum);
+            }
+        }
+        return counts.entrySet().stream()
+                .map(count -> count.getValue() + " " + count.getKey().getLabel())
+                .collect(Collectors.joining(", ", "Dependency changes: ", ""));
+    }
+}
@@ -22,7 +22,7 @@ import javax.inject.Inject;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.util.List;
 import java.util.Objects;
@@ -37,22 +37,18 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.apache.maven.plugins.dependency.utils.DependencyUtil;
+import org.apache.maven.plugins.dependency.utils.filters.ArtifactPatternMatcher;
 import org.apache.maven.project.DefaultProjectBuildingRequest;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.ProjectBuildingRequest;
-import org.apache.maven.shared.artifact.filter.StrictPatternExcludesArtifactFilter;
-import org.apache.maven.shared.artifact.filter.StrictPatternIncludesArtifactFilter;
 import org.apache.maven.shared.dependency.graph.DependencyCollectorBuilder;
 import org.apache.maven.shared.dependency.graph.DependencyCollectorBuilderException;
 import org.apache.maven.shared.dependency.graph.DependencyGraphBuilder;
 import org.apache.maven.shared.dependency.graph.DependencyGraphBuilderException;
 import org.apache.maven.shared.dependency.graph.DependencyNode;
-import org.apache.maven.shared.dependency.graph.filter.AncestorOrSelfDependencyNodeFilter;
 import org.apache.maven.shared.dependency.graph.filter.ArtifactDependencyNodeFilter;
 import org.apache.maven.shared.dependency.graph.filter.DependencyNodeFilter;
-import org.apache.maven.shared.dependency.graph.traversal.CollectingDependencyNodeVisitor;
 import org.apache.maven.shared.dependency.graph.traversal.DependencyNodeVisitor;
-import org.apache.maven.shared.dependency.graph.traversal.FilteringDependencyNodeVisitor;
 import org.apache.maven.shared.dependency.graph.traversal.SerializingDependencyNodeVisitor;
 import org.apache.maven.shared.dependency.graph.traversal.SerializingDependencyNodeVisitor.GraphTokens;
 
@@ -101,9 +97,11 @@ public class TreeMojo extends AbstractMojo {
 
     /**
      * If specified, this parameter will cause the dependency tree to be written using the specified format. Currently
-     * supported formats are: <code>text</code> (default), <code>dot</code>, <code>graphml</code>, <code>tgf</code>
-     * and <code>json</code> (since 3.7.0).
-     * These additional formats can be plotted to image files.
+     * supported formats are: <code>text</code> (default), <code>dot</code>, <code>graphml</code>, <code>tgf</code>,
+     * <code>json</code> (since 3.7.0) and <code>binary</code> (since 3.11.1).
+     * These additional formats can be plotted to image files. The <code>binary</code> format is a compact snapshot of
+     * the graph, read with {@link DependencyGraphSnapshot}. It requires {@link #outputFile} and does not support
+     * {@link #verbose} trees.
      *
      * @since 2.2
      */
@@ -154,7 +152,7 @@ public class TreeMojo extends AbstractMojo {
      * Paths leading to included artifacts are retained. If an artifact is also beneath a subtree matched by
      * {@link #excludes}, the exclusion takes precedence and the artifact is not included.
      *
-     * @see StrictPatternIncludesArtifactFilter
+     * @see ArtifactPatternMatcher
      * @since 2.0-alpha-6
      */
     @Parameter(property = "includes")
@@ -177,7 +175,7 @@ public class TreeMojo extends AbstractMojo {
      * A matching artifact and its entire dependency subtree are removed from the serialized dependency tree.
      * Exclusions are applied before {@link #includes} and take precedence.
      *
-     * @see StrictPatternExcludesArtifactFilter
+     * @see ArtifactPatternMatcher
      * @since 2.0-alpha-6
      */
     @Parameter(property = "excludes")
@@ -227,10 +225,17 @@ public class TreeMojo extends AbstractMojo {
             getLog().info("Skipping plugin execution");
             return;
         }
+        if ("binary".equals(outputType)) {
+            if (outputFile == null) {
+                throw new MojoFailureException("The binary output type requires an outputFile");
+            }
+            if (verbose) {
+                // the nodes omitted for a conflict could not be told from the resolved ones
+                throw new MojoFailureException("The binary output type does not support verbose trees");
+            }
+        }
 
         try {
-            String dependencyTreeString;
-
             // TODO: note that filter does not get applied due to MSHARED-4
             ArtifactFilter artifactFilter = createResolvingArtifactFilter();
 
@@ -241,27 +246,35 @@ public class TreeMojo extends AbstractMojo {
 
             if (verbose) {
                 rootNode = dependencyCollectorBuilder.collectDependencyGraph(buildingRequest, artifactFilter);
-                dependencyTreeString = serializeDependencyTree(rootNode);
             } else {
                 // non-verbose mode use dependency graph component, which gives consistent results with Maven version
                 // running
                 rootNode = dependencyGraphBuilder.buildDependencyGraph(buildingRequest, artifactFilter);
-
-                dependencyTreeString = serializeDependencyTree(rootNode);
             }
 
-            if (outputFile != null) {
+            // the tree is written as it is traversed, rather than serialized to a string first
+            if ("binary".equals(outputType)) {
+                DependencyUtil.write(
+                        out -> serializeDependencyTree(rootNode, new BinaryDependencyNodeVisitor(out)),
+                        outputFile,
+                        appendOutput);
+
+                getLog().info("Wrote dependency tree to: " + outputFile);
+            } else if (outputFile != null) {
                 String encoding = Objects.toString(outputEncoding, "UTF-8");
-                DependencyUtil.write(dependencyTreeString, outputFile, this.appendOutput, encoding);
+                DependencyUtil.write(
+                        writer -> serializeDependencyTree(rootNode, writer), outputFile, this.appendOutput, encoding);
 
                 getLog().info("Wrote dependency tree to: " + outputFile);
             } else {
-                DependencyUtil.log(dependencyTreeString, getLog());
+                DependencyUtil.log(writer -> serializeDependencyTree(rootNode, writer), getLog());
             }
         } catch (DependencyGraphBuilderException | DependencyCollectorBuilderException exception) {
             throw new MojoExecutionException("Cannot build project dependency graph", exception);
         } catch (IOException exception) {
             throw new MojoExecutionException("Cannot serialize project dependency graph", exception);
+        } catch (UncheckedIOException exception) {
+            throw new MojoExecutionException("Cannot serialize project dependency graph", exception.getCause());
         }
     }
 
@@ -322,43 +335,41 @@ public class TreeMojo extends AbstractMojo {
     }
 
     /**
-     * Serializes the specified dependency tree to a string.
+     * Serializes the specified dependency tree to a writer.
      *
      * @param theRootNode the dependency tree root node to serialize
-     * @return the serialized dependency tree
+     * @param writer the writer to serialize to
      */
-    private String serializeDependencyTree(DependencyNode theRootNode) {
-        StringWriter writer = new StringWriter();
-
-        DependencyNodeVisitor visitor = getSerializingDependencyNodeVisitor(writer);
-
-        // TODO: remove the need for this when the serializer can calculate last nodes from visitor calls only
-        visitor = new BuildingDependencyNodeVisitor(visitor);
+    private void serializeDependencyTree(DependencyNode theRootNode, Writer writer) {
+        if ("json".equals(outputType)) {
+            // writes the visited nodes as they come, no need to build the filtered tree first
+            serializeDependencyTree(theRootNode, new StreamingJsonDependencyNodeVisitor(writer));
+        } else {
+            // TODO: remove the need for this when the serializer can calculate last nodes from visitor calls only
+            serializeDependencyTree(
+                    theRootNode, new BuildingDependencyNodeVisitor(getSerializingDependencyNodeVisitor(writer)));
+        }
+    }
 
+    /**
+     * Serializes the specified dependency tree with a visitor, applying the include and exclude filters.
+     *
+     * @param theRootNode the dependency tree root node to serialize
+     * @param visitor the visitor serializing the nodes
+     */
+    private void serializeDependencyTree(DependencyNode theRootNode, DependencyNodeVisitor visitor) {
         DependencyNodeFilter includesFilter = createIncludesDependencyNodeFilter();
         DependencyNodeFilter excludesFilter = createExcludesDependencyNodeFilter();
 
         if (includesFilter != null) {
-            CollectingDependencyNodeVisitor collectingVisitor = new CollectingDependencyNodeVisitor();
-            DependencyNodeVisitor firstPassVisitor =
-                    new FilteringDependencyNodeVisitor(collectingVisitor, includesFilter);
-            if (excludesFilter != null) {
-                firstPassVisitor = new PruningDependencyNodeVisitor(firstPassVisitor, excludesFilter);
-            }
-            theRootNode.accept(firstPassVisitor);
-
-            DependencyNodeFilter secondPassFilter =
-                    new AncestorOrSelfDependencyNodeFilter(collectingVisitor.getNodes());
-            visitor = new FilteringDependencyNodeVisitor(visitor, secondPassFilter);
+            visitor = new IncludingDependencyNodeVisitor(visitor, includesFilter);
         }
 
         if (excludesFilter != null) {
             visitor = new PruningDependencyNodeVisitor(visitor, excludesFilter);
         }
 
-        theRootNode.accept(visitor);
-
-        return writer.toString();
+        AbstractSerializingVisitor.traverse(theRootNode, visitor);
     }
 
     /**
@@ -412,8 +423,8 @@ public class TreeMojo extends AbstractMojo {
         if (includes != null && !includes.isEmpty()) {
             getLog().debug("+ Filtering dependency tree by artifact include patterns: " + includes);
 
-            ArtifactFilter artifactFilter = new StrictPatternIncludesArtifactFilter(includes);
-            return new ArtifactDependencyNodeFilter(artifactFilter);
+            ArtifactPatternMatcher matcher = ArtifactPatternMatcher.compile(includes);
+            return new ArtifactDependencyNodeFilter(matcher::matches);
         }
 
         return null;
@@ -423,8 +434,8 @@ public class TreeMojo extends AbstractMojo {
         if (excludes != null && !excludes.isEmpty()) {
             getLog().debug("+ Filtering dependency tree by artifact exclude patterns: " + excludes);
 
-            ArtifactFilter artifactFilter = new StrictPatternExcludesArtifactFilter(excludes);
-            return new ArtifactDependencyNodeFilter(artifactFilter);
+            ArtifactPatternMatcher matcher = ArtifactPatternMatcher.compile(excludes);
+            return new ArtifactDependencyNodeFilter(artifact -> !matcher.matches(artifact));
         }
 
         return null;
@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.regex.Pattern;
+
+/**
+ * Remembers the SHA-1 digest of every file copied to a destination, so that an unchanged source can be detected
+ * without comparing timestamps, and usually without reading the destination again.
+ * <p>
+ * The digest of a source file is taken from the {@code .sha1} file next to it when the local repository has one that
+ * is not older than the file, otherwise it is computed by streaming the file: a jar installed or copied over without
+ * its checksum leaves a stale {@code .sha1} behind. The digests of the copied files are stored in a single properties
+ * file, keyed by the destination path relative to a base directory, along with the size and the last modification
+ * time the destination had right after the copy. A destination whose size changed is copied again; one whose time
+ * only changed, e.g. restored from a cache, is digested again to tell whether it was rewritten.
+ *
+ * @since 3.11.1
+ */
+public class ChecksumIndex {
+
+    private static final String SHA1_EXTENSION = ".sha1";
+
+    private static final Pattern SHA1 = Pattern.compile("[0-9a-f]{40}");
+
+    private final File indexFile;
+
+    private final Path baseDirectory;
+
+    private final Properties copiedDigests = new Properties();
+
+    private final Map<File, String> sourceDigests = new HashMap<>();
+
+    private boolean modified;
+
+    /**
+     * Loads the index, if it already exists.
+     *
+     * @param indexFile the file storing the digests of the copied files
+     * @param baseDirectory the directory the destination paths are relative to
+     * @throws IOException if the index exists but cannot be read
+     */
+    public ChecksumIndex(File indexFile, File baseDirectory) throws IOException {
+        this.indexFile = indexFile;
+        this.baseDirectory = baseDirectory.toPath().toAbsolutePath().normalize();
+        if (indexFile.isFile()) {
+            try (Reader reader = Files.newBufferedReader(indexFile.toPath(), StandardCharsets.UTF_8)) {
+                copiedDigests.load(reader);
+            }
+        }
+    }
+
+    /**
+     * Tells whether the destination holds the current content of the source. A destination for which nothing was
+     * recorded, or whose size changed since it was recorded, is never up to date: it is copied again and the copy
+     * seeds the index. A destination whose last modification time changed is digested again, and its new time is
+     * recorded if its content is unchanged.
+     *
+     * @param source the source file
+     * @param destination the destination file, which must exist
+     * @return {@code true} if the source did not change since it was copied to the destination
+     * @throws IOException if the source or the destination cannot be read
+     */
+    public synchronized boolean isUpToDate(File source, File destination) throws IOException {
+        String key = toKey(destination);
+        String[] entry = parseEntry(copiedDigests.getProperty(key));
+        if (entry == null
+                || destination.length() != Long.parseLong(entry[1])
+                || !getSourceDigest(source).equals(entry[0])) {
+            return false;
+        }
+        long lastModified = destination.lastModified();
+        if (lastModified != Long.parseLong(entry[2])) {
+            if (!sha1(destination).equals(entry[0])) {
+                return false;
+            }
+            copiedDigests.setProperty(key, entry[0] + ' ' + entry[1] + ' ' + lastModified);
+            modified = true;
+        }
+        return true;
+    }
+
+    /**
+     * Records that the source has been copied to the destination.
+     *
+     * @param source the source file
+     * @param destination the destination file, as left by the copy
+     * @throws IOException if the source cannot be read
+     */
+    public synchronized void record(File source, File destination) throws IOException {
+        copiedDigests.setProperty(
+                toKey(destination),
+                getSourceDigest(source) + ' ' + destination.length() + ' ' + destination.lastModified());
+        modified = true;
+    }
+
+    /**
+     * Writes the index if it has been modified. The index is replaced atomically when the file system supports it.
+     *
+     * @throws IOException if the index cannot be written
+     */
+    public synchronized void save() throws IOException {
+        if (!modified) {
+            return;
+        }
+        Path target = indexFile.toPath();
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        Path temp = Files.createTempFile(target.toAbsolutePath().getParent(), indexFile.getName(), ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                copiedDigests.store(writer, null);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        modified = false;
+    }
+
+    private String getSourceDigest(File source) throws IOException {
+        String digest = sourceDigests.get(source);
+        if (digest == null) {
+            File checksumFile = new File(source.getPath() + SHA1_EXTENSION);
+            if (checksumFile.lastModified() >= source.lastModified()) {
+                digest = readChecksumFile(checksumFile);
+            }
+            if (digest == null) {
+                digest = sha1(source);
+            }
+            sourceDigests.put(source, digest);
+        }
+        return digest;
+    }
+
+    /**
+     * Splits an entry into the digest, the size and the last modification time of the destination.
+     *
+     * @return the three parts, or {@code null} if there is no entry or if it was written by an older version
+     */
+    private static String[] parseEntry(String value) {
+        if (value == null) {
+            return null;
+        }
+        String[] entry = value.split(" ");
+        if (entry.length != 3 || !SHA1.matcher(entry[0]).matches()) {
+            return null;
+        }
+        try {
+            Long.parseLong(entry[1]);
+            Long.parseLong(entry[2]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return entry;
+    }
+
+    private String toKey(File destination) {
+        Path path = destination.toPath().toAbsolutePath().normalize();
+        if (path.startsWith(baseDirectory)) {
+            path = baseDirectory.relativize(path);
+        }
+        return path.toString().replace(File.separatorChar, '/');
+    }
+
+    /**
+     * Reads a checksum file as found in Maven repositories, which holds the hexadecimal digest optionally followed by
+     * the file name.
+     *
+     * @return the digest, or {@code null} if the file does not exist or does not hold a SHA-1 digest
+     */
+    private static String readChecksumFile(File checksumFile) throws IOException {
+        if (!checksumFile.isFile()) {
+            return null;
+        }
+        String content = new String(Files.readAllBytes(checksumFile.toPath()), StandardCharsets.US_ASCII).trim();
+        String digest = content.split("\\s+", 2)[0].toLowerCase(Locale.ROOT);
+        return SHA1.matcher(digest).matches() ? digest : null;
+    }
+
+    /**
+     * Computes the SHA-1 digest of a file.
+     *
+     * @param file the file to digest
+     * @return the lower case hexadecimal digest
+     * @throws IOException if the file cannot be read
+     */
+    public static String sha1(File file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 is not supported by this JVM", e);
+        }
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        StringBuilder hex = new StringBuilder(40);
+        for (byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
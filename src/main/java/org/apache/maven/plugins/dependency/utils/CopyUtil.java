@@ -24,6 +24,17 @@ import javax.inject.Singleton;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.plugin.MojoExecutionException;
@@ -60,16 +71,135 @@ public class CopyUtil {
      * @since 3.7.0
      */
     public void copyArtifactFile(Artifact sourceArtifact, File destination) throws IOException, MojoExecutionException {
-        File source = sourceArtifact.getFile();
-        if (source.isDirectory()) {
+        copyArtifactFile(sourceArtifact, destination, LinkStrategy.COPY);
+    }
+
+    /**
+     * Copies or links the artifact (file)
+     *
+     * @param sourceArtifact the artifact (file) to copy
+     * @param destination file name of destination file
+     * @param strategy how the destination file is materialized
+     * @throws IOException if copy has failed
+     * @throws MojoExecutionException if artifact file is a directory (which has not been packaged yet)
+     * @since 3.11.1
+     */
+    public void copyArtifactFile(Artifact sourceArtifact, File destination, LinkStrategy strategy)
+            throws IOException, MojoExecutionException {
+        checkPackaged(sourceArtifact);
+        logger.debug("Copying artifact '{}' ({}) to {}", sourceArtifact.getId(), sourceArtifact.getFile(), destination);
+        materialize(sourceArtifact.getFile(), destination, strategy);
+        buildContext.refresh(destination);
+    }
+
+    /**
+     * Copies several artifacts (files) concurrently, using at most {@code threads} worker threads.
+     * <p>
+     * Every copy is attempted even if some of them fail. The build context is refreshed from the calling thread,
+     * in the iteration order of {@code copies}, for each destination that was written successfully.
+     *
+     * @param copies the artifacts (files) to copy, mapped to their destination files
+     * @param threads maximum number of concurrent copies, {@code 1} copies sequentially
+     * @throws MojoExecutionException if at least one copy has failed, listing every failed artifact
+     * @since 3.11.1
+     */
+    public void copyArtifactFiles(Map<Artifact, File> copies, int threads) throws MojoExecutionException {
+        copyArtifactFiles(copies, threads, LinkStrategy.COPY);
+    }
+
+    /**
+     * Copies or links several artifacts (files) concurrently, using at most {@code threads} worker threads.
+     *
+     * @param copies the artifacts (files) to copy, mapped to their destination files
+     * @param threads maximum number of concurrent copies, {@code 1} copies sequentially
+     * @param strategy how the destination files are materialized
+     * @throws MojoExecutionException if at least one copy has failed, listing every failed artifact
+     * @see #copyArtifactFiles(Map, int)
+     * @since 3.11.1
+     */
+    public void copyArtifactFiles(Map<Artifact, File> copies, int threads, LinkStrategy strategy)
+            throws MojoExecutionException {
+        copyArtifactFiles(copies, threads, strategy, (artifact, destination) -> {});
+    }
+
+    /**
+     * Copies or links several artifacts (files) concurrently, using at most {@code threads} worker threads, and
+     * notifies the listener of each successful copy from the calling thread, right after the build context is
+     * refreshed. The copies that succeeded are notified even if others fail.
+     *
+     * @param copies the artifacts (files) to copy, mapped to their destination files
+     * @param threads maximum number of concurrent copies, {@code 1} copies sequentially
+     * @param strategy how the destination files are materialized
+     * @param listener notified of each successful copy; a failure of the listener counts as a failed copy
+     * @throws MojoExecutionException if at least one copy has failed, listing every failed artifact
+     * @see #copyArtifactFiles(Map, int, LinkStrategy)
+     * @since 3.11.1
+     */
+    public void copyArtifactFiles(Map<Artifact, File> copies, int threads, LinkStrategy strategy, CopyListener listener)
+            throws MojoExecutionException {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be positive: " + threads);
+        }
+        if (copies.isEmpty()) {
+            return;
+        }
+        for (Artifact artifact : copies.keySet()) {
+            checkPackaged(artifact);
+        }
+
+        Map<Artifact, Throwable> failures = new LinkedHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, copies.size()));
+        try {
+            Map<Artifact, Future<File>> futures = new LinkedHashMap<>();
+            for (Map.Entry<Artifact, File> copy : copies.entrySet()) {
+                Artifact artifact = copy.getKey();
+                File destination = copy.getValue();
+                futures.put(artifact, executor.submit(() -> {
+                    logger.debug("Copying artifact '{}' ({}) to {}", artifact.getId(), artifact.getFile(), destination);
+                    materialize(artifact.getFile(), destination, strategy);
+                    return destination;
+                }));
+            }
+
+            for (Map.Entry<Artifact, Future<File>> future : futures.entrySet()) {
+                try {
+                    File destination = future.getValue().get();
+                    buildContext.refresh(destination);
+                    listener.copied(future.getKey(), destination);
+                } catch (ExecutionException e) {
+                    failures.put(future.getKey(), e.getCause());
+                } catch (IOException e) {
+                    failures.put(future.getKey(), e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("Interrupted while copying artifacts", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (!failures.isEmpty()) {
+            List<String> messages = new ArrayList<>();
+            for (Map.Entry<Artifact, Throwable> failure : failures.entrySet()) {
+                Artifact artifact = failure.getKey();
+                messages.add("'" + artifact + "' (" + artifact.getFile() + ") to " + copies.get(artifact) + ": "
+                        + failure.getValue().getMessage());
+            }
+            MojoExecutionException exception = new MojoExecutionException(
+                    "Failed to copy " + failures.size() + " artifact(s):\n  " + String.join("\n  ", messages));
+            failures.values().forEach(exception::addSuppressed);
+            throw exception;
+        }
+    }
+
+    private static void checkPackaged(Artifact artifact) throws MojoExecutionException {
+        if (artifact.getFile().isDirectory()) {
             // usual case is a future jar packaging, but there are special cases: classifier and other packaging
-            throw new MojoExecutionException("Artifact '" + sourceArtifact
+            throw new MojoExecutionException("Artifact '" + artifact
                     + "' has not been packaged yet (is a directory). When used on reactor artifact, "
                     + "copy should be executed after packaging: see MDEP-187.");
         }
-        logger.debug("Copying artifact '{}' ({}) to {}", sourceArtifact.getId(), sourceArtifact.getFile(), destination);
-        FileUtils.copyFile(source, destination);
-        buildContext.refresh(destination);
     }
 
     /**
@@ -81,8 +211,63 @@ public class CopyUtil {
      * @since 3.2.0
      */
     public void copyFile(File source, File destination) throws IOException {
+        copyFile(source, destination, LinkStrategy.COPY);
+    }
+
+    /**
+     * Copies or links a file to a destination and refreshes the build context for the new file.
+     *
+     * @param source the source file to copy
+     * @param destination the destination file
+     * @param strategy how the destination file is materialized
+     * @throws IOException if copy has failed
+     * @since 3.11.1
+     */
+    public void copyFile(File source, File destination, LinkStrategy strategy) throws IOException {
         logger.debug("Copying file '{}' to {}", source, destination);
-        FileUtils.copyFile(source, destination);
+        materialize(source, destination, strategy);
         buildContext.refresh(destination);
     }
+
+    private void materialize(File source, File destination, LinkStrategy strategy) throws IOException {
+        Path target = destination.toPath();
+        // never write through a link left behind by a previous execution: that would modify the source
+        if (Files.isSymbolicLink(target)
+                || (Files.exists(target, LinkOption.NOFOLLOW_LINKS) && Files.isSameFile(source.toPath(), target))) {
+            Files.delete(target);
+        }
+
+        if (strategy != LinkStrategy.COPY) {
+            Files.createDirectories(target.toAbsolutePath().getParent());
+            Files.deleteIfExists(target);
+            try {
+                if (strategy == LinkStrategy.HARDLINK) {
+                    Files.createLink(target, source.toPath());
+                } else {
+                    Files.createSymbolicLink(target, source.toPath().toAbsolutePath());
+                }
+                return;
+            } catch (IOException | UnsupportedOperationException e) {
+                logger.debug(
+                        "Unable to {} '{}' to {}, copying instead: {}", strategy, source, destination, e.toString());
+            }
+        }
+        FileUtils.copyFile(source, destination);
+    }
+
+    /**
+     * Notified of the copies done by {@link #copyArtifactFiles(Map, int, LinkStrategy, CopyListener)}.
+     *
+     * @since 3.11.1
+     */
+    @FunctionalInterface
+    public interface CopyListener {
+
+        /**
+         * @param artifact the copied artifact
+         * @param destination the file it was copied to
+         * @throws IOException if the copy cannot be processed
+         */
+        void copied(Artifact artifact, File destination) throws IOException;
+    }
 }
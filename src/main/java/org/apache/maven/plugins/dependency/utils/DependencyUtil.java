@@ -18,15 +18,18 @@
  */
 package org.apache.maven.plugins.dependency.utils;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.StringReader;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
 import java.nio.file.StandardOpenOption;
+import java.util.Locale;
 import java.util.Objects;
 
 import org.apache.maven.artifact.Artifact;
@@ -228,18 +231,86 @@ public final class DependencyUtil {
      */
     public static synchronized void write(String string, File file, boolean append, String encoding)
             throws IOException {
+        try (Writer writer = newWriter(file, append, encoding)) {
+            writer.write(string);
+        }
+    }
+
+    /**
+     * Writes some content to the specified file, holding the lock of {@link #write(String, File, boolean, String)}
+     * from opening the file to closing it, so that the contents written by modules built in parallel to the same
+     * file do not interleave.
+     *
+     * @param content the content to write
+     * @param file the file to write to
+     * @param append append to existing file or not
+     * @param encoding character set name
+     * @throws IOException if an I/O error occurs
+     * @since 3.11.1
+     */
+    public static synchronized void write(ContentWriter<Writer> content, File file, boolean append, String encoding)
+            throws IOException {
+        try (Writer writer = newWriter(file, append, encoding)) {
+            content.writeTo(writer);
+        }
+    }
+
+    /**
+     * Writes some binary content to the specified file, holding the lock of
+     * {@link #write(ContentWriter, File, boolean, String)}.
+     *
+     * @param content the content to write
+     * @param file the file to write to
+     * @param append append to existing file or not
+     * @throws IOException if an I/O error occurs
+     * @since 3.11.1
+     */
+    public static synchronized void write(ContentWriter<OutputStream> content, File file, boolean append)
+            throws IOException {
+        try (OutputStream out = newOutputStream(file, append)) {
+            content.writeTo(out);
+        }
+    }
+
+    /**
+     * Opens a buffered writer to the specified file, creating its parent directories if needed.
+     *
+     * @param file the file to write to
+     * @param append append to existing file or not
+     * @param encoding character set name
+     * @return the writer, to be closed by the caller
+     * @throws IOException if an I/O error occurs
+     * @since 3.11.1
+     */
+    public static Writer newWriter(File file, boolean append, String encoding) throws IOException {
         Files.createDirectories(file.getParentFile().toPath());
 
         OpenOption appendOption = append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING;
 
-        try (Writer writer = Files.newBufferedWriter(
+        return Files.newBufferedWriter(
                 file.toPath(),
                 Charset.forName(encoding),
                 appendOption,
                 StandardOpenOption.CREATE,
-                StandardOpenOption.WRITE)) {
-            writer.write(string);
-        }
+                StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Opens a buffered stream to the specified file, creating its parent directories if needed.
+     *
+     * @param file the file to write to
+     * @param append append to existing file or not
+     * @return the stream, to be closed by the caller
+     * @throws IOException if an I/O error occurs
+     * @since 3.11.1
+     */
+    public static OutputStream newOutputStream(File file, boolean append) throws IOException {
+        Files.createDirectories(file.getParentFile().toPath());
+
+        OpenOption appendOption = append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING;
+
+        return new BufferedOutputStream(Files.newOutputStream(
+                file.toPath(), appendOption, StandardOpenOption.CREATE, StandardOpenOption.WRITE));
     }
 
     /**
@@ -259,6 +330,22 @@ public final class DependencyUtil {
         }
     }
 
+    /**
+     * Writes each line of some content to the log at info level, as soon as it is complete, holding the lock of
+     * {@link #log(String, Log)} until the content is written, so that its lines are not interleaved with the ones of
+     * modules built in parallel.
+     *
+     * @param content the content to write
+     * @param log where to log information
+     * @throws IOException if an I/O error occurs
+     * @since 3.11.1
+     */
+    public static synchronized void log(ContentWriter<Writer> content, Log log) throws IOException {
+        try (Writer writer = new LogWriter(log)) {
+            content.writeTo(writer);
+        }
+    }
+
     /**
      * Clean up configuration string before it can be tokenized.
      *
@@ -274,4 +361,43 @@ public final class DependencyUtil {
 
         return ret;
     }
+
+    /**
+     * Quotes a string as a JSON string, escaping quotes, backslashes and control characters.
+     *
+     * @param value the string to quote, or {@code null}
+     * @return the JSON string, or {@code null} as a JSON literal
+     * @since 3.11.1
+     */
+    public static String quoteJson(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            } else if (c < 0x20) {
+                quoted.append(String.format("\\u%04x", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    /**
+     * Formats a size in bytes for humans, e.g. {@code 12.3 MB}.
+     *
+     * @param bytes the size in bytes
+     * @return the formatted size
+     * @since 3.11.1
+     */
+    public static String formatSize(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        int unit = (63 - Long.numberOfLeadingZeros(bytes)) / 10;
+        return String.format(Locale.ROOT, "%.1f %sB", bytes / (double) (1L << (unit * 10)), "KMGTPE".charAt(unit - 1));
+    }
 }
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.utils;
+
+import java.io.IOException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Deletes files and directory trees, keeping count of the files and bytes deleted. A file which cannot be deleted
+ * does not stop the deletion of the others: it is recorded, and its parent directories are kept.
+ * <p>
+ * One instance can be shared by threads deleting different trees.
+ *
+ * @since 3.11.1
+ */
+public class FileDeleter {
+
+    private final AtomicLong deletedFiles = new AtomicLong();
+
+    private final AtomicLong deletedBytes = new AtomicLong();
+
+    private final List<Path> failures = new ArrayList<>();
+
+    /**
+     * Deletes a file, or a directory and everything below it. A path which does not exist is ignored.
+     *
+     * @param path the file or directory to delete
+     */
+    public void delete(Path path) {
+        try {
+            Files.walkFileTree(path, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    try {
+                        Files.delete(file);
+                        deletedFiles.incrementAndGet();
+                        deletedBytes.addAndGet(attributes.size());
+                    } catch (NoSuchFileException e) {
+                        // deleted meanwhile
+                    } catch (IOException e) {
+                        addFailure(file);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exception) {
+                    if (!(exception instanceof NoSuchFileException)) {
+                        addFailure(file);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path directory, IOException exception) {
+                    try {
+                        Files.delete(directory);
+                    } catch (NoSuchFileException e) {
+                        // deleted meanwhile
+                    } catch (DirectoryNotEmptyException e) {
+                        // keeps a file which could not be deleted, and is recorded already
+                    } catch (IOException e) {
+                        addFailure(directory);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            addFailure(path);
+        }
+    }
+
+    /**
+     * Deletes files and directory trees, concurrently when there are several threads. A path below another one of
+     * the collection is deleted with it.
+     *
+     * @param paths the files and directories to delete
+     * @param threads the number of threads deleting
+     * @throws InterruptedException if interrupted while waiting for the deletions
+     */
+    public void delete(Collection<Path> paths, int threads) throws InterruptedException {
+        Set<Path> all = new HashSet<>(paths);
+        List<Path> roots =
+                all.stream().filter(path -> !hasAncestorIn(path, all)).collect(Collectors.toList());
+        if (threads <= 1 || roots.size() <= 1) {
+            roots.forEach(this::delete);
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, roots.size()));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Path root : roots) {
+                futures.add(executor.submit(() -> delete(root)));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    // delete(Path) records I/O failures, anything else is a bug
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static boolean hasAncestorIn(Path path, Set<Path> paths) {
+        for (Path parent = path.getParent(); parent != null; parent = parent.getParent()) {
+            if (paths.contains(parent)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void addFailure(Path path) {
+        synchronized (failures) {
+            failures.add(path);
+        }
+    }
+
+    /**
+     * @return the number of files deleted so far
+     */
+    public long getDeletedFiles() {
+        return deletedFiles.get();
+    }
+
+    /**
+     * @return the total size of the files deleted so far
+     */
+    public long getDeletedBytes() {
+        return deletedBytes.get();
+    }
+
+    /**
+     * @return the files and directories which could not be deleted
+     */
+    public List<Path> getFailures() {
+        synchronized (failures) {
+            return new ArrayList<>(failures);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.utils;
+
+import java.util.Locale;
+
+/**
+ * How {@link CopyUtil} materializes a file at its destination.
+ *
+ * @since 3.11.1
+ */
+public enum LinkStrategy {
+    /**
+     * Copy the file.
+     */
+    COPY,
+
+    /**
+     * Create a hard link to the file, falling back to a copy if the destination is on another file store or the file
+     * system does not support hard links.
+     */
+    HARDLINK,
+
+    /**
+     * Create a symbolic link to the file, falling back to a copy if the file system does not support symbolic links.
+     */
+    SYMLINK;
+
+    /**
+     * Parses a strategy name, ignoring case.
+     *
+     * @param name the strategy name, {@code null} or empty for {@link #COPY}
+     * @return the strategy
+     * @throws IllegalArgumentException if the name is not a known strategy
+     */
+    public static LinkStrategy fromString(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            return COPY;
+        }
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+}
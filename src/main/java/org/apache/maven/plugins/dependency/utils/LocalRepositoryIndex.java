@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Index of the version directories of a local repository, with their size and the last time they were used. The
+ * directory tree is walked concurrently, one task per directory.
+ * <p>
+ * A version directory is recognized by its files, whose names start with the name of the artifact directory
+ * above it, like {@code junit/junit/4.13.2/junit-4.13.2.jar}. Since only the last segments of the layout are relied
+ * upon, this works for split local repositories too.
+ *
+ * @since 3.11.1
+ */
+public class LocalRepositoryIndex {
+
+    private final Path basedir;
+
+    private final List<Entry> entries;
+
+    private LocalRepositoryIndex(Path basedir, List<Entry> entries) {
+        this.basedir = basedir;
+        this.entries = entries;
+    }
+
+    /**
+     * @param basedir the base directory of the local repository
+     * @param threads the number of threads walking the directory tree
+     * @return the index of the version directories found
+     * @throws IOException if a directory cannot be read
+     */
+    public static LocalRepositoryIndex scan(Path basedir, int threads) throws IOException {
+        Queue<Entry> entries = new ConcurrentLinkedQueue<>();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.invoke(new ScanTask(basedir, entries));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            pool.shutdownNow();
+        }
+        List<Entry> sorted = new ArrayList<>(entries);
+        sorted.sort(null);
+        return new LocalRepositoryIndex(basedir, sorted);
+    }
+
+    /**
+     * @return the base directory of the local repository
+     */
+    public Path getBasedir() {
+        return basedir;
+    }
+
+    /**
+     * @return the version directories, least recently used first
+     */
+    public List<Entry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * @return the total size of the version directories
+     */
+    public long getSize() {
+        return entries.stream().mapToLong(Entry::getSize).sum();
+    }
+
+    /**
+     * A version directory of the local repository.
+     */
+    public static final class Entry implements Comparable<Entry> {
+
+        private final Path directory;
+
+        private final long size;
+
+        private final long lastUsed;
+
+        Entry(Path directory, long size, long lastUsed) {
+            this.directory = directory;
+            this.size = size;
+            this.lastUsed = lastUsed;
+        }
+
+        /**
+         * @return the version directory
+         */
+        public Path getDirectory() {
+            return directory;
+        }
+
+        /**
+         * @return the total size of the files of the version directory
+         */
+        public long getSize() {
+            return size;
+        }
+
+        /**
+         * The last access time is only meaningful on file systems recording it; the last modification time, updated
+         * when an artifact is downloaded again, is used otherwise.
+         *
+         * @return the last time, in milliseconds, one of the files of the version directory was accessed or modified
+         */
+        public long getLastUsed() {
+            return lastUsed;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int comparison = Long.compare(lastUsed, other.lastUsed);
+            return comparison != 0 ? comparison : directory.compareTo(other.directory);
+        }
+
+        @Override
+        public String toString() {
+            return directory.toString();
+        }
+    }
+
+    private static final class ScanTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Path directory;
+
+        private final transient Queue<Entry> entries;
+
+        ScanTask(Path directory, Queue<Entry> entries) {
+            this.directory = directory;
+            this.entries = entries;
+        }
+
+        @Override
+        protected void compute() {
+            List<ScanTask> subtasks = new ArrayList<>();
+            String artifactPrefix = directory.getParent() != null
+                    ? directory.getParent().getFileName() + "-"
+                    : null;
+            boolean versionDirectory = false;
+            long size = 0;
+            long lastUsed = 0;
+            try (DirectoryStream<Path> children = Files.newDirectoryStream(directory)) {
+                for (Path child : children) {
+                    BasicFileAttributes attributes =
+                            Files.readAttributes(child, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                    if (attributes.isDirectory()) {
+                        subtasks.add(new ScanTask(child, entries));
+                    } else if (attributes.isRegularFile()) {
+                        size += attributes.size();
+                        lastUsed = Math.max(
+                                lastUsed,
+                                Math.max(
+                                        attributes.lastAccessTime().toMillis(),
+                                        attributes.lastModifiedTime().toMillis()));
+                        versionDirectory |= artifactPrefix != null && isArtifactFile(child, artifactPrefix);
+                    }
+                }
+            } catch (NoSuchFileException e) {
+                // deleted meanwhile
+                return;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            if (versionDirectory) {
+                entries.add(new Entry(directory, size, lastUsed));
+            } else {
+                invokeAll(subtasks);
+            }
+        }
+
+        /**
+         * The metadata of an artifact directory may start like the files of a version directory, e.g.
+         * {@code maven-metadata-central.xml} in {@code org/apache/maven/maven}.
+         */
+        private static boolean isArtifactFile(Path file, String artifactPrefix) {
+            String name = file.getFileName().toString();
+            return name.startsWith(artifactPrefix) && !name.startsWith("maven-metadata");
+        }
+    }
+}
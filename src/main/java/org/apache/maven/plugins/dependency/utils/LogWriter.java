@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.utils;
+
+import java.io.Writer;
+
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * A writer logging each line written to it at info level, as soon as the line is complete, like
+ * {@link DependencyUtil#log(String, Log)} does for a whole string. Only the current line is kept in memory; an
+ * unterminated last line is logged on {@link #close()}.
+ *
+ * @since 3.11.1
+ */
+public class LogWriter extends Writer {
+
+    private final Log log;
+
+    private final StringBuilder line = new StringBuilder();
+
+    /**
+     * @param log the log to write the lines to
+     */
+    public LogWriter(Log log) {
+        this.log = log;
+    }
+
+    @Override
+    public void write(char[] buffer, int offset, int length) {
+        int start = offset;
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            if (buffer[i] == '\n') {
+                line.append(buffer, start, i - start);
+                logLine();
+                start = i + 1;
+            }
+        }
+        line.append(buffer, start, end - start);
+    }
+
+    @Override
+    public void write(String string, int offset, int length) {
+        int start = offset;
+        int end = offset + length;
+        for (int i = string.indexOf('\n', start); i >= 0 && i < end; i = string.indexOf('\n', start)) {
+            line.append(string, start, i);
+            logLine();
+            start = i + 1;
+        }
+        line.append(string, start, end);
+    }
+
+    private void logLine() {
+        int length = line.length();
+        if (length > 0 && line.charAt(length - 1) == '\r') {
+            line.setLength(length - 1);
+        }
+        log.info(line.toString());
+        line.setLength(0);
+    }
+
+    /**
+     * Does nothing: a line is logged once complete.
+     */
+    @Override
+    public void flush() {
+        // lines are logged as they are completed
+    }
+
+    /**
+     * Logs the last line, if it is not terminated.
+     */
+    @Override
+    public void close() {
+        if (line.length() > 0) {
+            logLine();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.codehaus.plexus.util.xml.XmlStreamReader;
+import org.codehaus.plexus.util.xml.pull.MXParser;
+import org.codehaus.plexus.util.xml.pull.XmlPullParser;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+
+/**
+ * Reads the {@code <parent>} coordinates of POM files with a pull parser, without building their model. Results
+ * are kept for the whole Maven session, so each distinct POM is parsed once.
+ *
+ * @since 3.11.1
+ */
+public class ParentPomReader {
+
+    private static final String KEY = ParentPomReader.class.getName();
+
+    private final Map<File, Optional<Artifact>> parents = new ConcurrentHashMap<>();
+
+    /**
+     * @param session the repository system session
+     * @return the reader of the session, created on first use
+     */
+    public static ParentPomReader of(RepositorySystemSession session) {
+        SessionData data = session.getData();
+        Object reader = data.get(KEY);
+        if (reader == null) {
+            data.set(KEY, null, new ParentPomReader());
+            reader = data.get(KEY);
+        }
+        return (ParentPomReader) reader;
+    }
+
+    /**
+     * @param pom a resolved POM artifact
+     * @return the POM artifact of its parent, or empty if it has none
+     * @throws IOException if the POM cannot be parsed, or its parent coordinates are incomplete or use expressions
+     */
+    public Optional<Artifact> getParent(Artifact pom) throws IOException {
+        File file = pom.getFile();
+        Optional<Artifact> parent = parents.get(file);
+        if (parent == null) {
+            parent = readParent(file);
+            parents.put(file, parent);
+        }
+        return parent;
+    }
+
+    private static Optional<Artifact> readParent(File file) throws IOException {
+        String groupId = null;
+        String artifactId = null;
+        String version = null;
+        try (Reader reader = new XmlStreamReader(file)) {
+            MXParser parser = new MXParser();
+            parser.setInput(reader);
+            boolean inParent = false;
+            int eventType = parser.getEventType();
+            while (eventType != XmlPullParser.END_DOCUMENT) {
+                if (eventType == XmlPullParser.START_TAG) {
+                    if (parser.getDepth() == 2 && "parent".equals(parser.getName())) {
+                        inParent = true;
+                    } else if (inParent && parser.getDepth() == 3) {
+                        // nextText() moves to the matching end tag
+                        String name = parser.getName();
+                        String value = parser.nextText().trim();
+                        if ("groupId".equals(name)) {
+                            groupId = value;
+                        } else if ("artifactId".equals(name)) {
+                            artifactId = value;
+                        } else if ("version".equals(name)) {
+                            version = value;
+                        }
+                    }
+                } else if (eventType == XmlPullParser.END_TAG && inParent && parser.getDepth() == 2) {
+                    break;
+                }
+                eventType = parser.next();
+            }
+            if (!inParent) {
+                return Optional.empty();
+            }
+        } catch (XmlPullParserException e) {
+            throw new IOException("Failed to parse " + file + ": " + e.getMessage(), e);
+        }
+
+        if (isEmpty(groupId) || isEmpty(artifactId) || isEmpty(version)) {
+            throw new IOException("Incomplete parent coordinates in " + file);
+        }
+        if ((groupId + artifactId + version).contains("${")) {
+            throw new IOException("Parent coordinates in " + file + " use expressions");
+        }
+        return Optional.of(new DefaultArtifact(groupId, artifactId, "", "pom", version));
+    }
+
+    private static boolean isEmpty(String value) {
+        return value == null || value.isEmpty();
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * What a purge of the local repository would delete: the files and directories to delete, what each one is deleted
+ * for, and how many files and bytes it holds. Written as JSON, e.g.
+ *
+ * <pre>
+ * {
+ *   "localRepository": "/home/user/.m2/repository",
+ *   "files": 4,
+ *   "bytes": 123456,
+ *   "targets": [
+ *     {
+ *       "path": "/home/user/.m2/repository/junit/junit/4.13.2",
+ *       "files": 4,
+ *       "bytes": 123456,
+ *       "reasons": ["junit:junit:jar:4.13.2"]
+ *     }
+ *   ]
+ * }
+ * </pre>
+ *
+ * @since 3.11.1
+ */
+public class PurgeReport {
+
+    private final Path localRepository;
+
+    private final Map<Path, Set<String>> targets = new LinkedHashMap<>();
+
+    private final Map<Path, long[]> usages = new LinkedHashMap<>();
+
+    /**
+     * @param localRepository the base directory of the local repository
+     */
+    public PurgeReport(Path localRepository) {
+        this.localRepository = localRepository;
+    }
+
+    /**
+     * @param target a file or directory which would be deleted
+     * @param reason what it would be deleted for, e.g. an artifact or a manual include pattern
+     */
+    public void addTarget(Path target, String reason) {
+        targets.computeIfAbsent(target, t -> new LinkedHashSet<>()).add(reason);
+    }
+
+    /**
+     * Counts the files and bytes of the targets, concurrently when there are several threads. A target below another
+     * one is merged into it, so nothing is counted twice.
+     *
+     * @param threads the number of threads walking the targets
+     * @throws IOException if a target cannot be walked
+     * @throws InterruptedException if interrupted while waiting for the walks
+     */
+    public void measure(int threads) throws IOException, InterruptedException {
+        for (Iterator<Map.Entry<Path, Set<String>>> it = targets.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Path, Set<String>> target = it.next();
+            for (Path parent = target.getKey().getParent(); parent != null; parent = parent.getParent()) {
+                Set<String> reasons = targets.get(parent);
+                if (reasons != null) {
+                    reasons.addAll(target.getValue());
+                    it.remove();
+                    break;
+                }
+            }
+        }
+
+        List<Path> paths = new ArrayList<>(targets.keySet());
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, paths.size())));
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (Path path : paths) {
+                futures.add(executor.submit(() -> measure(path)));
+            }
+            usages.clear();
+            for (int i = 0; i < paths.size(); i++) {
+                usages.put(paths.get(i), futures.get(i).get());
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long[] measure(Path path) throws IOException {
+        long[] usage = new long[2];
+        try {
+            Files.walkFileTree(path, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    usage[0]++;
+                    usage[1] += attributes.size();
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (NoSuchFileException e) {
+            // nothing to delete
+        }
+        return usage;
+    }
+
+    /**
+     * @return the number of targets, once {@link #measure(int) measured}
+     */
+    public int getTargetCount() {
+        return usages.size();
+    }
+
+    /**
+     * @return the number of files which would be deleted, once {@link #measure(int) measured}
+     */
+    public long getFiles() {
+        return usages.values().stream().mapToLong(usage -> usage[0]).sum();
+    }
+
+    /**
+     * @return the number of bytes which would be freed, once {@link #measure(int) measured}
+     */
+    public long getBytes() {
+        return usages.values().stream().mapToLong(usage -> usage[1]).sum();
+    }
+
+    /**
+     * Writes the report as JSON, once {@link #measure(int) measured}.
+     *
+     * @param file the report file
+     * @throws IOException if the report cannot be written
+     */
+    public void write(File file) throws IOException {
+        if (file.getParentFile() != null) {
+            Files.createDirectories(file.getParentFile().toPath());
+        }
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            write(writer);
+        }
+    }
+
+    /**
+     * Writes the report as JSON, once {@link #measure(int) measured}.
+     *
+     * @param writer where to write the report
+     * @throws IOException if the report cannot be written
+     */
+    public void write(Writer writer) throws IOException {
+        String eol = System.lineSeparator();
+        writer.write("{" + eol);
+        writer.write("  \"localRepository\": " + DependencyUtil.quoteJson(localRepository.toString()) + "," + eol);
+        writer.write("  \"files\": " + getFiles() + "," + eol);
+        writer.write("  \"bytes\": " + getBytes() + "," + eol);
+        writer.write("  \"targets\": [");
+        String separator = eol;
+        for (Map.Entry<Path, long[]> usage : usages.entrySet()) {
+            writer.write(separator);
+            writer.write("    {" + eol);
+            writer.write("      \"path\": " + DependencyUtil.quoteJson(usage.getKey().toString()) + "," + eol);
+            writer.write("      \"files\": " + usage.getValue()[0] + "," + eol);
+            writer.write("      \"bytes\": " + usage.getValue()[1] + "," + eol);
+            writer.write("      \"reasons\": [");
+            String reasonSeparator = "";
+            for (String reason : targets.get(usage.getKey())) {
+                writer.write(reasonSeparator + DependencyUtil.quoteJson(reason));
+                reasonSeparator = ", ";
+            }
+            writer.write("]" + eol);
+            writer.write("    }");
+            separator = "," + eol;
+        }
+        writer.write(usages.isEmpty() ? "]" + eol : eol + "  ]" + eol);
+        writer.write("}" + eol);
+    }
+}
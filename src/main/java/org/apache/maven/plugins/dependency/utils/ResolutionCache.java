@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.repository.WorkspaceRepository;
+import org.eclipse.aether.resolution.ArtifactResult;
+
+/**
+ * Cache of the artifacts resolved and the descriptors read by {@link ResolverUtil}, shared by all the executions
+ * of the plugin's goals in a Maven session, including the ones running concurrently in a parallel build.
+ * <p>
+ * Entries are keyed by the requested coordinates, the local repository and the remote repositories. Failures and
+ * artifacts resolved from the reactor are not cached, since they may change while the session goes on.
+ *
+ * @since 3.11.1
+ */
+public class ResolutionCache {
+
+    private static final String KEY = ResolutionCache.class.getName();
+
+    private final Map<Key, Artifact> artifacts = new ConcurrentHashMap<>();
+
+    private final Map<Key, Artifact> descriptors = new ConcurrentHashMap<>();
+
+    private final AtomicLong artifactHits = new AtomicLong();
+
+    private final AtomicLong artifactMisses = new AtomicLong();
+
+    private final AtomicLong descriptorHits = new AtomicLong();
+
+    private final AtomicLong descriptorMisses = new AtomicLong();
+
+    /**
+     * @param session the repository system session
+     * @return the cache of the session, created on first use
+     */
+    public static ResolutionCache of(RepositorySystemSession session) {
+        // get and compare-and-set rather than computeIfAbsent, which older Maven versions lack
+        SessionData data = session.getData();
+        Object cache = data.get(KEY);
+        if (cache == null) {
+            data.set(KEY, null, new ResolutionCache());
+            cache = data.get(KEY);
+        }
+        return (ResolutionCache) cache;
+    }
+
+    /**
+     * @param session the repository system session, may be {@code null}
+     * @return the cache of the session, or {@code null} if nothing was cached in it yet
+     */
+    public static ResolutionCache find(RepositorySystemSession session) {
+        if (session == null || session.getData() == null) {
+            return null;
+        }
+        return (ResolutionCache) session.getData().get(KEY);
+    }
+
+    /**
+     * An artifact whose file was deleted since, e.g. by {@code purge-local-repository}, is not returned: it has to be
+     * resolved again.
+     *
+     * @param session the repository system session
+     * @param artifact the requested artifact
+     * @param repositories the remote repositories
+     * @return the artifact resolved earlier for the same request, or {@code null}
+     */
+    public Artifact getArtifact(
+            RepositorySystemSession session, Artifact artifact, List<RemoteRepository> repositories) {
+        Key key = new Key(artifact.toString(), session, repositories);
+        Artifact cached = artifacts.get(key);
+        if (cached != null && cached.getFile() != null && !cached.getFile().exists()) {
+            artifacts.remove(key, cached);
+            cached = null;
+        }
+        return count(cached, artifactHits, artifactMisses);
+    }
+
+    /**
+     * Caches the artifact of a successful result, unless it comes from the reactor.
+     *
+     * @param session the repository system session
+     * @param result the resolution result
+     */
+    public void putArtifact(RepositorySystemSession session, ArtifactResult result) {
+        if (result.isResolved() && !(result.getRepository() instanceof WorkspaceRepository)) {
+            artifacts.put(
+                    new Key(
+                            result.getRequest().getArtifact().toString(),
+                            session,
+                            result.getRequest().getRepositories()),
+                    result.getArtifact());
+        }
+    }
+
+    /**
+     * Descriptors are shared by all the artifacts with the same {@code groupId:artifactId:version}.
+     *
+     * @param session the repository system session
+     * @param artifact the artifact whose descriptor is requested
+     * @param repositories the remote repositories
+     * @return the artifact of the descriptor read earlier, holding the relocated coordinates if any, or {@code null}
+     */
+    public Artifact getDescriptorArtifact(
+            RepositorySystemSession session, Artifact artifact, List<RemoteRepository> repositories) {
+        return count(
+                descriptors.get(new Key(getVersionKey(artifact), session, repositories)),
+                descriptorHits,
+                descriptorMisses);
+    }
+
+    /**
+     * @param session the repository system session
+     * @param artifact the artifact whose descriptor was read
+     * @param repositories the remote repositories
+     * @param descriptorArtifact the artifact of the descriptor
+     */
+    public void putDescriptorArtifact(
+            RepositorySystemSession session,
+            Artifact artifact,
+            List<RemoteRepository> repositories,
+            Artifact descriptorArtifact) {
+        descriptors.put(new Key(getVersionKey(artifact), session, repositories), descriptorArtifact);
+    }
+
+    private static Artifact count(Artifact artifact, AtomicLong hits, AtomicLong misses) {
+        (artifact != null ? hits : misses).incrementAndGet();
+        return artifact;
+    }
+
+    private static String getVersionKey(Artifact artifact) {
+        return artifact.getGroupId() + ':' + artifact.getArtifactId() + ':' + artifact.getVersion();
+    }
+
+    @Override
+    public String toString() {
+        return "artifacts: " + artifactHits + " hits, " + artifactMisses + " misses; descriptors: " + descriptorHits
+                + " hits, " + descriptorMisses + " misses";
+    }
+
+    private static final class Key {
+
+        private final String coordinates;
+
+        private final LocalRepository localRepository;
+
+        private final List<RemoteRepository> repositories;
+
+        private final int hashCode;
+
+        Key(String coordinates, RepositorySystemSession session, List<RemoteRepository> repositories) {
+            this.coordinates = coordinates;
+            this.localRepository = session.getLocalRepository();
+            this.repositories = repositories != null ? new ArrayList<>(repositories) : new ArrayList<>();
+            this.hashCode = Objects.hash(coordinates, localRepository, this.repositories);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return coordinates.equals(other.coordinates)
+                    && Objects.equals(localRepository, other.localRepository)
+                    && repositories.equals(other.repositories);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -24,26 +24,42 @@ import javax.inject.Provider;
 import javax.inject.Singleton;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.apache.maven.RepositoryUtils;
 import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.DependencyManagement;
+import org.apache.maven.model.Model;
 import org.apache.maven.model.ModelBase;
+import org.apache.maven.model.Parent;
 import org.apache.maven.model.Plugin;
 import org.apache.maven.model.PluginContainer;
 import org.apache.maven.model.PluginManagement;
+import org.apache.maven.model.Profile;
 import org.apache.maven.model.ReportPlugin;
 import org.apache.maven.model.Reporting;
+import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
 import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectBuildingRequest;
 import org.apache.maven.project.artifact.ProjectArtifactMetadata;
+import org.apache.maven.shared.utils.introspection.ReflectionValueExtractor;
+import org.codehaus.plexus.util.xml.XmlStreamReader;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 import org.eclipse.aether.DefaultRepositoryCache;
 import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.eclipse.aether.RepositorySystem;
@@ -73,6 +89,8 @@ import org.eclipse.aether.resolution.DependencyResolutionException;
 import org.eclipse.aether.resolution.DependencyResult;
 import org.eclipse.aether.util.artifact.SubArtifact;
 import org.eclipse.aether.util.graph.visitor.PreorderNodeListGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Helper class for using Resolver API.
@@ -81,6 +99,15 @@ import org.eclipse.aether.util.graph.visitor.PreorderNodeListGenerator;
 @Singleton
 public class ResolverUtil {
 
+    private static final Pattern EXPRESSION = Pattern.compile("\\$\\{([^}]+)}");
+
+    /**
+     * The number of times the values of properties are interpolated in turn, to stop on cyclic references.
+     */
+    private static final int MAX_INTERPOLATION_DEPTH = 10;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResolverUtil.class);
+
     private final RepositorySystem repositorySystem;
 
     private final Provider<MavenSession> mavenSessionProvider;
@@ -136,6 +163,21 @@ public class ResolverUtil {
         repositorySystem.install(repositorySystemSession, installRequest);
     }
 
+    /**
+     * Installs resolved artifacts into the local repository associated with the supplied repository session, in a
+     * single request.
+     *
+     * @param artifacts artifacts to install, with their files
+     * @param repositorySystemSession repository session containing the target local repository
+     * @throws InstallationException if an artifact could not be installed
+     * @since 3.11.1
+     */
+    public void installArtifacts(Collection<Artifact> artifacts, RepositorySystemSession repositorySystemSession)
+            throws InstallationException {
+        InstallRequest installRequest = new InstallRequest().setArtifacts(artifacts);
+        repositorySystem.install(repositorySystemSession, installRequest);
+    }
+
     /**
      * Collects the transitive dependencies.
      *
@@ -183,11 +225,106 @@ public class ResolverUtil {
     public Artifact resolveArtifact(
             Artifact artifact, List<RemoteRepository> repositories, RepositorySystemSession session)
             throws ArtifactResolutionException, ArtifactDescriptorException {
+        return resolveArtifactDirectly(relocateArtifact(artifact, repositories, session), repositories, session);
+    }
+
+    /**
+     * Read the descriptor of a given artifact, to move it to the coordinates it is relocated to, as
+     * {@link #resolveArtifact(Artifact, List)} does before resolving it. The artifacts can then be resolved together
+     * with {@link #resolveArtifacts(Collection, List)}.
+     *
+     * @param artifact     an artifact to relocate
+     * @param repositories remote repositories list
+     * @return the artifact at its relocated coordinates, or at its own coordinates if it is not relocated
+     * @throws ArtifactDescriptorException if the descriptor could not be read
+     * @since 3.11.1
+     */
+    public Artifact relocateArtifact(Artifact artifact, List<RemoteRepository> repositories)
+            throws ArtifactDescriptorException {
+        return relocateArtifact(artifact, repositories, mavenSessionProvider.get().getRepositorySession());
+    }
+
+    private Artifact relocateArtifact(
+            Artifact artifact, List<RemoteRepository> repositories, RepositorySystemSession session)
+            throws ArtifactDescriptorException {
+        ResolutionCache cache = ResolutionCache.of(session);
+        Artifact relocated = cache.getDescriptorArtifact(session, artifact, repositories);
+        if (relocated != null) {
+            return relocate(artifact, relocated);
+        }
 
         ArtifactDescriptorResult artifactDescriptorResult = repositorySystem.readArtifactDescriptor(
                 session, new ArtifactDescriptorRequest(artifact, repositories, null));
+        cache.putDescriptorArtifact(session, artifact, repositories, artifactDescriptorResult.getArtifact());
+        return artifactDescriptorResult.getArtifact();
+    }
+
+    /**
+     * Resolve a given artifact without reading its descriptor, when its coordinates are already concrete,
+     * like the pom or the signature of a resolved dependency. A relocation found earlier in the session for the
+     * same coordinates is still applied. Artifacts with a version range or a meta version such as
+     * {@code LATEST} are resolved with {@link #resolveArtifact(Artifact, List)}.
+     *
+     * @param artifact     an artifact to resolve
+     * @param repositories remote repositories list
+     * @return resolved artifact
+     * @throws ArtifactResolutionException if the artifact could not be resolved
+     * @since 3.11.1
+     */
+    public Artifact resolveConcreteArtifact(Artifact artifact, List<RemoteRepository> repositories)
+            throws ArtifactResolutionException, ArtifactDescriptorException {
+        return resolveConcreteArtifact(artifact, repositories, mavenSessionProvider.get().getRepositorySession());
+    }
+
+    /**
+     * Resolve a given artifact without reading its descriptor when its coordinates are already concrete. Unlike
+     * {@link #resolveConcreteArtifact(Artifact, List)}, this can be called from threads other than the one
+     * executing the mojo.
+     *
+     * @param artifact     an artifact to resolve
+     * @param repositories remote repositories list
+     * @param session      a repository system session
+     * @return resolved artifact
+     * @throws ArtifactResolutionException if the artifact could not be resolved
+     * @since 3.11.1
+     */
+    public Artifact resolveConcreteArtifact(
+            Artifact artifact, List<RemoteRepository> repositories, RepositorySystemSession session)
+            throws ArtifactResolutionException, ArtifactDescriptorException {
+        if (!isConcrete(artifact.getVersion())) {
+            return resolveArtifact(artifact, repositories, session);
+        }
+        Artifact relocated = ResolutionCache.of(session).getDescriptorArtifact(session, artifact, repositories);
+        return resolveArtifactDirectly(
+                relocated != null ? relocate(artifact, relocated) : artifact, repositories, session);
+    }
+
+    private static boolean isConcrete(String version) {
+        return version != null
+                && !version.isEmpty()
+                && !"LATEST".equals(version)
+                && !"RELEASE".equals(version)
+                && version.indexOf('[') < 0
+                && version.indexOf('(') < 0;
+    }
 
-        return resolveArtifactDirectly(artifactDescriptorResult.getArtifact(), repositories, session);
+    /**
+     * Moves an artifact to the coordinates of the descriptor read for one of its siblings.
+     */
+    private static Artifact relocate(Artifact artifact, Artifact descriptorArtifact) {
+        if (artifact.getGroupId().equals(descriptorArtifact.getGroupId())
+                && artifact.getArtifactId().equals(descriptorArtifact.getArtifactId())
+                && artifact.getVersion().equals(descriptorArtifact.getVersion())) {
+            return artifact;
+        }
+        return new DefaultArtifact(
+                descriptorArtifact.getGroupId(),
+                descriptorArtifact.getArtifactId(),
+                artifact.getClassifier(),
+                artifact.getExtension(),
+                descriptorArtifact.getVersion(),
+                artifact.getProperties(),
+                (File) null);
     }
 
     /**
@@ -214,11 +351,68 @@ public class ResolverUtil {
         }
     }
 
+    /**
+     * Resolve given artifacts in a single request, so the resolver can download them concurrently.
+     * <p>
+     * Unlike {@link #resolveArtifact(Artifact, List)}, the artifact descriptors are not read: this is meant for
+     * artifacts derived from already resolved ones, such as another classifier of a project dependency, whose
+     * relocations have already been applied.
+     *
+     * @param artifacts    artifacts to resolve
+     * @param repositories remote repositories list
+     * @return the results in the order of the given artifacts, including the ones which could not be resolved
+     * @since 3.11.1
+     */
+    public List<ArtifactResult> resolveArtifacts(Collection<Artifact> artifacts, List<RemoteRepository> repositories) {
+        RepositorySystemSession session = mavenSessionProvider.get().getRepositorySession();
+        ResolutionCache cache = ResolutionCache.of(session);
+
+        List<ArtifactResult> results = new ArrayList<>(artifacts.size());
+        List<ArtifactRequest> requests = new ArrayList<>();
+        for (Artifact artifact : artifacts) {
+            ArtifactRequest request = new ArtifactRequest(artifact, repositories, null);
+            Artifact cached = cache.getArtifact(session, artifact, repositories);
+            if (cached != null) {
+                results.add(new ArtifactResult(request).setArtifact(cached));
+            } else {
+                // filled in once the remaining requests are resolved
+                results.add(null);
+                requests.add(request);
+            }
+        }
+        if (requests.isEmpty()) {
+            return results;
+        }
+
+        List<ArtifactResult> resolved;
+        try {
+            resolved = repositorySystem.resolveArtifacts(session, requests);
+        } catch (ArtifactResolutionException e) {
+            // the results of the artifacts which could be resolved are kept
+            resolved = e.getResults();
+        }
+        Iterator<ArtifactResult> resolvedIterator = resolved.iterator();
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i) == null) {
+                ArtifactResult result = resolvedIterator.next();
+                cache.putArtifact(session, result);
+                results.set(i, result);
+            }
+        }
+        return results;
+    }
+
     private Artifact resolveArtifactDirectly(
             Artifact artifact, List<RemoteRepository> repositories, RepositorySystemSession session)
             throws ArtifactResolutionException {
+        ResolutionCache cache = ResolutionCache.of(session);
+        Artifact cached = cache.getArtifact(session, artifact, repositories);
+        if (cached != null) {
+            return cached;
+        }
         ArtifactRequest request = new ArtifactRequest(artifact, repositories, null);
         ArtifactResult result = repositorySystem.resolveArtifact(session, request);
+        cache.putArtifact(session, result);
         return result.getArtifact();
     }
 
@@ -230,9 +424,38 @@ public class ResolverUtil {
      * @throws ArtifactResolutionException if the artifact could not be resolved
      */
     public Artifact resolvePlugin(Plugin plugin) throws ArtifactResolutionException, ArtifactDescriptorException {
-        MavenSession session = mavenSessionProvider.get();
-        Artifact artifact = toArtifact(plugin);
-        return resolveArtifact(artifact, session.getCurrentProject().getRemotePluginRepositories());
+        return resolvePlugin(plugin, mavenSessionProvider.get());
+    }
+
+    /**
+     * Resolve given plugin artifact. Unlike {@link #resolvePlugin(Plugin)}, this can be called from threads other
+     * than the one executing the mojo.
+     *
+     * @param plugin a plugin to resolve
+     * @param session the Maven session
+     * @return resolved artifact
+     * @throws ArtifactResolutionException if the artifact could not be resolved
+     * @since 3.11.1
+     */
+    public Artifact resolvePlugin(Plugin plugin, MavenSession session)
+            throws ArtifactResolutionException, ArtifactDescriptorException {
+        return resolvePlugin(plugin, session.getCurrentProject().getRemotePluginRepositories(), session);
+    }
+
+    /**
+     * Resolve given plugin artifact from the plugin repositories of the project declaring it, which may not be the
+     * current project of the session.
+     *
+     * @param plugin a plugin to resolve
+     * @param repositories the plugin repositories
+     * @param session the Maven session
+     * @return resolved artifact
+     * @throws ArtifactResolutionException if the artifact could not be resolved
+     * @since 3.11.1
+     */
+    public Artifact resolvePlugin(Plugin plugin, List<RemoteRepository> repositories, MavenSession session)
+            throws ArtifactResolutionException, ArtifactDescriptorException {
+        return resolveArtifact(toArtifact(plugin, session), repositories, session.getRepositorySession());
     }
 
     /**
@@ -262,12 +485,20 @@ public class ResolverUtil {
     public List<Artifact> resolveDependencies(
             Artifact artifact, List<Dependency> dependencies, List<RemoteRepository> repositories)
             throws DependencyResolutionException {
-        MavenSession session = mavenSessionProvider.get();
+        return resolveDependencies(
+                artifact, dependencies, repositories, mavenSessionProvider.get().getRepositorySession());
+    }
 
+    private List<Artifact> resolveDependencies(
+            Artifact artifact,
+            List<Dependency> dependencies,
+            List<RemoteRepository> repositories,
+            RepositorySystemSession session)
+            throws DependencyResolutionException {
         CollectRequest collectRequest = new CollectRequest(new Dependency(artifact, null), dependencies, repositories);
         DependencyRequest request = new DependencyRequest(collectRequest, null);
 
-        DependencyResult result = repositorySystem.resolveDependencies(session.getRepositorySession(), request);
+        DependencyResult result = repositorySystem.resolveDependencies(session, request);
         return result.getArtifactResults().stream()
                 .map(ArtifactResult::getArtifact)
                 .collect(Collectors.toList());
@@ -296,6 +527,37 @@ public class ResolverUtil {
         return resolveDependencies(collectRequest, null);
     }
 
+    /**
+     * Collect transitive dependencies for artifact with managed dependencies, without resolving their files.
+     *
+     * @param rootArtifact a root artifact
+     * @param dependencies a list of dependencies for artifact
+     * @param managedDependencies a list of managed dependencies for artifact
+     * @param remoteProjectRepositories remote repositories list
+     * @return the artifacts of the dependency graph, root excluded
+     * @throws DependencyCollectionException if the dependency tree could not be built
+     * @since 3.11.1
+     */
+    public List<Artifact> collectDependenciesForArtifact(
+            Artifact rootArtifact,
+            List<Dependency> dependencies,
+            List<Dependency> managedDependencies,
+            List<RemoteRepository> remoteProjectRepositories)
+            throws DependencyCollectionException {
+        CollectRequest collectRequest =
+                new CollectRequest(dependencies, managedDependencies, remoteProjectRepositories);
+        collectRequest.setRootArtifact(rootArtifact);
+
+        CollectResult result =
+                repositorySystem.collectDependencies(mavenSessionProvider.get().getRepositorySession(), collectRequest);
+
+        PreorderNodeListGenerator nodeListGenerator = new PreorderNodeListGenerator();
+        result.getRoot().accept(nodeListGenerator);
+        return nodeListGenerator.getDependencies(true).stream()
+                .map(Dependency::getArtifact)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Resolve transitive dependencies for artifact with managed dependencies.
      *
@@ -343,22 +605,59 @@ public class ResolverUtil {
     public List<Artifact> resolveDependencies(
             final Plugin plugin, Predicate<org.apache.maven.model.Dependency> dependencyFilter)
             throws DependencyResolutionException {
+        return resolveDependencies(plugin, dependencyFilter, mavenSessionProvider.get());
+    }
 
-        MavenSession session = mavenSessionProvider.get();
+    /**
+     * Resolve transitive dependencies for plugin. Unlike {@link #resolveDependencies(Plugin, Predicate)}, this can be
+     * called from threads other than the one executing the mojo.
+     *
+     * @param plugin a plugin to resolve
+     * @param dependencyFilter a filter to apply to plugin dependencies
+     * @param session the Maven session
+     * @return list of transitive dependencies for plugin
+     * @throws DependencyResolutionException if the dependency tree could not be built or any dependency artifact could
+     *                                       not be resolved
+     * @since 3.11.1
+     */
+    public List<Artifact> resolveDependencies(
+            final Plugin plugin, Predicate<org.apache.maven.model.Dependency> dependencyFilter, MavenSession session)
+            throws DependencyResolutionException {
+        return resolveDependencies(
+                plugin, dependencyFilter, session.getCurrentProject().getRemoteProjectRepositories(), session);
+    }
+
+    /**
+     * Resolve transitive dependencies for plugin from the repositories of the project declaring it, which may not be
+     * the current project of the session.
+     *
+     * @param plugin a plugin to resolve
+     * @param dependencyFilter a filter to apply to plugin dependencies
+     * @param repositories the remote repositories
+     * @param session the Maven session
+     * @return list of transitive dependencies for plugin
+     * @throws DependencyResolutionException if the dependency tree could not be built or any dependency artifact could
+     *                                       not be resolved
+     * @since 3.11.1
+     */
+    public List<Artifact> resolveDependencies(
+            final Plugin plugin,
+            Predicate<org.apache.maven.model.Dependency> dependencyFilter,
+            List<RemoteRepository> repositories,
+            MavenSession session)
+            throws DependencyResolutionException {
 
-        org.eclipse.aether.artifact.Artifact artifact = toArtifact(plugin);
+        org.eclipse.aether.artifact.Artifact artifact = toArtifact(plugin, session);
         List<Dependency> pluginDependencies = plugin.getDependencies().stream()
                 .filter(dependencyFilter)
                 .map(d -> RepositoryUtils.toDependency(
                         d, session.getRepositorySession().getArtifactTypeRegistry()))
                 .collect(Collectors.toList());
 
-        return resolveDependencies(
-                artifact, pluginDependencies, session.getCurrentProject().getRemoteProjectRepositories());
+        return resolveDependencies(artifact, pluginDependencies, repositories, session.getRepositorySession());
     }
 
-    private Artifact toArtifact(Plugin plugin) {
-        MavenSession session = mavenSessionProvider.get();
+    private Artifact toArtifact(Plugin plugin, MavenSession session) {
         return new DefaultArtifact(
                 plugin.getGroupId(),
                 plugin.getArtifactId(),
@@ -545,6 +844,236 @@ public class ResolverUtil {
         return result;
     }
 
+    /**
+     * Retrieve the POMs a project is built from besides its own: its parents, the BOMs imported by the project or by
+     * its parents, and the BOMs these import in turn. The coordinates of an imported BOM are interpolated like the
+     * model builder does, against the effective model of the importing project and the properties of the build
+     * request. A BOM whose coordinates cannot be interpolated, or whose imports cannot be read, is reported as a
+     * warning.
+     *
+     * @param project a maven project
+     * @return the POM artifacts, without files
+     * @since 3.11.1
+     */
+    public List<Artifact> getProjectPoms(MavenProject project) {
+        ProjectBuildingRequest request = project.getProjectBuildingRequest();
+        Properties userProperties = request != null ? request.getUserProperties() : new Properties();
+        Properties systemProperties = request != null ? request.getSystemProperties() : new Properties();
+        List<RemoteRepository> repositories = project.getRemoteProjectRepositories();
+
+        Set<Artifact> poms = new LinkedHashSet<>();
+        List<Artifact> boms = new ArrayList<>();
+        for (MavenProject current = project; current != null; current = current.getParent()) {
+            // the imports inherited from the parents are interpolated in the project, as the model builder does
+            for (ModelBase base : concat(current.getOriginalModel(), current.getActiveProfiles())) {
+                for (org.apache.maven.model.Dependency bom : getImports(base)) {
+                    Artifact pom = toPom(bom, project.getModel(), userProperties, systemProperties);
+                    if (pom == null) {
+                        LOGGER.warn(
+                                "Ignoring the BOM {}:{}:{} imported by {}: its coordinates cannot be interpolated",
+                                bom.getGroupId(),
+                                bom.getArtifactId(),
+                                bom.getVersion(),
+                                current.getId());
+                    } else {
+                        boms.add(pom);
+                    }
+                }
+            }
+
+            org.apache.maven.artifact.Artifact parent = current.getParentArtifact();
+            if (parent == null) {
+                break;
+            }
+            // the coordinates of the parent artifact are the ones of the resolved model
+            poms.add(new DefaultArtifact(parent.getGroupId(), parent.getArtifactId(), "", "pom", parent.getVersion()));
+        }
+        for (Artifact bom : boms) {
+            addBom(bom, repositories, userProperties, systemProperties, poms);
+        }
+        return new ArrayList<>(poms);
+    }
+
+    /**
+     * Retrieve the BOMs the model builder imports when it reads a POM from a repository: the BOMs imported by the POM
+     * or by its parents, and the BOMs these import in turn. A BOM whose coordinates cannot be interpolated, or whose
+     * imports cannot be read, is reported as a warning.
+     *
+     * @param pom          a POM artifact
+     * @param repositories remote repositories list
+     * @param request      the build request, whose properties take part in the interpolation, or {@code null}
+     * @return the POM artifacts of the BOMs, without files
+     * @since 3.11.1
+     */
+    public List<Artifact> getImportedPoms(
+            Artifact pom, List<RemoteRepository> repositories, ProjectBuildingRequest request) {
+        Properties userProperties = request != null ? request.getUserProperties() : new Properties();
+        Properties systemProperties = request != null ? request.getSystemProperties() : new Properties();
+        Set<Artifact> poms = new LinkedHashSet<>();
+        addImports(pom, repositories, userProperties, systemProperties, poms);
+        return new ArrayList<>(poms);
+    }
+
+    /**
+     * Adds a BOM and the BOMs it imports, unless it was added already.
+     */
+    private void addBom(
+            Artifact bom,
+            List<RemoteRepository> repositories,
+            Properties userProperties,
+            Properties systemProperties,
+            Set<Artifact> poms) {
+        if (poms.add(bom)) {
+            addImports(bom, repositories, userProperties, systemProperties, poms);
+        }
+    }
+
+    /**
+     * Adds the BOMs a POM imports, or inherits imports of, and the BOMs these import in turn. The imports are
+     * interpolated against the POM, as the model builder does when it reads it.
+     */
+    private void addImports(
+            Artifact importing,
+            List<RemoteRepository> repositories,
+            Properties userProperties,
+            Properties systemProperties,
+            Set<Artifact> poms) {
+        List<Model> lineage = new ArrayList<>();
+        try {
+            for (Artifact pom = importing; pom != null; ) {
+                Model model = readModel(resolveConcreteArtifact(pom, repositories).getFile());
+                lineage.add(model);
+                Parent parent = model.getParent();
+                pom = parent != null
+                        ? new DefaultArtifact(
+                                parent.getGroupId(), parent.getArtifactId(), "", "pom", parent.getVersion())
+                        : null;
+            }
+        } catch (ArtifactResolutionException | ArtifactDescriptorException | IOException e) {
+            LOGGER.warn("Cannot read the BOMs imported by {}: {}", importing, e.getMessage());
+            return;
+        }
+
+        Model model = new Model();
+        model.setGroupId(importing.getGroupId());
+        model.setArtifactId(importing.getArtifactId());
+        model.setVersion(importing.getBaseVersion());
+        model.setParent(lineage.get(0).getParent());
+        for (int i = lineage.size() - 1; i >= 0; i--) {
+            model.getProperties().putAll(lineage.get(i).getProperties());
+        }
+        for (Model base : lineage) {
+            for (org.apache.maven.model.Dependency imported : getImports(base)) {
+                Artifact pom = toPom(imported, model, userProperties, systemProperties);
+                if (pom == null) {
+                    LOGGER.warn(
+                            "Ignoring the BOM {}:{}:{} imported by {}: its coordinates cannot be interpolated",
+                            imported.getGroupId(),
+                            imported.getArtifactId(),
+                            imported.getVersion(),
+                            importing);
+                } else {
+                    addBom(pom, repositories, userProperties, systemProperties, poms);
+                }
+            }
+        }
+    }
+
+    private static Model readModel(File file) throws IOException {
+        try (Reader reader = new XmlStreamReader(file)) {
+            return new MavenXpp3Reader().read(reader, false);
+        } catch (XmlPullParserException e) {
+            throw new IOException("Failed to parse " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static List<ModelBase> concat(ModelBase model, List<Profile> profiles) {
+        List<ModelBase> bases = new ArrayList<>();
+        if (model != null) {
+            bases.add(model);
+        }
+        if (profiles != null) {
+            bases.addAll(profiles);
+        }
+        return bases;
+    }
+
+    private static List<org.apache.maven.model.Dependency> getImports(ModelBase base) {
+        return Optional.ofNullable(base.getDependencyManagement())
+                .map(DependencyManagement::getDependencies)
+                .orElse(Collections.emptyList())
+                .stream()
+                .filter(d -> "import".equals(d.getScope()) && "pom".equals(d.getType()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return the POM artifact, or {@code null} if a coordinate is missing or cannot be interpolated
+     */
+    private static Artifact toPom(
+            org.apache.maven.model.Dependency dependency,
+            Model model,
+            Properties userProperties,
+            Properties systemProperties) {
+        String groupId = interpolate(dependency.getGroupId(), model, userProperties, systemProperties);
+        String artifactId = interpolate(dependency.getArtifactId(), model, userProperties, systemProperties);
+        String version = interpolate(dependency.getVersion(), model, userProperties, systemProperties);
+        if (groupId == null || artifactId == null || version == null) {
+            return null;
+        }
+        return new DefaultArtifact(groupId, artifactId, "", "pom", version);
+    }
+
+    /**
+     * Interpolates the expressions of a value in the order of the model builder: {@code project.*} expressions, then
+     * the user properties, the model properties and the system properties, which hold the {@code env.*} variables.
+     * Expressions found in the values of properties are interpolated too.
+     *
+     * @return the interpolated value, or {@code null} if the value is missing or an expression cannot be resolved
+     */
+    private static String interpolate(
+            String value, Model model, Properties userProperties, Properties systemProperties) {
+        for (int depth = 0; value != null && value.contains("${"); depth++) {
+            Matcher matcher = EXPRESSION.matcher(value);
+            if (depth == MAX_INTERPOLATION_DEPTH || !matcher.find()) {
+                return null;
+            }
+            StringBuffer result = new StringBuffer();
+            do {
+                String replacement = evaluate(matcher.group(1), model, userProperties, systemProperties);
+                if (replacement == null) {
+                    return null;
+                }
+                matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
+            } while (matcher.find());
+            matcher.appendTail(result);
+            value = result.toString();
+        }
+        return value;
+    }
+
+    private static String evaluate(
+            String expression, Model model, Properties userProperties, Properties systemProperties) {
+        if (expression.startsWith("project.") || expression.startsWith("pom.")) {
+            try {
+                Object value = ReflectionValueExtractor.evaluate(expression, model);
+                if (value != null) {
+                    return value.toString();
+                }
+            } catch (Exception e) {
+                // not a model expression, it may still be a property
+            }
+        }
+        String value = userProperties.getProperty(expression);
+        if (value == null) {
+            value = model.getProperties().getProperty(expression);
+        }
+        if (value == null) {
+            value = systemProperties.getProperty(expression);
+        }
+        return value;
+    }
+
     private Plugin toPlugin(ReportPlugin reportPlugin, MavenProject project) {
         // first look in the pluginManagement section
         Plugin plugin = Optional.ofNullable(project.getBuild().getPluginManagement())
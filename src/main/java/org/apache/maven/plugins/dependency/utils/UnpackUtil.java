@@ -23,15 +23,54 @@ import javax.inject.Named;
 import javax.inject.Singleton;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
 
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.plugins.dependency.fromConfiguration.ArtifactItem;
+import org.apache.maven.plugins.dependency.utils.markers.MarkerHandler;
 import org.codehaus.plexus.archiver.ArchiverException;
 import org.codehaus.plexus.archiver.UnArchiver;
 import org.codehaus.plexus.archiver.manager.ArchiverManager;
 import org.codehaus.plexus.archiver.manager.NoSuchArchiverException;
+import org.codehaus.plexus.archiver.zip.AbstractZipUnArchiver;
 import org.codehaus.plexus.archiver.zip.ZipUnArchiver;
 import org.codehaus.plexus.components.io.filemappers.FileMapper;
+import org.codehaus.plexus.components.io.fileselectors.FileInfo;
+import org.codehaus.plexus.components.io.fileselectors.FileSelector;
 import org.codehaus.plexus.components.io.fileselectors.IncludeExcludeFileSelector;
 import org.sonatype.plexus.build.incremental.BuildContext;
 
@@ -43,6 +82,11 @@ import org.sonatype.plexus.build.incremental.BuildContext;
 @Singleton
 public class UnpackUtil {
 
+    /**
+     * The state recorded for a directory entry, instead of its CRC and size.
+     */
+    private static final String DIRECTORY_STATE = "directory";
+
     /**
      * To look up Archiver/UnArchiver implementations.
      */
@@ -90,6 +134,319 @@ public class UnpackUtil {
             FileMapper[] fileMappers,
             Log logger)
             throws MojoExecutionException {
+        unpack(file, type, location, includes, excludes, encoding, ignorePermissions, fileMappers, null, logger);
+    }
+
+    /**
+     * Unpacks an archive, optionally incrementally: the CRC and size of the extracted entries are recorded in a
+     * state directory, so that unpacking a new version of the archive only rewrites the entries that changed and
+     * deletes the ones that vanished. The build context is then only refreshed for those paths.
+     *
+     * @param file              file to unpack
+     * @param type              file / artifact type
+     * @param location          the location
+     * @param includes          includes list
+     * @param excludes          excludes list
+     * @param encoding          the encoding
+     * @param ignorePermissions ignore permissions
+     * @param fileMappers       {@link FileMapper}s to be used for rewriting each target path, or {@code null} if no
+     *                          rewriting shall happen
+     * @param stateDirectory    the directory recording the extracted entries, or {@code null} to unpack everything
+     * @param logger            a Mojo logger
+     * @throws MojoExecutionException in case of an error
+     * @since 3.11.1
+     */
+    public void unpack(
+            File file,
+            String type,
+            File location,
+            String includes,
+            String excludes,
+            String encoding,
+            boolean ignorePermissions,
+            FileMapper[] fileMappers,
+            File stateDirectory,
+            Log logger)
+            throws MojoExecutionException {
+        Collection<File> changed = extract(
+                file,
+                type,
+                location,
+                includes,
+                excludes,
+                encoding,
+                ignorePermissions,
+                fileMappers,
+                stateDirectory,
+                logger);
+        changed.forEach(buildContext::refresh);
+    }
+
+    /**
+     * Unpacks several artifact items concurrently, using at most {@code threads} worker threads.
+     * <p>
+     * The entries of zip-family archives are listed before extraction. Archives writing to the same target path are
+     * reported and unpacked one after the other in their declaration order, so the result does not depend on thread
+     * scheduling. Archives whose entries cannot be listed upfront, such as tarballs, are unpacked alone: after every
+     * item declared before them and before every item declared after them, so the last declared item still wins.
+     * The marker of an item is set only if the item has been unpacked successfully.
+     *
+     * @param items             the artifact items to unpack, with their artifact file and output directory set
+     * @param ignorePermissions ignore permissions
+     * @param threads           maximum number of concurrent extractions, {@code 1} unpacks sequentially
+     * @param markerHandlers    provides the marker handler to set for each unpacked item
+     * @param logger            a Mojo logger
+     * @throws MojoExecutionException if at least one item could not be unpacked, listing every failed item
+     * @since 3.11.1
+     */
+    public void unpack(
+            List<ArtifactItem> items,
+            boolean ignorePermissions,
+            int threads,
+            Function<ArtifactItem, MarkerHandler> markerHandlers,
+            Log logger)
+            throws MojoExecutionException {
+        unpack(items, ignorePermissions, threads, markerHandlers, null, logger);
+    }
+
+    /**
+     * Unpacks several artifact items concurrently, optionally incrementally.
+     *
+     * @param items             the artifact items to unpack, with their artifact file and output directory set
+     * @param ignorePermissions ignore permissions
+     * @param threads           maximum number of concurrent extractions, {@code 1} unpacks sequentially
+     * @param markerHandlers    provides the marker handler to set for each unpacked item
+     * @param stateDirectory    the directory recording the extracted entries, or {@code null} to unpack everything
+     * @param logger            a Mojo logger
+     * @throws MojoExecutionException if at least one item could not be unpacked, listing every failed item
+     * @see #unpack(List, boolean, int, Function, Log)
+     * @see #unpack(File, String, File, String, String, String, boolean, FileMapper[], File, Log)
+     * @since 3.11.1
+     */
+    public void unpack(
+            List<ArtifactItem> items,
+            boolean ignorePermissions,
+            int threads,
+            Function<ArtifactItem, MarkerHandler> markerHandlers,
+            File stateDirectory,
+            Log logger)
+            throws MojoExecutionException {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be positive: " + threads);
+        }
+        if (items.isEmpty()) {
+            return;
+        }
+
+        Map<ArtifactItem, Throwable> failures = new LinkedHashMap<>();
+        Map<ArtifactItem, Collection<File>> changed = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, items.size()));
+        try {
+            List<ArtifactItem> batch = new ArrayList<>();
+            List<Set<Path>> batchTargets = new ArrayList<>();
+            for (ArtifactItem item : items) {
+                Set<Path> targets = listTargets(item, logger);
+                if (targets != null) {
+                    batch.add(item);
+                    batchTargets.add(targets);
+                    continue;
+                }
+                // an archive which cannot be listed may write any file: it is unpacked after the items declared
+                // before it and before the items declared after it
+                List<List<ArtifactItem>> chains = planExtraction(batch, batchTargets, logger);
+                failures.putAll(extractConcurrently(
+                        executor, chains, ignorePermissions, stateDirectory, changed, logger));
+                batch.clear();
+                batchTargets.clear();
+                failures.putAll(extractAll(
+                        Collections.singletonList(item), ignorePermissions, stateDirectory, changed, logger));
+            }
+            List<List<ArtifactItem>> chains = planExtraction(batch, batchTargets, logger);
+            failures.putAll(extractConcurrently(executor, chains, ignorePermissions, stateDirectory, changed, logger));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Set<File> refreshed = new LinkedHashSet<>();
+        for (ArtifactItem item : items) {
+            if (!failures.containsKey(item)) {
+                refreshed.addAll(changed.get(item));
+                markerHandlers.apply(item).setMarker();
+            }
+        }
+        refreshed.forEach(buildContext::refresh);
+
+        if (!failures.isEmpty()) {
+            List<String> messages = new ArrayList<>();
+            for (Map.Entry<ArtifactItem, Throwable> failure : failures.entrySet()) {
+                ArtifactItem item = failure.getKey();
+                messages.add(item.getArtifact().getFile() + " to " + item.getOutputDirectory() + ": "
+                        + failure.getValue().getMessage());
+            }
+            MojoExecutionException exception = new MojoExecutionException(
+                    "Failed to unpack " + failures.size() + " artifact(s):\n  " + String.join("\n  ", messages));
+            failures.values().forEach(exception::addSuppressed);
+            throw exception;
+        }
+    }
+
+    private Map<ArtifactItem, Throwable> extractConcurrently(
+            ExecutorService executor,
+            List<List<ArtifactItem>> chains,
+            boolean ignorePermissions,
+            File stateDirectory,
+            Map<ArtifactItem, Collection<File>> changed,
+            Log logger)
+            throws MojoExecutionException {
+        Map<ArtifactItem, Throwable> failures = new LinkedHashMap<>();
+        List<Future<Map<ArtifactItem, Throwable>>> futures = new ArrayList<>();
+        for (List<ArtifactItem> chain : chains) {
+            futures.add(executor.submit(() -> extractAll(chain, ignorePermissions, stateDirectory, changed, logger)));
+        }
+        try {
+            for (Future<Map<ArtifactItem, Throwable>> future : futures) {
+                try {
+                    failures.putAll(future.get());
+                } catch (ExecutionException e) {
+                    throw new MojoExecutionException("Unexpected failure while unpacking", e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("Interrupted while unpacking artifacts", e);
+        }
+        return failures;
+    }
+
+    private Map<ArtifactItem, Throwable> extractAll(
+            List<ArtifactItem> chain,
+            boolean ignorePermissions,
+            File stateDirectory,
+            Map<ArtifactItem, Collection<File>> changed,
+            Log logger) {
+        Map<ArtifactItem, Throwable> failures = new LinkedHashMap<>();
+        for (ArtifactItem item : chain) {
+            try {
+                Collection<File> files = extract(
+                        item.getArtifact().getFile(),
+                        item.getType(),
+                        item.getOutputDirectory(),
+                        item.getIncludes(),
+                        item.getExcludes(),
+                        item.getEncoding(),
+                        ignorePermissions,
+                        item.getFileMappers(),
+                        stateDirectory,
+                        logger);
+                changed.put(item, files);
+            } catch (MojoExecutionException | RuntimeException e) {
+                failures.put(item, e);
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Groups the items writing to common target paths into chains, each chain keeping the declaration order of its
+     * items.
+     *
+     * @param items the items to unpack
+     * @param targets the target paths of each item
+     * @return the chains, which can be unpacked concurrently
+     */
+    private List<List<ArtifactItem>> planExtraction(List<ArtifactItem> items, List<Set<Path>> targets, Log logger) {
+        int[] chainOf = new int[items.size()];
+        Map<Path, Integer> owners = new HashMap<>();
+        Set<String> reported = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            chainOf[i] = i;
+            ArtifactItem item = items.get(i);
+            for (Path target : targets.get(i)) {
+                Integer owner = owners.putIfAbsent(target, i);
+                if (owner != null) {
+                    int first = root(chainOf, owner);
+                    int second = root(chainOf, i);
+                    chainOf[Math.max(first, second)] = Math.min(first, second);
+                    if (reported.add(owner + ":" + i)) {
+                        logger.warn("Both " + items.get(owner).getArtifact().getFile().getName() + " and "
+                                + item.getArtifact().getFile().getName() + " unpack " + target
+                                + "; they are unpacked one after the other in declaration order.");
+                    }
+                }
+            }
+        }
+
+        Map<Integer, List<ArtifactItem>> byRoot = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            byRoot.computeIfAbsent(root(chainOf, i), k -> new ArrayList<>()).add(items.get(i));
+        }
+        return new ArrayList<>(byRoot.values());
+    }
+
+    private static int root(int[] chainOf, int i) {
+        while (chainOf[i] != i) {
+            i = chainOf[i];
+        }
+        return i;
+    }
+
+    /**
+     * Lists the files an item unpacks, honouring its includes, excludes and file mappers.
+     *
+     * @return the target paths, or {@code null} if the archive is not a zip-family archive or cannot be read
+     */
+    private Set<Path> listTargets(ArtifactItem item, Log logger) {
+        File file = item.getArtifact().getFile();
+        try {
+            if (file.isDirectory() || !(getUnArchiver(file, item.getType(), logger) instanceof AbstractZipUnArchiver)) {
+                return null;
+            }
+        } catch (NoSuchArchiverException e) {
+            return null;
+        }
+
+        IncludeExcludeFileSelector selector = createSelector(item.getIncludes(), item.getExcludes());
+        Path location = item.getOutputDirectory().toPath().toAbsolutePath().normalize();
+        Charset charset = item.getEncoding() != null ? Charset.forName(item.getEncoding()) : StandardCharsets.UTF_8;
+        Set<Path> targets = new HashSet<>();
+        try (ZipFile zipFile = new ZipFile(file, charset)) {
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                if (entry.isDirectory()
+                        || (selector != null && !selector.isSelected(new EntryInfo(entry.getName())))) {
+                    continue;
+                }
+                String name = entry.getName();
+                if (item.getFileMappers() != null) {
+                    for (FileMapper fileMapper : item.getFileMappers()) {
+                        name = fileMapper.getMappedFileName(name);
+                    }
+                }
+                targets.add(location.resolve(name).normalize());
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Cannot list the entries of " + file + ": " + e.getMessage());
+            return null;
+        }
+        return targets;
+    }
+
+    /**
+     * @return the files and directories to refresh in the build context
+     */
+    private Collection<File> extract(
+            File file,
+            String type,
+            File location,
+            String includes,
+            String excludes,
+            String encoding,
+            boolean ignorePermissions,
+            FileMapper[] fileMappers,
+            File stateDirectory,
+            Log logger)
+            throws MojoExecutionException {
         try {
             logUnpack(logger, file, location, includes, excludes);
 
@@ -105,14 +462,28 @@ public class UnpackUtil {
                         + "unpack should be executed after packaging: see MDEP-98.");
             }
 
-            UnArchiver unArchiver;
+            UnArchiver unArchiver = getUnArchiver(file, type, logger);
 
-            try {
-                unArchiver = archiverManager.getUnArchiver(type);
-                logger.debug("Found unArchiver: " + unArchiver.getClass().getName() + " by type: " + type);
-            } catch (NoSuchArchiverException e) {
-                unArchiver = archiverManager.getUnArchiver(file);
-                logger.debug("Found unArchiver: " + unArchiver.getClass().getName() + " by file extension: " + file);
+            File stateFile = stateDirectory != null ? getStateFile(stateDirectory, file, location) : null;
+            if (stateFile != null && unArchiver instanceof AbstractZipUnArchiver) {
+                Collection<File> changed = extractZipIncrementally(
+                        (AbstractZipUnArchiver) unArchiver,
+                        file,
+                        location,
+                        includes,
+                        excludes,
+                        encoding,
+                        ignorePermissions,
+                        fileMappers,
+                        stateFile,
+                        logger);
+                if (changed != null) {
+                    return changed;
+                }
+            }
+            if (stateFile != null) {
+                // the entries extracted by plexus-archiver are unknown
+                Files.deleteIfExists(stateFile.toPath());
             }
 
             if (encoding != null && unArchiver instanceof ZipUnArchiver) {
@@ -126,22 +497,9 @@ public class UnpackUtil {
 
             unArchiver.setDestDirectory(location);
 
-            if ((excludes != null && !excludes.isEmpty()) || (includes != null && !includes.isEmpty())) {
-                // Create the selectors that will filter
-                // based on include/exclude parameters
-                // MDEP-47
-                IncludeExcludeFileSelector[] selectors =
-                        new IncludeExcludeFileSelector[] {new IncludeExcludeFileSelector()};
-
-                if (excludes != null && !excludes.isEmpty()) {
-                    selectors[0].setExcludes(excludes.split(","));
-                }
-
-                if (includes != null && !includes.isEmpty()) {
-                    selectors[0].setIncludes(includes.split(","));
-                }
-
-                unArchiver.setFileSelectors(selectors);
+            IncludeExcludeFileSelector selector = createSelector(includes, excludes);
+            if (selector != null) {
+                unArchiver.setFileSelectors(new IncludeExcludeFileSelector[] {selector});
             }
 
             unArchiver.setFileMappers(fileMappers);
@@ -149,10 +507,199 @@ public class UnpackUtil {
             unArchiver.extract();
         } catch (NoSuchArchiverException e) {
             throw new MojoExecutionException("Unknown archiver type", e);
-        } catch (ArchiverException e) {
+        } catch (ArchiverException | IOException e) {
             throw new MojoExecutionException("Error unpacking file: " + file + " to: " + location, e);
         }
-        buildContext.refresh(location);
+        return Collections.singleton(location);
+    }
+
+    /**
+     * Extracts the entries of a zip-family archive whose CRC or size differ from the ones recorded in the state file,
+     * and deletes the files recorded for entries which are no longer in the archive. The entries are listed with
+     * {@link ZipFile}, and the changed ones are extracted by the unarchiver. Directory entries are recorded too: they
+     * are created when missing, and deleted once vanished from the archive if nothing else was put in them.
+     *
+     * @return the changed files, or {@code null} if the entries of the archive cannot be listed
+     */
+    private Collection<File> extractZipIncrementally(
+            AbstractZipUnArchiver unArchiver,
+            File file,
+            File location,
+            String includes,
+            String excludes,
+            String encoding,
+            boolean ignorePermissions,
+            FileMapper[] fileMappers,
+            File stateFile,
+            Log logger)
+            throws IOException {
+        Properties previous = new Properties();
+        if (stateFile.isFile()) {
+            try (Reader reader = Files.newBufferedReader(stateFile.toPath(), StandardCharsets.UTF_8)) {
+                previous.load(reader);
+            }
+        }
+
+        Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+        IncludeExcludeFileSelector selector = createSelector(includes, excludes);
+        Path root = location.toPath().toAbsolutePath().normalize();
+        Properties current = new Properties();
+        Set<String> changedEntries = new HashSet<>();
+        List<File> changed = new ArrayList<>();
+        try (ZipFile zipFile = new ZipFile(file, charset)) {
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                if (selector != null && !selector.isSelected(new EntryInfo(entry.getName()))) {
+                    continue;
+                }
+                String name = entry.getName();
+                if (fileMappers != null) {
+                    for (FileMapper fileMapper : fileMappers) {
+                        name = fileMapper.getMappedFileName(name);
+                    }
+                }
+                Path target = root.resolve(name).normalize();
+                if (entry.isDirectory() && target.equals(root)) {
+                    continue;
+                }
+                if (!target.startsWith(root) || target.equals(root)) {
+                    throw new IOException("Entry is outside of the target directory (" + entry.getName() + ")");
+                }
+                String key = root.relativize(target).toString().replace(File.separatorChar, '/');
+                if (entry.isDirectory()) {
+                    // created like the unarchiver does, e.g. for empty directories
+                    current.setProperty(key, DIRECTORY_STATE);
+                    if (!Files.isDirectory(target)) {
+                        changedEntries.add(entry.getName());
+                        changed.add(target.toFile());
+                    }
+                    continue;
+                }
+                String state = Long.toHexString(entry.getCrc()) + "," + entry.getSize();
+                current.setProperty(key, state);
+                if (state.equals(previous.getProperty(key))
+                        && Files.isRegularFile(target)
+                        && Files.size(target) == entry.getSize()) {
+                    continue;
+                }
+                changedEntries.add(entry.getName());
+                changed.add(target.toFile());
+            }
+        } catch (ZipException e) {
+            logger.debug("Cannot list the entries of " + file + ", unpacking all of them: " + e.getMessage());
+            return null;
+        }
+
+        if (!changedEntries.isEmpty()) {
+            if (encoding != null) {
+                unArchiver.setEncoding(encoding);
+            }
+            unArchiver.setIgnorePermissions(ignorePermissions);
+            unArchiver.setSourceFile(file);
+            unArchiver.setDestDirectory(location);
+            unArchiver.setFileSelectors(new FileSelector[] {entry -> changedEntries.contains(entry.getName())});
+            unArchiver.setFileMappers(fileMappers);
+            unArchiver.extract();
+        }
+
+        Path realRoot = root.toRealPath();
+        List<Path> vanishedDirectories = new ArrayList<>();
+        for (String key : previous.stringPropertyNames()) {
+            Path target = root.resolve(key).normalize();
+            if (current.containsKey(key)
+                    || !target.startsWith(root)
+                    || !Files.isDirectory(target.getParent())
+                    || !target.getParent().toRealPath().startsWith(realRoot)) {
+                continue;
+            }
+            if (DIRECTORY_STATE.equals(previous.getProperty(key))) {
+                vanishedDirectories.add(target);
+            } else if (Files.deleteIfExists(target)) {
+                changed.add(target.toFile());
+            }
+        }
+        // deepest first, so that nested directories left empty are deleted too
+        vanishedDirectories.sort(Comparator.comparingInt(Path::getNameCount).reversed());
+        for (Path directory : vanishedDirectories) {
+            try {
+                if (Files.deleteIfExists(directory)) {
+                    changed.add(directory.toFile());
+                }
+            } catch (DirectoryNotEmptyException e) {
+                // still holds files which were not extracted from this archive
+            }
+        }
+
+        logger.debug("Unpacked " + changed.size() + " changed entries of " + file + " to " + location);
+        writeState(current, stateFile);
+        return changed;
+    }
+
+    /**
+     * @return the file recording the entries of an archive extracted to a location, named after the SHA-1 digest of
+     *         their canonical paths
+     */
+    private static File getStateFile(File stateDirectory, File file, File location) throws IOException {
+        String key = file.getCanonicalPath() + File.pathSeparator + location.getCanonicalPath();
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 is not supported by this JVM", e);
+        }
+        StringBuilder name = new StringBuilder(file.getName()).append('-');
+        for (byte b : digest.digest(key.getBytes(StandardCharsets.UTF_8))) {
+            name.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return new File(stateDirectory, name.append(".entries").toString());
+    }
+
+    private static void writeState(Properties state, File stateFile) throws IOException {
+        Path target = stateFile.toPath().toAbsolutePath();
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), stateFile.getName(), ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                state.store(writer, null);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private UnArchiver getUnArchiver(File file, String type, Log logger) throws NoSuchArchiverException {
+        UnArchiver unArchiver;
+        try {
+            unArchiver = archiverManager.getUnArchiver(type);
+            logger.debug("Found unArchiver: " + unArchiver.getClass().getName() + " by type: " + type);
+        } catch (NoSuchArchiverException e) {
+            unArchiver = archiverManager.getUnArchiver(file);
+            logger.debug("Found unArchiver: " + unArchiver.getClass().getName() + " by file extension: " + file);
+        }
+        return unArchiver;
+    }
+
+    /**
+     * Creates the selector that will filter based on include/exclude parameters (MDEP-47).
+     *
+     * @return the selector, or {@code null} if there are neither includes nor excludes
+     */
+    private static IncludeExcludeFileSelector createSelector(String includes, String excludes) {
+        boolean hasIncludes = includes != null && !includes.isEmpty();
+        boolean hasExcludes = excludes != null && !excludes.isEmpty();
+        if (!hasIncludes && !hasExcludes) {
+            return null;
+        }
+        IncludeExcludeFileSelector selector = new IncludeExcludeFileSelector();
+        if (hasExcludes) {
+            selector.setExcludes(excludes.split(","));
+        }
+        if (hasIncludes) {
+            selector.setIncludes(includes.split(","));
+        }
+        return selector;
     }
 
     private void logUnpack(Log logger, File file, File location, String includes, String excludes) {
@@ -182,4 +729,41 @@ public class UnpackUtil {
             logger.debug(msg.toString());
         }
     }
+
+    /**
+     * Exposes a zip entry to the file selectors.
+     */
+    private static class EntryInfo implements FileInfo {
+
+        private final String name;
+
+        EntryInfo(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public InputStream getContents() throws IOException {
+            throw new IOException("Contents of " + name + " are not available");
+        }
+
+        @Override
+        public boolean isFile() {
+            return !isDirectory();
+        }
+
+        @Override
+        public boolean isDirectory() {
+            return name.endsWith("/");
+        }
+
+        @Override
+        public boolean isSymbolicLink() {
+            return false;
+        }
+    }
 }
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.utils.filters;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
+import org.apache.maven.artifact.versioning.InvalidVersionSpecificationException;
+import org.apache.maven.artifact.versioning.VersionRange;
+
+/**
+ * Matches artifacts against patterns compiled once, with the syntax of
+ * {@code org.apache.maven.shared.artifact.filter.StrictPatternIncludesArtifactFilter}:
+ *
+ * <pre>
+ * [groupId]:[artifactId]:[type]:[version]
+ * </pre>
+ *
+ * where each segment is optional and supports full and partial <code>*</code> wildcards (leading, trailing, or
+ * both), an empty segment is an implicit wildcard, and a version segment may be a version range.
+ * <p>
+ * The patterns form a trie, one level per segment: the segments without wildcard are looked up in a hash map, so
+ * matching an artifact costs a few lookups plus one test per distinct wildcard segment, rather than one split and
+ * comparison per pattern.
+ *
+ * @since 3.11.1
+ */
+public final class ArtifactPatternMatcher {
+
+    private static final int SEGMENTS = 4;
+
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private final Node root = new Node(null);
+
+    private int size;
+
+    private ArtifactPatternMatcher() {}
+
+    /**
+     * @param patterns the patterns, e.g. {@code org.apache.*:maven-*::[3.0,)}
+     * @return the matcher of the patterns
+     */
+    public static ArtifactPatternMatcher compile(Collection<String> patterns) {
+        ArtifactPatternMatcher matcher = new ArtifactPatternMatcher();
+        for (String pattern : patterns) {
+            matcher.add(pattern.split(":"));
+        }
+        return matcher;
+    }
+
+    /**
+     * Adds a pattern already split into segments. A pattern with more segments than an artifact has never matches.
+     *
+     * @param segments the segments of the pattern
+     */
+    private void add(String[] segments) {
+        int index = size++;
+        if (segments.length > SEGMENTS) {
+            return;
+        }
+        Node node = root;
+        for (String segment : segments) {
+            node = node.child(segment);
+        }
+        node.pattern = Math.min(node.pattern, index);
+    }
+
+    /**
+     * @return whether no pattern was compiled
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param artifact an artifact
+     * @return whether one of the patterns matches the artifact
+     */
+    public boolean matches(Artifact artifact) {
+        return match(root, tokens(artifact), 0, true) != NO_MATCH;
+    }
+
+    /**
+     * @param artifact an artifact
+     * @return the index of the first pattern matching the artifact, in the order they were compiled, or
+     *         <code>-1</code>
+     */
+    public int indexOfMatch(Artifact artifact) {
+        int index = match(root, tokens(artifact), 0, false);
+        return index != NO_MATCH ? index : -1;
+    }
+
+    private static String[] tokens(Artifact artifact) {
+        return new String[] {
+            artifact.getGroupId(), artifact.getArtifactId(), artifact.getType(), artifact.getBaseVersion()
+        };
+    }
+
+    /**
+     * @param any whether any matching pattern will do, rather than the first one
+     * @return the index of the matching pattern, or {@link #NO_MATCH}
+     */
+    private static int match(Node node, String[] tokens, int level, boolean any) {
+        int match = node.pattern;
+        if (level == SEGMENTS || (any && match != NO_MATCH)) {
+            return match;
+        }
+        String token = tokens[level];
+        Node exact = token != null ? node.exactChildren.get(token) : null;
+        if (exact != null) {
+            match = Math.min(match, match(exact, tokens, level + 1, any));
+        }
+        for (Node child : node.wildcardChildren.values()) {
+            if (any && match != NO_MATCH) {
+                break;
+            }
+            if (child.predicate.test(token)) {
+                match = Math.min(match, match(child, tokens, level + 1, any));
+            }
+        }
+        return match;
+    }
+
+    /**
+     * A segment of one or more patterns, with the segments following it.
+     */
+    private static final class Node {
+
+        /**
+         * Tests a token against the segment, or <code>null</code> for a segment without wildcard.
+         */
+        private final Predicate<String> predicate;
+
+        private final Map<String, Node> exactChildren = new HashMap<>();
+
+        private final Map<String, Node> wildcardChildren = new LinkedHashMap<>();
+
+        /**
+         * The index of the first pattern ending with this segment, or {@link #NO_MATCH}.
+         */
+        private int pattern = NO_MATCH;
+
+        Node(Predicate<String> predicate) {
+            this.predicate = predicate;
+        }
+
+        Node child(String segment) {
+            Node child = exactChildren.get(segment);
+            if (child == null) {
+                child = wildcardChildren.get(segment);
+            }
+            if (child == null) {
+                Predicate<String> segmentPredicate = compile(segment);
+                child = new Node(segmentPredicate);
+                (segmentPredicate == null ? exactChildren : wildcardChildren).put(segment, child);
+            }
+            return child;
+        }
+
+        /**
+         * @return the predicate matching a segment with wildcards or a version range, or <code>null</code>
+         */
+        private static Predicate<String> compile(String segment) {
+            if ("*".equals(segment) || segment.isEmpty()) {
+                return token -> true;
+            } else if (segment.startsWith("*") && segment.endsWith("*")) {
+                String contained = segment.substring(1, segment.length() - 1);
+                return token -> token != null && token.contains(contained);
+            } else if (segment.startsWith("*")) {
+                String suffix = segment.substring(1);
+                return token -> token != null && token.endsWith(suffix);
+            } else if (segment.endsWith("*")) {
+                String prefix = segment.substring(0, segment.length() - 1);
+                return token -> token != null && token.startsWith(prefix);
+            } else if (segment.startsWith("[") || segment.startsWith("(")) {
+                try {
+                    VersionRange range = VersionRange.createFromVersionSpec(segment);
+                    return token -> token != null && range.containsVersion(new DefaultArtifactVersion(token));
+                } catch (InvalidVersionSpecificationException e) {
+                    return token -> false;
+                }
+            }
+            return null;
+        }
+    }
+}
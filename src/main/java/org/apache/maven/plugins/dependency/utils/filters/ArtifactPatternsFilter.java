@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.utils.filters;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.shared.artifact.filter.collection.AbstractArtifactsFilter;
+
+/**
+ * Filters artifacts with include and exclude patterns compiled into {@link ArtifactPatternMatcher}s, standing for
+ * {@link org.apache.maven.shared.artifact.filter.collection.GroupIdFilter} and
+ * {@link org.apache.maven.shared.artifact.filter.collection.ArtifactIdFilter}, which compare every artifact with
+ * every pattern. The result is the same: the included artifacts come in the order of the first include pattern they
+ * match, then in their original order.
+ *
+ * @since 3.11.1
+ */
+public class ArtifactPatternsFilter extends AbstractArtifactsFilter {
+
+    private final ArtifactPatternMatcher includes;
+
+    private final ArtifactPatternMatcher excludes;
+
+    private ArtifactPatternsFilter(ArtifactPatternMatcher includes, ArtifactPatternMatcher excludes) {
+        this.includes = includes;
+        this.excludes = excludes;
+    }
+
+    /**
+     * @param include comma separated prefixes of the group ids to include, or <code>null</code>
+     * @param exclude comma separated prefixes of the group ids to exclude, or <code>null</code>
+     * @return the filter of the artifacts by group id
+     */
+    public static ArtifactPatternsFilter groupIds(String include, String exclude) {
+        return new ArtifactPatternsFilter(groupIdMatcher(include), groupIdMatcher(exclude));
+    }
+
+    /**
+     * @param include comma separated artifact ids to include, or <code>null</code>
+     * @param exclude comma separated artifact ids to exclude, or <code>null</code>
+     * @return the filter of the artifacts by artifact id
+     */
+    public static ArtifactPatternsFilter artifactIds(String include, String exclude) {
+        return new ArtifactPatternsFilter(artifactIdMatcher(include), artifactIdMatcher(exclude));
+    }
+
+    private static ArtifactPatternMatcher groupIdMatcher(String groupIds) {
+        List<String> patterns = new ArrayList<>();
+        for (String groupId : split(groupIds)) {
+            patterns.add(groupId + "*");
+        }
+        return ArtifactPatternMatcher.compile(patterns);
+    }
+
+    private static ArtifactPatternMatcher artifactIdMatcher(String artifactIds) {
+        List<String> patterns = new ArrayList<>();
+        for (String artifactId : split(artifactIds)) {
+            // an empty segment is an implicit wildcard, while no artifact has an empty artifact id
+            if (!artifactId.isEmpty()) {
+                patterns.add("*:" + artifactId);
+            }
+        }
+        return ArtifactPatternMatcher.compile(patterns);
+    }
+
+    private static String[] split(String values) {
+        return values == null || values.isEmpty() ? new String[0] : values.split(",");
+    }
+
+    @Override
+    public Set<Artifact> filter(Set<Artifact> artifacts) {
+        Set<Artifact> result = artifacts;
+        if (!includes.isEmpty()) {
+            TreeMap<Integer, List<Artifact>> byPattern = new TreeMap<>();
+            for (Artifact artifact : result) {
+                int index = includes.indexOfMatch(artifact);
+                if (index >= 0) {
+                    byPattern.computeIfAbsent(index, i -> new ArrayList<>()).add(artifact);
+                }
+            }
+            result = new LinkedHashSet<>();
+            for (List<Artifact> included : byPattern.values()) {
+                result.addAll(included);
+            }
+        }
+        if (!excludes.isEmpty()) {
+            Set<Artifact> included = new LinkedHashSet<>();
+            for (Artifact artifact : result) {
+                if (!excludes.matches(artifact)) {
+                    included.add(artifact);
+                }
+            }
+            result = included;
+        }
+        return result;
+    }
+}
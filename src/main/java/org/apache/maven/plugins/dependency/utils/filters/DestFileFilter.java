@@ -26,6 +26,7 @@ import java.util.Set;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.plugins.dependency.fromConfiguration.ArtifactItem;
+import org.apache.maven.plugins.dependency.utils.ChecksumIndex;
 import org.apache.maven.plugins.dependency.utils.DependencyUtil;
 import org.apache.maven.shared.artifact.filter.collection.AbstractArtifactsFilter;
 import org.apache.maven.shared.artifact.filter.collection.ArtifactFilterException;
@@ -60,6 +61,8 @@ public class DestFileFilter extends AbstractArtifactsFilter implements ArtifactI
 
     private File outputFileDirectory;
 
+    private ChecksumIndex checksumIndex;
+
     /**
      * @param outputFileDirectory the output directory
      */
@@ -262,6 +265,25 @@ public class DestFileFilter extends AbstractArtifactsFilter implements ArtifactI
         this.useRepositoryLayout = useRepositoryLayout;
     }
 
+    /**
+     * @return returns the checksumIndex, or {@code null} if timestamps are compared
+     * @since 3.11.1
+     */
+    public ChecksumIndex getChecksumIndex() {
+        return checksumIndex;
+    }
+
+    /**
+     * When set, {@link #isOverWriteIfNewer() overWriteIfNewer} compares the content digests recorded in the index
+     * instead of the last modification times.
+     *
+     * @param checksumIndex the checksumIndex to set, or {@code null} to compare timestamps
+     * @since 3.11.1
+     */
+    public void setChecksumIndex(ChecksumIndex checksumIndex) {
+        this.checksumIndex = checksumIndex;
+    }
+
     @Override
     public boolean isArtifactIncluded(ArtifactItem item) throws ArtifactFilterException {
         Artifact artifact = item.getArtifact();
@@ -291,9 +313,20 @@ public class DestFileFilter extends AbstractArtifactsFilter implements ArtifactI
             destFile = new File(destFolder, item.getDestFileName());
         }
 
-        return overWrite
-                || !destFile.exists()
-                || (overWriteIfNewer && getLastModified(artifact.getFile()) > getLastModified(destFile));
+        if (overWrite || !destFile.exists()) {
+            return true;
+        }
+        if (!overWriteIfNewer) {
+            return false;
+        }
+        if (checksumIndex != null) {
+            try {
+                return !checksumIndex.isUpToDate(artifact.getFile(), destFile);
+            } catch (IOException e) {
+                throw new ArtifactFilterException("IO Exception", e);
+            }
+        }
+        return getLastModified(artifact.getFile()) > getLastModified(destFile);
     }
 
     /**
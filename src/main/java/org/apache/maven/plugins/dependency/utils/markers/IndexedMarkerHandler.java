@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.utils.markers;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.dependency.fromConfiguration.ArtifactItem;
+
+/**
+ * Marker handler recording markers in a {@link MarkerIndex} rather than in individual files. Like
+ * {@link UnpackFileMarkerHandler}, an artifact item unpacked with includes or excludes gets its own marker.
+ *
+ * @since 3.11.1
+ */
+public class IndexedMarkerHandler implements MarkerHandler {
+
+    private final MarkerIndex index;
+
+    private Artifact artifact;
+
+    private ArtifactItem artifactItem;
+
+    /**
+     * @param index the index holding the markers
+     */
+    public IndexedMarkerHandler(MarkerIndex index) {
+        this.index = index;
+    }
+
+    /**
+     * @param artifact {@link Artifact}
+     * @param index the index holding the markers
+     */
+    public IndexedMarkerHandler(Artifact artifact, MarkerIndex index) {
+        this(index);
+        this.artifact = artifact;
+    }
+
+    /**
+     * @param artifactItem {@link ArtifactItem}
+     * @param index the index holding the markers
+     */
+    public IndexedMarkerHandler(ArtifactItem artifactItem, MarkerIndex index) {
+        this(index);
+        setArtifactItem(artifactItem);
+    }
+
+    /**
+     * @return the key of the marker of the current artifact
+     */
+    protected String getMarkerKey() {
+        String key = this.artifact.getId();
+        if (this.artifactItem != null
+                && !(this.artifactItem.getIncludes().isEmpty()
+                        && this.artifactItem.getExcludes().isEmpty())) {
+            int includeExcludeHash = 0;
+            if (!this.artifactItem.getIncludes().isEmpty()) {
+                includeExcludeHash += this.artifactItem.getIncludes().hashCode();
+            }
+            if (!this.artifactItem.getExcludes().isEmpty()) {
+                includeExcludeHash += this.artifactItem.getExcludes().hashCode();
+            }
+            key += "#" + includeExcludeHash;
+        }
+        return key;
+    }
+
+    @Override
+    public boolean isMarkerSet() throws MojoExecutionException {
+        return index.contains(getMarkerKey());
+    }
+
+    @Override
+    public void setMarker() throws MojoExecutionException {
+        index.set(getMarkerKey(), this.artifact.getFile());
+    }
+
+    @Override
+    public boolean clearMarker() throws MojoExecutionException {
+        return index.clear(getMarkerKey());
+    }
+
+    @Override
+    public boolean isMarkerOlder(Artifact theArtifact) throws MojoExecutionException {
+        return index.isOlder(getMarkerKey(), theArtifact.getFile());
+    }
+
+    @Override
+    public void setArtifact(Artifact artifact) {
+        this.artifact = artifact;
+    }
+
+    /**
+     * @return returns the artifact
+     */
+    public Artifact getArtifact() {
+        return this.artifact;
+    }
+
+    /**
+     * @param artifactItem {@link ArtifactItem}
+     */
+    public void setArtifactItem(ArtifactItem artifactItem) {
+        this.artifactItem = artifactItem;
+        if (artifactItem != null) {
+            this.artifact = artifactItem.getArtifact();
+        }
+    }
+
+    /**
+     * @return returns the artifactItem
+     */
+    public ArtifactItem getArtifactItem() {
+        return this.artifactItem;
+    }
+
+    /**
+     * @return the index holding the markers
+     */
+    public MarkerIndex getIndex() {
+        return this.index;
+    }
+}
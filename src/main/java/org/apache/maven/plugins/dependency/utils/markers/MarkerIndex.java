@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.utils.markers;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+import org.apache.maven.plugin.MojoExecutionException;
+
+/**
+ * All the markers of a markers directory, kept in a single file instead of one file per artifact. The file is read
+ * once when the index is created and rewritten atomically by {@link #save()}.
+ * <p>
+ * Each entry maps a marker key to the last modification time and the size of the artifact file at the time the
+ * marker was set.
+ *
+ * @since 3.11.1
+ */
+public class MarkerIndex {
+
+    /**
+     * Name of the index file in the markers directory.
+     */
+    public static final String INDEX_FILE_NAME = "markers.index";
+
+    private final File indexFile;
+
+    private final Properties entries = new Properties();
+
+    private boolean modified;
+
+    /**
+     * @param indexFile the file holding the index
+     * @throws MojoExecutionException if the index exists but cannot be read
+     */
+    public MarkerIndex(File indexFile) throws MojoExecutionException {
+        this.indexFile = indexFile;
+        if (indexFile.isFile()) {
+            try (Reader reader = Files.newBufferedReader(indexFile.toPath(), StandardCharsets.UTF_8)) {
+                entries.load(reader);
+            } catch (IOException e) {
+                throw new MojoExecutionException("Unable to read marker index: " + indexFile.getAbsolutePath(), e);
+            }
+        }
+    }
+
+    /**
+     * Loads the index of a markers directory.
+     *
+     * @param markersDirectory the markers directory
+     * @return the index
+     * @throws MojoExecutionException if the index exists but cannot be read
+     */
+    public static MarkerIndex load(File markersDirectory) throws MojoExecutionException {
+        return new MarkerIndex(new File(markersDirectory, INDEX_FILE_NAME));
+    }
+
+    /**
+     * @return the file holding the index
+     */
+    public File getIndexFile() {
+        return indexFile;
+    }
+
+    /**
+     * @param key the marker key
+     * @return {@code true} if a marker is recorded for the key
+     */
+    public synchronized boolean contains(String key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * @param key the marker key
+     * @param file the artifact file
+     * @return {@code true} if no marker is recorded for the key, or if the file has been modified after the marker was
+     *         set
+     */
+    public synchronized boolean isOlder(String key, File file) {
+        String value = entries.getProperty(key);
+        if (value == null) {
+            return true;
+        }
+        int separator = value.indexOf(',');
+        try {
+            long timestamp = Long.parseLong(separator < 0 ? value : value.substring(0, separator));
+            if (file.lastModified() > timestamp) {
+                return true;
+            }
+            return separator >= 0 && file.length() != Long.parseLong(value.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Records a marker.
+     *
+     * @param key the marker key
+     * @param file the artifact file, or {@code null} to record the current time
+     */
+    public synchronized void set(String key, File file) {
+        String value;
+        if (file != null && file.exists()) {
+            value = file.lastModified() + "," + file.length();
+        } else {
+            value = Long.toString(System.currentTimeMillis());
+        }
+        entries.setProperty(key, value);
+        modified = true;
+    }
+
+    /**
+     * @param key the marker key
+     * @return {@code true} if a marker was recorded for the key
+     */
+    public synchronized boolean clear(String key) {
+        boolean removed = entries.remove(key) != null;
+        modified |= removed;
+        return removed;
+    }
+
+    /**
+     * Writes the index if it has been modified, replacing the previous file atomically when the file system
+     * supports it.
+     *
+     * @throws MojoExecutionException if the index cannot be written
+     */
+    public synchronized void save() throws MojoExecutionException {
+        if (!modified) {
+            return;
+        }
+        Path target = indexFile.toPath().toAbsolutePath();
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), indexFile.getName(), ".tmp");
+            try {
+                try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                    entries.store(writer, null);
+                }
+                try {
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException e) {
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new MojoExecutionException("Unable to write marker index: " + indexFile.getAbsolutePath(), e);
+        }
+        modified = false;
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.DependencyManagement;
+import org.apache.maven.model.Model;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.dependency.utils.ResolverUtil;
+import org.apache.maven.project.DefaultProjectBuildingRequest;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.repository.LocalArtifactRequest;
+import org.eclipse.aether.repository.LocalArtifactResult;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.eclipse.aether.resolution.ArtifactResolutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.apache.maven.api.plugin.testing.MojoExtension.setVariableValueToObject;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PruneLocalRepositoryMojoTest {
+
+    private static final long OLD = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(400);
+
+    @TempDir
+    private Path repository;
+
+    private final DefaultRepositorySystemSession repositorySession = new DefaultRepositorySystemSession();
+
+    private final MavenSession session = mock(MavenSession.class);
+
+    private final ResolverUtil resolverUtil = mock(ResolverUtil.class);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        LocalRepositoryManager localRepositoryManager = mock(LocalRepositoryManager.class);
+        when(localRepositoryManager.getRepository()).thenReturn(new LocalRepository(repository.toFile()));
+        when(localRepositoryManager.find(any(), any())).thenAnswer(invocation -> {
+            LocalArtifactRequest request = invocation.getArgument(1);
+            File file = repository.resolve(path(request.getArtifact())).toFile();
+            return new LocalArtifactResult(request).setFile(file.isFile() ? file : null);
+        });
+        repositorySession.setLocalRepositoryManager(localRepositoryManager);
+        when(session.getRepositorySession()).thenReturn(repositorySession);
+        when(session.getProjects()).thenReturn(Collections.emptyList());
+        when(resolverUtil.getProjectPoms(any())).thenCallRealMethod();
+        when(resolverUtil.resolveConcreteArtifact(any(), any())).thenAnswer(invocation -> {
+            Artifact artifact = invocation.getArgument(0);
+            File file = repository.resolve(path(artifact)).toFile();
+            if (!file.isFile()) {
+                throw new ArtifactResolutionException(Collections.emptyList());
+            }
+            return artifact.setFile(file);
+        });
+    }
+
+    @Test
+    void pruneVersionsUnusedForTooLong() throws Exception {
+        Path old = version("org.example:lib:1.0", null, 100, OLD);
+        Path recent = version("org.example:lib:2.0", null, 100, System.currentTimeMillis());
+        Path unrelated = version("org.other:tool:1.0", null, 100, OLD);
+
+        PruneLocalRepositoryMojo mojo = mojo(false);
+        setVariableValueToObject(mojo, "maxUnusedDays", 30);
+        mojo.execute();
+
+        assertThat(old).doesNotExist();
+        assertThat(recent).exists();
+        // the artifact and group directories left empty are removed too
+        assertThat(unrelated.getParent().getParent()).doesNotExist();
+    }
+
+    @Test
+    void pruneLeastRecentlyUsedUntilRepositoryFitsBudget() throws Exception {
+        Path oldest = version("org.example:lib:1.0", null, 100, OLD);
+        Path older = version("org.example:lib:2.0", null, 100, OLD + 1000);
+        Path newest = version("org.example:lib:3.0", null, 100, OLD + 2000);
+
+        PruneLocalRepositoryMojo mojo = mojo(false);
+        setVariableValueToObject(mojo, "maxRepositorySize", "150");
+        mojo.execute();
+
+        assertThat(oldest).doesNotExist();
+        assertThat(older).doesNotExist();
+        assertThat(newest).exists();
+    }
+
+    @Test
+    void keepParentsImportedBomsAndDependenciesOfReactor() throws Exception {
+        Path grandparent = version("org.example:grandparent:1", null, 10, OLD);
+        Path parent = version("org.example:parent:1", "org.example:grandparent:1", 10, OLD);
+        Path bomParent = version("org.example:bom-parent:2", null, 10, OLD);
+        Path bom = version("org.example:bom:2", "org.example:bom-parent:2", 10, OLD);
+        Path dependency = version("org.example:lib:1.0", null, 10, OLD);
+        Path unrelated = version("org.example:lib:0.9", null, 10, OLD);
+
+        MavenProject project = project();
+        when(session.getProjects()).thenReturn(Collections.singletonList(project));
+        when(resolverUtil.collectDependenciesForArtifact(any(), any(), any(), any()))
+                .thenReturn(Collections.singletonList(new DefaultArtifact("org.example:lib:1.0")));
+
+        PruneLocalRepositoryMojo mojo = mojo(true);
+        setVariableValueToObject(mojo, "maxUnusedDays", 1);
+        mojo.execute();
+
+        assertThat(grandparent).exists();
+        assertThat(parent).exists();
+        assertThat(bomParent).exists();
+        assertThat(bom).exists();
+        assertThat(dependency).exists();
+        assertThat(unrelated).doesNotExist();
+    }
+
+    @Test
+    void keepBomsImportedByBomsOrWithRequestProperties() throws Exception {
+        Path bom = version("org.example:bom:2", null, 10, OLD);
+        Path nested = version("org.example:nested-bom:2", null, 10, OLD);
+        Path released = version("org.example:released-bom:3", null, 10, OLD);
+        Path unrelated = version("org.example:released-bom:2", null, 10, OLD);
+        importBom(bom.resolve("bom-2.pom"), "${project.groupId}", "nested-bom", "${project.version}");
+
+        MavenProject project = project();
+        Dependency releasedBom = new Dependency();
+        releasedBom.setGroupId("org.example");
+        releasedBom.setArtifactId("released-bom");
+        releasedBom.setVersion("${revision}");
+        releasedBom.setType("pom");
+        releasedBom.setScope("import");
+        project.getOriginalModel().getDependencyManagement().addDependency(releasedBom);
+        DefaultProjectBuildingRequest request = new DefaultProjectBuildingRequest();
+        request.getUserProperties().setProperty("revision", "3");
+        project.setProjectBuildingRequest(request);
+        when(session.getProjects()).thenReturn(Collections.singletonList(project));
+        when(resolverUtil.collectDependenciesForArtifact(any(), any(), any(), any()))
+                .thenReturn(Collections.emptyList());
+
+        PruneLocalRepositoryMojo mojo = mojo(true);
+        setVariableValueToObject(mojo, "maxUnusedDays", 1);
+        mojo.execute();
+
+        assertThat(bom).exists();
+        assertThat(nested).exists();
+        assertThat(released).exists();
+        assertThat(unrelated).doesNotExist();
+    }
+
+    @Test
+    void protectionIsAnchoredAtRootOrSplitPrefix() throws Exception {
+        repositorySession.setConfigProperty("aether.enhancedLocalRepository.split", "true");
+        repositorySession.setConfigProperty("aether.enhancedLocalRepository.splitRemoteRepository", "true");
+        Path installed = splitVersion("installed", "example:lib:1.0", 10, OLD);
+        Path cached = splitVersion("cached/central", "example:lib:1.0", 10, OLD);
+        // ends like the protected directory, but is another artifact
+        Path suffix = splitVersion("cached/central", "org.example:lib:1.0", 10, OLD);
+
+        MavenProject project = project();
+        when(session.getProjects()).thenReturn(Collections.singletonList(project));
+        when(resolverUtil.collectDependenciesForArtifact(any(), any(), any(), any()))
+                .thenReturn(Collections.singletonList(new DefaultArtifact("example:lib:1.0")));
+
+        PruneLocalRepositoryMojo mojo = mojo(true);
+        setVariableValueToObject(mojo, "maxUnusedDays", 1);
+        mojo.execute();
+
+        assertThat(installed).exists();
+        assertThat(cached).exists();
+        assertThat(suffix).doesNotExist();
+    }
+
+    @Test
+    void parseSizeWithUnits() throws Exception {
+        assertThat(PruneLocalRepositoryMojo.parseSize("512")).isEqualTo(512L);
+        assertThat(PruneLocalRepositoryMojo.parseSize("20G")).isEqualTo(20L << 30);
+        assertThat(PruneLocalRepositoryMojo.parseSize("8388607t")).isEqualTo(8388607L << 40);
+        assertThatThrownBy(() -> PruneLocalRepositoryMojo.parseSize("8388608T"))
+                .isInstanceOf(MojoExecutionException.class);
+        assertThatThrownBy(() -> PruneLocalRepositoryMojo.parseSize("-1M")).isInstanceOf(MojoExecutionException.class);
+        assertThatThrownBy(() -> PruneLocalRepositoryMojo.parseSize("1X")).isInstanceOf(MojoExecutionException.class);
+    }
+
+    private PruneLocalRepositoryMojo mojo(boolean protectReactorDependencies) throws Exception {
+        PruneLocalRepositoryMojo mojo = new PruneLocalRepositoryMojo(session, resolverUtil);
+        setVariableValueToObject(mojo, "protectReactorDependencies", protectReactorDependencies);
+        setVariableValueToObject(mojo, "pruneThreads", 2);
+        return mojo;
+    }
+
+    /**
+     * A project inheriting from {@code org.example:parent:1} and importing {@code org.example:bom:2}.
+     */
+    private static MavenProject project() {
+        Model model = new Model();
+        model.setGroupId("test");
+        model.setArtifactId("app");
+        model.setVersion("1.0");
+
+        Dependency bom = new Dependency();
+        bom.setGroupId("org.example");
+        bom.setArtifactId("bom");
+        bom.setVersion("2");
+        bom.setType("pom");
+        bom.setScope("import");
+        Model originalModel = model.clone();
+        originalModel.setDependencyManagement(new DependencyManagement());
+        originalModel.getDependencyManagement().addDependency(bom);
+
+        MavenProject project = new MavenProject(model);
+        project.setOriginalModel(originalModel);
+        project.setArtifact(new org.apache.maven.artifact.DefaultArtifact(
+                "test", "app", "1.0", null, "jar", null, new DefaultArtifactHandler("jar")));
+        project.setParentArtifact(new org.apache.maven.artifact.DefaultArtifact(
+                "org.example", "parent", "1", null, "pom", null, new DefaultArtifactHandler("pom")));
+        project.setRemoteArtifactRepositories(Collections.emptyList());
+        project.setPluginArtifactRepositories(Collections.emptyList());
+        return project;
+    }
+
+    private Path version(String coordinates, String parent, int size, long time) throws IOException {
+        return version("", coordinates, size, time, parent);
+    }
+
+    private Path splitVersion(String prefix, String coordinates, int size, long time) throws IOException {
+        return version(prefix, coordinates, size, time, null);
+    }
+
+    /**
+     * Creates a version directory holding a POM, with the given parent, and a jar of the given size.
+     */
+    private Path version(String prefix, String coordinates, int size, long time, String parent) throws IOException {
+        String[] items = coordinates.split(":");
+        Artifact pom = new DefaultArtifact(items[0], items[1], "pom", items[2]);
+        Path file = repository.resolve(prefix).resolve(path(pom));
+        Files.createDirectories(file.getParent());
+        String parentElement = "";
+        if (parent != null) {
+            String[] parentItems = parent.split(":");
+            parentElement = "<parent><groupId>" + parentItems[0] + "</groupId><artifactId>" + parentItems[1]
+                    + "</artifactId><version>" + parentItems[2] + "</version></parent>";
+        }
+        Files.write(file, ("<project>" + parentElement + "</project>").getBytes(StandardCharsets.UTF_8));
+        Path jar = file.resolveSibling(items[1] + '-' + items[2] + ".jar");
+        Files.write(jar, new byte[size]);
+        for (Path artifactFile : new Path[] {file, jar}) {
+            Files.setAttribute(artifactFile, "lastAccessTime", FileTime.fromMillis(time));
+            Files.setLastModifiedTime(artifactFile, FileTime.fromMillis(time));
+        }
+        return file.getParent();
+    }
+
+    /**
+     * Rewrites a POM to import the given BOM, keeping its times.
+     */
+    private static void importBom(Path pom, String groupId, String artifactId, String version) throws IOException {
+        String xml = "<project><dependencyManagement><dependencies><dependency><groupId>" + groupId
+                + "</groupId><artifactId>" + artifactId + "</artifactId><version>" + version
+                + "</version><type>pom</type><scope>import</scope></dependency></dependencies>"
+                + "</dependencyManagement></project>";
+        Files.write(pom, xml.getBytes(StandardCharsets.UTF_8));
+        Files.setAttribute(pom, "lastAccessTime", FileTime.fromMillis(OLD));
+        Files.setLastModifiedTime(pom, FileTime.fromMillis(OLD));
+    }
+
+    private static String path(Artifact artifact) {
+        return artifact.getGroupId().replace('.', '/') + '/' + artifact.getArtifactId() + '/' + artifact.getVersion()
+                + '/' + artifact.getArtifactId() + '-' + artifact.getVersion() + '.' + artifact.getExtension();
+    }
+}
@@ -22,9 +22,11 @@ import javax.inject.Inject;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.HashSet;
+import java.util.Properties;
 import java.util.Set;
 
 import org.apache.maven.api.plugin.testing.InjectMojo;
@@ -45,8 +47,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
@@ -183,6 +187,110 @@ class TestCopyDependenciesMojo {
         }
     }
 
+    @Test
+    @InjectMojo(goal = "copy-dependencies")
+    @MojoParameter(name = "parallelCopy", value = "true")
+    @MojoParameter(name = "copyThreads", value = "3")
+    void testParallelCopy(CopyDependenciesMojo mojo) throws Exception {
+        mojo.execute();
+
+        Set<Artifact> artifacts = mojo.getProject().getArtifacts();
+        for (Artifact artifact : artifacts) {
+            String fileName = DependencyUtil.getFormattedFileName(artifact, false);
+            File file = new File(mojo.outputDirectory, fileName);
+            assertTrue(file.exists());
+            assertEquals(artifact.getFile().length(), file.length());
+        }
+    }
+
+    @Test
+    @InjectMojo(goal = "copy-dependencies")
+    @MojoParameter(name = "parallelCopy", value = "true")
+    void testParallelCopyReportsEachFailure(CopyDependenciesMojo mojo) throws Exception {
+        Set<Artifact> artifacts = mojo.getProject().getArtifacts();
+        for (Artifact artifact : artifacts) {
+            artifact.setFile(new File(tempDir, "missing-" + artifact.getArtifactId() + ".jar"));
+        }
+
+        MojoExecutionException exception = assertThrows(MojoExecutionException.class, mojo::execute);
+        assertEquals(artifacts.size(), exception.getSuppressed().length);
+    }
+
+    @Test
+    @InjectMojo(goal = "copy-dependencies")
+    @MojoParameter(name = "linkStrategy", value = "hardlink")
+    void testHardLink(CopyDependenciesMojo mojo) throws Exception {
+        // the output directory and the artifacts must share the same file store
+        mojo.setOutputDirectory(new File(tempDir, "links"));
+        mojo.execute();
+
+        Set<Artifact> artifacts = mojo.getProject().getArtifacts();
+        for (Artifact artifact : artifacts) {
+            String fileName = DependencyUtil.getFormattedFileName(artifact, false);
+            File file = new File(mojo.outputDirectory, fileName);
+            assertTrue(file.exists());
+            assertTrue(Files.isSameFile(artifact.getFile().toPath(), file.toPath()));
+        }
+
+        // switching back to copies must not write through the existing links
+        mojo.linkStrategy = "copy";
+        mojo.overWriteReleases = true;
+        mojo.overWriteSnapshots = true;
+        mojo.execute();
+
+        for (Artifact artifact : artifacts) {
+            String fileName = DependencyUtil.getFormattedFileName(artifact, false);
+            File file = new File(mojo.outputDirectory, fileName);
+            assertTrue(file.exists());
+            assertFalse(Files.isSameFile(artifact.getFile().toPath(), file.toPath()));
+            assertEquals(artifact.getFile().length(), file.length());
+        }
+    }
+
+    @Test
+    @InjectMojo(goal = "copy-dependencies")
+    @MojoParameter(name = "linkStrategy", value = "reflink")
+    void testInvalidLinkStrategy(CopyDependenciesMojo mojo) {
+        assertThrows(MojoExecutionException.class, mojo::execute);
+    }
+
+    @Test
+    @InjectMojo(goal = "copy-dependencies")
+    @MojoParameter(name = "useChecksums", value = "true")
+    void testUseChecksumsCopiesRewrittenDestination(CopyDependenciesMojo mojo) throws Exception {
+        mojo.execute();
+        assertTrue(new File(mojo.markersDirectory, "copy-dependencies.sha1").exists());
+
+        Artifact artifact = mojo.getProject().getArtifacts().iterator().next();
+        File file = new File(mojo.outputDirectory, DependencyUtil.getFormattedFileName(artifact, false));
+        Files.write(file.toPath(), "rewritten".getBytes(StandardCharsets.UTF_8));
+        assertTrue(file.setLastModified(artifact.getFile().lastModified() + 60_000));
+
+        mojo.execute();
+
+        assertArrayEquals(Files.readAllBytes(artifact.getFile().toPath()), Files.readAllBytes(file.toPath()));
+    }
+
+    @Test
+    @InjectMojo(goal = "copy-dependencies")
+    @MojoParameter(name = "parallelCopy", value = "true")
+    @MojoParameter(name = "useChecksums", value = "true")
+    void testParallelCopyRecordsChecksumsDespiteFailure(CopyDependenciesMojo mojo) throws Exception {
+        Artifact missing = mojo.getProject().getArtifacts().iterator().next();
+        missing.setFile(new File(tempDir, "missing-" + missing.getArtifactId() + ".jar"));
+
+        assertThrows(MojoExecutionException.class, mojo::execute);
+
+        Properties index = new Properties();
+        try (Reader reader = Files.newBufferedReader(
+                new File(mojo.markersDirectory, "copy-dependencies.sha1").toPath(), StandardCharsets.UTF_8)) {
+            index.load(reader);
+        }
+        File[] copied = mojo.outputDirectory.listFiles(File::isFile);
+        assertTrue(copied.length > 0);
+        assertEquals(copied.length, index.size());
+    }
+
     @Test
     @InjectMojo(goal = "copy-dependencies")
     @MojoParameter(name = "stripVersion", value = "true")
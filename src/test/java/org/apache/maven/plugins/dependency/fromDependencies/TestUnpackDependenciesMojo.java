@@ -28,6 +28,7 @@ import java.util.Set;
 import org.apache.maven.api.plugin.testing.Basedir;
 import org.apache.maven.api.plugin.testing.InjectMojo;
 import org.apache.maven.api.plugin.testing.MojoExtension;
+import org.apache.maven.api.plugin.testing.MojoParameter;
 import org.apache.maven.api.plugin.testing.MojoTest;
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.resolver.filter.ScopeArtifactFilter;
@@ -126,6 +127,17 @@ class TestUnpackDependenciesMojo {
         }
     }
 
+    @Test
+    @InjectMojo(goal = "unpack-dependencies")
+    @MojoParameter(name = "parallelUnpack", value = "true")
+    @MojoParameter(name = "unpackThreads", value = "4")
+    void testParallelUnpack(UnpackDependenciesMojo mojo) throws Exception {
+        mojo.execute();
+        for (Artifact artifact : mojo.getProject().getArtifacts()) {
+            assertUnpacked(mojo, artifact);
+        }
+    }
+
     @Test
     @InjectMojo(goal = "unpack-dependencies")
     void testNoTransitive(UnpackDependenciesMojo mojo) throws Exception {
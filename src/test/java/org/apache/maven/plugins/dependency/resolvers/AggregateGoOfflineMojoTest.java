@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.resolvers;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.handler.manager.ArtifactHandlerManager;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.plugins.dependency.utils.ResolverUtil;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectBuilder;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sonatype.plexus.build.incremental.BuildContext;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AggregateGoOfflineMojoTest {
+
+    private MavenSession session;
+
+    private ResolverUtil resolverUtil;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        session = mock(MavenSession.class);
+        when(session.getRepositorySession()).thenReturn(mock(RepositorySystemSession.class));
+        resolverUtil = mock(ResolverUtil.class);
+        when(resolverUtil.resolvePlugin(any(Plugin.class), any(), any(MavenSession.class)))
+                .thenReturn(new org.eclipse.aether.artifact.DefaultArtifact("test:plugin:1.0"));
+    }
+
+    @Test
+    void pluginsAreResolvedFromTheRepositoriesOfTheirProject() throws Exception {
+        List<RemoteRepository> parentRepositories = repositories("central");
+        List<RemoteRepository> moduleRepositories = repositories("central", "module-plugins");
+        Plugin shared = plugin("shared-plugin");
+        Plugin modulePlugin = plugin("module-plugin");
+        MavenProject parent = project("parent", parentRepositories, shared);
+        MavenProject module = project("module", moduleRepositories, shared, modulePlugin);
+        when(session.getProjects()).thenReturn(Arrays.asList(parent, module));
+
+        AggregateGoOfflineMojo mojo = new AggregateGoOfflineMojo(
+                session,
+                mock(BuildContext.class),
+                parent,
+                resolverUtil,
+                mock(ProjectBuilder.class),
+                mock(ArtifactHandlerManager.class));
+        mojo.doExecute();
+
+        verify(resolverUtil).resolvePlugin(shared, parentRepositories, session);
+        verify(resolverUtil).resolvePlugin(modulePlugin, moduleRepositories, session);
+        verify(resolverUtil, never()).resolvePlugin(modulePlugin, parentRepositories, session);
+        verify(resolverUtil).resolveDependencies(eq(modulePlugin), any(), eq(moduleRepositories), eq(session));
+    }
+
+    private MavenProject project(String artifactId, List<RemoteRepository> repositories, Plugin... plugins) {
+        MavenProject project = mock(MavenProject.class);
+        when(project.getId()).thenReturn("test:" + artifactId + ":pom:1.0");
+        when(project.getArtifact())
+                .thenReturn(new DefaultArtifact(
+                        "test", artifactId, "1.0", null, "pom", null, new DefaultArtifactHandler("pom")));
+        when(project.getRemotePluginRepositories()).thenReturn(repositories);
+        when(project.getRemoteProjectRepositories()).thenReturn(repositories);
+        when(resolverUtil.getProjectPlugins(project)).thenReturn(Arrays.asList(plugins));
+        when(project.getDependencies()).thenReturn(Collections.emptyList());
+        return project;
+    }
+
+    private static Plugin plugin(String artifactId) {
+        Plugin plugin = new Plugin();
+        plugin.setGroupId("test");
+        plugin.setArtifactId(artifactId);
+        plugin.setVersion("1.0");
+        return plugin;
+    }
+
+    private static List<RemoteRepository> repositories(String... ids) {
+        RemoteRepository[] repositories = new RemoteRepository[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            repositories[i] = new RemoteRepository.Builder(ids[i], "default", "https://" + ids[i] + ".example/")
+                    .build();
+        }
+        return Arrays.asList(repositories);
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.resolvers;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.ZipFile;
+
+import org.apache.maven.artifact.handler.manager.ArtifactHandlerManager;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Build;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.DependencyManagement;
+import org.apache.maven.model.Model;
+import org.apache.maven.plugins.dependency.utils.ResolverUtil;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectBuilder;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.resolution.ArtifactResolutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.stubbing.Answer;
+import org.sonatype.plexus.build.incremental.BuildContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GoOfflineExportTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private Path remote;
+
+    private final List<File> stagingDirectories = new ArrayList<>();
+
+    private ResolverUtil resolverUtil;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        remote = tempDir.resolve("remote");
+        resolverUtil = mock(ResolverUtil.class);
+        when(resolverUtil.getProjectPoms(any())).thenCallRealMethod();
+        when(resolverUtil.getImportedPoms(any(), any(), any())).thenCallRealMethod();
+        Answer<Artifact> resolve = invocation -> {
+            Artifact artifact = invocation.getArgument(0);
+            File file = remote.resolve(path(artifact)).toFile();
+            if (!file.isFile()) {
+                throw new ArtifactResolutionException(Collections.emptyList());
+            }
+            return artifact.setFile(file);
+        };
+        when(resolverUtil.resolveConcreteArtifact(any(), any())).thenAnswer(resolve);
+        when(resolverUtil.resolveConcreteArtifact(any(), any(), any())).thenAnswer(resolve);
+        when(resolverUtil.localRepositorySession(any())).thenAnswer(invocation -> {
+            stagingDirectories.add(invocation.getArgument(0));
+            return new DefaultRepositorySystemSession();
+        });
+        doAnswer(invocation -> {
+            Path directory = stagingDirectories.get(stagingDirectories.size() - 1).toPath();
+            for (Artifact artifact : invocation.<Collection<Artifact>>getArgument(0)) {
+                Path target = directory.resolve(path(artifact));
+                Files.createDirectories(target.getParent());
+                Files.copy(artifact.getFile().toPath(), target);
+            }
+            return null;
+        })
+                .when(resolverUtil)
+                .installArtifacts(anyCollection(), any());
+    }
+
+    @Test
+    void exportParentsAndImportedBoms() throws Exception {
+        pom("org.example:grandparent:1", null);
+        pom("org.example:parent:1", "org.example:grandparent:1");
+        pom("org.example:bom-parent:2", null);
+        pom("org.example:bom:2", "org.example:bom-parent:2");
+        pom("org.example:lib:1.0", null);
+        Path jar = remote.resolve("org/example/lib/1.0/lib-1.0.jar");
+        Files.write(jar, new byte[] {1, 2, 3});
+
+        MavenProject project = project();
+        File archive = tempDir.resolve("offline.zip").toFile();
+        GoOfflineMojo mojo = mojo(project);
+        mojo.offlineArchive = archive;
+        mojo.exportOfflineRepository(
+                Collections.singletonList(new DefaultArtifact("org.example:lib:1.0").setFile(jar.toFile())),
+                Collections.singletonList(project));
+
+        Set<String> entries = new HashSet<>();
+        try (ZipFile zip = new ZipFile(archive)) {
+            zip.stream().forEach(entry -> entries.add(entry.getName()));
+        }
+        assertEquals(
+                new HashSet<>(Arrays.asList(
+                        "org/example/lib/1.0/lib-1.0.jar",
+                        "org/example/lib/1.0/lib-1.0.pom",
+                        "org/example/parent/1/parent-1.pom",
+                        "org/example/grandparent/1/grandparent-1.pom",
+                        "org/example/bom/2/bom-2.pom",
+                        "org/example/bom-parent/2/bom-parent-2.pom")),
+                entries);
+    }
+
+    @Test
+    void exportBomsImportedByBomsAndDependencies() throws Exception {
+        pom("org.example:grandparent:1", null);
+        pom("org.example:parent:1", "org.example:grandparent:1");
+        pom("org.example:bom:2", null, "org.example:nested-bom:${project.version}");
+        pom("org.example:nested-bom:2", null);
+        // the import inherited by the dependency is interpolated against the dependency
+        pom("org.example:lib-parent:1", null, "org.example:lib-bom:${project.version}");
+        pom("org.example:lib:1.0", "org.example:lib-parent:1");
+        pom("org.example:lib-bom:1.0", null);
+        Path jar = remote.resolve("org/example/lib/1.0/lib-1.0.jar");
+        Files.write(jar, new byte[] {1, 2, 3});
+
+        MavenProject project = project();
+        File archive = tempDir.resolve("offline.zip").toFile();
+        GoOfflineMojo mojo = mojo(project);
+        mojo.offlineArchive = archive;
+        mojo.exportOfflineRepository(
+                Collections.singletonList(new DefaultArtifact("org.example:lib:1.0").setFile(jar.toFile())),
+                Collections.singletonList(project));
+
+        Set<String> entries = new HashSet<>();
+        try (ZipFile zip = new ZipFile(archive)) {
+            zip.stream().forEach(entry -> entries.add(entry.getName()));
+        }
+        assertEquals(
+                new HashSet<>(Arrays.asList(
+                        "org/example/lib/1.0/lib-1.0.jar",
+                        "org/example/lib/1.0/lib-1.0.pom",
+                        "org/example/lib-parent/1/lib-parent-1.pom",
+                        "org/example/lib-bom/1.0/lib-bom-1.0.pom",
+                        "org/example/parent/1/parent-1.pom",
+                        "org/example/grandparent/1/grandparent-1.pom",
+                        "org/example/bom/2/bom-2.pom",
+                        "org/example/nested-bom/2/nested-bom-2.pom")),
+                entries);
+    }
+
+    @Test
+    void stageArchiveInTemporaryDirectory() throws Exception {
+        MavenProject project = project();
+        File previousExport = new File(project.getBuild().getDirectory(), "offline-repository/kept.txt");
+        assertTrue(previousExport.getParentFile().mkdirs());
+        Files.write(previousExport.toPath(), new byte[0]);
+
+        GoOfflineMojo mojo = mojo(project);
+        mojo.offlineArchive = tempDir.resolve("offline.zip").toFile();
+        mojo.exportOfflineRepository(Collections.emptyList(), Collections.singletonList(project));
+
+        assertTrue(mojo.offlineArchive.isFile());
+        assertTrue(previousExport.isFile());
+        assertEquals(1, stagingDirectories.size());
+        assertFalse(stagingDirectories.get(0).exists());
+    }
+
+    private GoOfflineMojo mojo(MavenProject project) {
+        MavenSession session = mock(MavenSession.class);
+        when(session.getRepositorySession()).thenReturn(new DefaultRepositorySystemSession());
+        when(session.getProjects()).thenReturn(Collections.singletonList(project));
+        return new GoOfflineMojo(
+                session,
+                mock(BuildContext.class),
+                project,
+                resolverUtil,
+                mock(ProjectBuilder.class),
+                mock(ArtifactHandlerManager.class));
+    }
+
+    /**
+     * A project inheriting from {@code org.example:parent:1} and importing {@code org.example:bom:2} with a property.
+     */
+    private MavenProject project() {
+        Model model = new Model();
+        model.setGroupId("test");
+        model.setArtifactId("app");
+        model.setVersion("1.0");
+        model.getProperties().setProperty("bom.version", "2");
+        Build build = new Build();
+        build.setDirectory(tempDir.resolve("target").toString());
+        model.setBuild(build);
+
+        Dependency bom = new Dependency();
+        bom.setGroupId("org.example");
+        bom.setArtifactId("bom");
+        bom.setVersion("${bom.version}");
+        bom.setType("pom");
+        bom.setScope("import");
+        Model originalModel = model.clone();
+        originalModel.setDependencyManagement(new DependencyManagement());
+        originalModel.getDependencyManagement().addDependency(bom);
+
+        MavenProject project = new MavenProject(model);
+        project.setOriginalModel(originalModel);
+        project.setRemoteArtifactRepositories(Collections.emptyList());
+        project.setPluginArtifactRepositories(Collections.emptyList());
+        project.setParentArtifact(new org.apache.maven.artifact.DefaultArtifact(
+                "org.example",
+                "parent",
+                "1",
+                null,
+                "pom",
+                null,
+                new org.apache.maven.artifact.handler.DefaultArtifactHandler("pom")));
+        return project;
+    }
+
+    /**
+     * Writes a POM to the remote repository, with the given parent and importing the given BOMs.
+     */
+    private void pom(String coordinates, String parent, String... imports) throws IOException {
+        String[] coordinateItems = coordinates.split(":");
+        Artifact pom = new DefaultArtifact(coordinateItems[0], coordinateItems[1], "pom", coordinateItems[2]);
+        StringBuilder content = new StringBuilder("<project>\n");
+        if (parent != null) {
+            String[] items = parent.split(":");
+            content.append("  <parent><groupId>")
+                    .append(items[0])
+                    .append("</groupId><artifactId>")
+                    .append(items[1])
+                    .append("</artifactId><version>")
+                    .append(items[2])
+                    .append("</version></parent>\n");
+        }
+        content.append("  <artifactId>").append(pom.getArtifactId()).append("</artifactId>\n");
+        if (imports.length > 0) {
+            content.append("  <dependencyManagement><dependencies>\n");
+            for (String bom : imports) {
+                String[] items = bom.split(":");
+                content.append("    <dependency><groupId>")
+                        .append(items[0])
+                        .append("</groupId><artifactId>")
+                        .append(items[1])
+                        .append("</artifactId><version>")
+                        .append(items[2])
+                        .append("</version><type>pom</type><scope>import</scope></dependency>\n");
+            }
+            content.append("  </dependencies></dependencyManagement>\n");
+        }
+        content.append("</project>\n");
+        Path file = remote.resolve(path(pom));
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String path(Artifact artifact) {
+        return artifact.getGroupId().replace('.', '/') + '/' + artifact.getArtifactId() + '/' + artifact.getVersion()
+                + '/' + artifact.getArtifactId() + '-' + artifact.getVersion() + '.' + artifact.getExtension();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.tree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.internal.DefaultDependencyNode;
+import org.apache.maven.shared.dependency.graph.traversal.CollectingDependencyNodeVisitor;
+import org.apache.maven.shared.dependency.graph.traversal.DependencyNodeVisitor;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.maven.plugins.dependency.tree.DependencyNodes.newNode;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class AbstractSerializingVisitorTest {
+    private final Artifact artifact = mock(Artifact.class);
+
+    @Test
+    void traversesDeepGraphsWithoutRecursion() {
+        DefaultDependencyNode root = newNode(null, artifact);
+        DefaultDependencyNode node = root;
+        for (int i = 0; i < 100_000; i++) {
+            node = newNode(node, artifact);
+        }
+
+        CollectingDependencyNodeVisitor visitor = new CollectingDependencyNodeVisitor();
+        AbstractSerializingVisitor.traverse(root, visitor);
+
+        assertEquals(100_001, visitor.getNodes().size());
+    }
+
+    @Test
+    void visitsEachNodeOnceInCycles() {
+        DefaultDependencyNode root = newNode(null, artifact);
+        DefaultDependencyNode child = newNode(root, artifact);
+        child.getChildren().add(root);
+        child.getChildren().add(child);
+
+        CollectingDependencyNodeVisitor visitor = new CollectingDependencyNodeVisitor();
+        AbstractSerializingVisitor.traverse(root, visitor);
+
+        assertEquals(Arrays.asList(root, child), visitor.getNodes());
+    }
+
+    @Test
+    void stopsLikeAccept() {
+        DefaultDependencyNode root = newNode(null, artifact);
+        DefaultDependencyNode skippedChildren = newNode(root, artifact);
+        newNode(skippedChildren, artifact);
+        DefaultDependencyNode stopping = newNode(root, artifact);
+        newNode(stopping, artifact);
+        newNode(root, artifact);
+
+        RecordingVisitor accepted = new RecordingVisitor(skippedChildren, stopping);
+        RecordingVisitor traversed = new RecordingVisitor(skippedChildren, stopping);
+        root.accept(accepted);
+        AbstractSerializingVisitor.traverse(root, traversed);
+
+        assertEquals(accepted.events, traversed.events);
+    }
+
+    /**
+     * Records the visits, skipping the children of a node and the siblings following another one.
+     */
+    private static final class RecordingVisitor implements DependencyNodeVisitor {
+        private final DependencyNode skippedChildren;
+
+        private final DependencyNode stopping;
+
+        private final List<String> events = new ArrayList<>();
+
+        RecordingVisitor(DependencyNode skippedChildren, DependencyNode stopping) {
+            this.skippedChildren = skippedChildren;
+            this.stopping = stopping;
+        }
+
+        @Override
+        public boolean visit(DependencyNode node) {
+            events.add("visit " + System.identityHashCode(node));
+            return node != skippedChildren;
+        }
+
+        @Override
+        public boolean endVisit(DependencyNode node) {
+            events.add("end " + System.identityHashCode(node));
+            return node != stopping;
+        }
+    }
+}
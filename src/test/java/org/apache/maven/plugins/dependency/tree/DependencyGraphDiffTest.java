@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.tree;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.maven.plugins.dependency.tree.DependencyGraphDiff.Kind;
+import org.apache.maven.shared.dependency.graph.internal.DefaultDependencyNode;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.maven.plugins.dependency.tree.DependencyNodes.newNode;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DependencyGraphDiffTest {
+    @Test
+    void reportsEachKindOfChange() throws IOException {
+        DefaultDependencyNode baseline = newNode(null, "module", "1.0", null);
+        DefaultDependencyNode kept = newNode(baseline, "kept", "1.0", "compile");
+        newNode(kept, "upgraded", "1.0", "compile");
+        newNode(kept, "downgraded", "2.0", "runtime");
+        newNode(baseline, "rescoped", "1.0", "compile");
+        newNode(baseline, "removed", "1.0", "test");
+
+        DefaultDependencyNode current = newNode(null, "module", "1.1", null);
+        DefaultDependencyNode keptAgain = newNode(current, "kept", "1.0", "compile");
+        newNode(keptAgain, "upgraded", "1.0.1", "compile");
+        newNode(keptAgain, "downgraded", "1.9", "runtime");
+        newNode(current, "rescoped", "1.0", "test");
+        newNode(current, "added", "3.0", "compile");
+
+        DependencyGraphDiff diff = DependencyGraphDiff.compare(snapshot(baseline), snapshot(current));
+
+        assertEquals("org.example:module:jar", diff.getModule());
+        assertEquals(
+                Arrays.asList(
+                        "upgraded org.example:upgraded:jar 1.0 -> 1.0.1",
+                        "downgraded org.example:downgraded:jar 2.0 -> 1.9",
+                        "scope changed org.example:rescoped:jar:1.0 compile -> test",
+                        "added org.example:added:jar:3.0:compile",
+                        "removed org.example:removed:jar:1.0:test"),
+                diff.getChanges().stream().map(Object::toString).collect(Collectors.toList()));
+        assertEquals(1, diff.count(Kind.UPGRADED));
+        assertEquals(1, diff.count(Kind.ADDED));
+    }
+
+    @Test
+    void reportsEquivalentVersionsWithoutDirection() throws IOException {
+        DefaultDependencyNode baseline = newNode(null, "module", "1.0", null);
+        newNode(baseline, "respelled", "1.0", "compile");
+        DefaultDependencyNode current = newNode(null, "module", "1.0", null);
+        newNode(current, "respelled", "1.0.0", "runtime");
+
+        DependencyGraphDiff diff = DependencyGraphDiff.compare(snapshot(baseline), snapshot(current));
+
+        assertEquals(
+                Collections.singletonList(
+                        "version changed org.example:respelled:jar 1.0 -> 1.0.0 (compile -> runtime)"),
+                diff.getChanges().stream().map(Object::toString).collect(Collectors.toList()));
+        assertEquals(0, diff.count(Kind.UPGRADED));
+        assertEquals(0, diff.count(Kind.DOWNGRADED));
+    }
+
+    @Test
+    void comparesEqualGraphsWithoutChanges() throws IOException {
+        DefaultDependencyNode root = newNode(null, "module", "1.0", null);
+        newNode(root, "dependency", "1.0", "compile");
+
+        assertEquals(
+                Collections.emptyList(),
+                DependencyGraphDiff.compare(snapshot(root), snapshot(root)).getChanges());
+    }
+
+    @Test
+    void matchesReactorGraphsByModule() throws IOException {
+        DefaultDependencyNode first = newNode(null, "first", "1.0", null);
+        newNode(first, "dependency", "1.0", "compile");
+        DefaultDependencyNode second = newNode(null, "second", "1.0", null);
+        newNode(second, "dependency", "1.0", "compile");
+        DefaultDependencyNode third = newNode(null, "third", "1.0", null);
+        newNode(third, "dependency", "1.0", "compile");
+
+        List<DependencyGraphDiff> diffs = TreeDiffMojo.compare(
+                Arrays.asList(snapshot(first), snapshot(second)), Arrays.asList(snapshot(third), snapshot(first)));
+
+        assertEquals(
+                Arrays.asList("org.example:third:jar", "org.example:first:jar", "org.example:second:jar"),
+                diffs.stream().map(DependencyGraphDiff::getModule).collect(Collectors.toList()));
+        assertEquals(1, diffs.get(0).count(Kind.ADDED));
+        assertEquals(Collections.emptyList(), diffs.get(1).getChanges());
+        assertEquals(1, diffs.get(2).count(Kind.REMOVED));
+    }
+
+    private static DependencyGraphSnapshot snapshot(DefaultDependencyNode root) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        root.accept(new BinaryDependencyNodeVisitor(out));
+        return DependencyGraphSnapshot.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+}
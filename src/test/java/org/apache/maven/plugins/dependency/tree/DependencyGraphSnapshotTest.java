@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.tree;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.maven.plugins.dependency.utils.DependencyUtil;
+import org.apache.maven.shared.dependency.graph.internal.DefaultDependencyNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.apache.maven.plugins.dependency.tree.DependencyNodes.newNode;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DependencyGraphSnapshotTest {
+    @TempDir
+    private File tempDir;
+
+    @Test
+    void readsBackWrittenGraph() throws IOException {
+        DefaultDependencyNode root = newNode(null, "root", "1.0", null, null, false);
+        DefaultDependencyNode child = newNode(root, "child", "2.0", "compile", null, false);
+        newNode(child, "grand-child", "3.0", "runtime", "tests", true);
+        newNode(root, "sibling", "2.0", "custom", null, false);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        root.accept(new BinaryDependencyNodeVisitor(out));
+        DependencyGraphSnapshot graph = DependencyGraphSnapshot.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(4, graph.getNodeCount());
+        assertEquals(-1, graph.getParent(0));
+        assertEquals(Arrays.asList(1, 3), graph.getChildren(0));
+        assertEquals(Collections.singletonList(2), graph.getChildren(1));
+        assertEquals(Collections.emptyList(), graph.getChildren(2));
+
+        assertEquals("org.example", graph.getGroupId(0));
+        assertEquals("root", graph.getArtifactId(0));
+        assertNull(graph.getScope(0));
+        assertEquals("grand-child", graph.getArtifactId(2));
+        assertEquals("3.0", graph.getVersion(2));
+        assertEquals("jar", graph.getType(2));
+        assertEquals("tests", graph.getClassifier(2));
+        assertEquals("runtime", graph.getScope(2));
+        assertTrue(graph.isOptional(2));
+        assertEquals("org.example:grand-child:jar:tests", graph.getKey(2));
+        assertEquals("custom", graph.getScope(3));
+        assertFalse(graph.isOptional(3));
+        assertEquals("org.example:sibling:jar", graph.getKey(3));
+    }
+
+    @Test
+    void readsAppendedGraphsInOrder() throws IOException {
+        DefaultDependencyNode first = newNode(null, "first", "1.0", null, null, false);
+        newNode(first, "dependency", "1.0", "compile", null, false);
+        DefaultDependencyNode second = newNode(null, "second", "1.0", null, null, false);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        first.accept(new BinaryDependencyNodeVisitor(out));
+        second.accept(new BinaryDependencyNodeVisitor(out));
+        InputStream in = new ByteArrayInputStream(out.toByteArray());
+
+        DependencyGraphSnapshot graph = DependencyGraphSnapshot.read(in);
+        assertEquals(2, graph.getNodeCount());
+        assertEquals("dependency", graph.getArtifactId(1));
+        graph = DependencyGraphSnapshot.read(in);
+        assertEquals(1, graph.getNodeCount());
+        assertEquals("second", graph.getArtifactId(0));
+        assertNull(DependencyGraphSnapshot.read(in));
+    }
+
+    @Test
+    void readsGraphsOfParallelModulesAppendedWhole() throws Exception {
+        File file = new File(tempDir, "tree.bin");
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<?>> writes = new ArrayList<>();
+            for (String module : Arrays.asList("first", "second")) {
+                DefaultDependencyNode root = newNode(null, module, "1.0", null, null, false);
+                for (int i = 0; i < 50; i++) {
+                    newNode(root, module + "-dependency-" + i, "1.0", "compile", null, false);
+                }
+                writes.add(executor.submit(() -> {
+                    start.await();
+                    DependencyUtil.write(
+                            out -> root.accept(new BinaryDependencyNodeVisitor(new YieldingOutputStream(out))),
+                            file,
+                            true);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> write : writes) {
+                write.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        List<DependencyGraphSnapshot> graphs = DependencyGraphSnapshot.readAll(file);
+        assertEquals(2, graphs.size());
+        for (DependencyGraphSnapshot graph : graphs) {
+            assertEquals(51, graph.getNodeCount());
+            String module = graph.getArtifactId(0);
+            for (int child : graph.getChildren(0)) {
+                assertEquals(module + "-dependency-" + (child - 1), graph.getArtifactId(child));
+            }
+        }
+    }
+
+    @Test
+    void rejectsOtherFormats() {
+        InputStream in = new ByteArrayInputStream("{\"groupId\"".getBytes());
+
+        assertThrows(IOException.class, () -> DependencyGraphSnapshot.read(in));
+    }
+
+    /**
+     * Hands each written byte over right away, giving the other writers a chance to interleave.
+     */
+    private static final class YieldingOutputStream extends FilterOutputStream {
+        YieldingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            super.write(b);
+            flush();
+            Thread.yield();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.tree;
+
+import java.util.ArrayList;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.internal.DefaultDependencyNode;
+
+/**
+ * Builds dependency graphs for the tree tests, appending each new node to the children of its parent.
+ */
+final class DependencyNodes {
+    private DependencyNodes() {}
+
+    static DefaultDependencyNode newNode(DependencyNode parent, String artifactId) {
+        return newNode(parent, artifactId, "1.0", "compile");
+    }
+
+    static DefaultDependencyNode newNode(DependencyNode parent, String artifactId, String version, String scope) {
+        return newNode(parent, artifactId, version, scope, null, false);
+    }
+
+    static DefaultDependencyNode newNode(
+            DependencyNode parent,
+            String artifactId,
+            String version,
+            String scope,
+            String classifier,
+            boolean optional) {
+        DefaultArtifact artifact = new DefaultArtifact(
+                "org.example", artifactId, version, scope, "jar", classifier, new DefaultArtifactHandler("jar"));
+        artifact.setOptional(optional);
+        return newNode(parent, artifact);
+    }
+
+    static DefaultDependencyNode newNode(DependencyNode parent, Artifact artifact) {
+        DefaultDependencyNode node = new DefaultDependencyNode(parent, artifact, null, null, null);
+        node.setChildren(new ArrayList<>());
+        if (parent != null) {
+            parent.getChildren().add(node);
+        }
+        return node;
+    }
+}
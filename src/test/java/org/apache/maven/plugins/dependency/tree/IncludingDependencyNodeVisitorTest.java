@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.tree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.filter.DependencyNodeFilter;
+import org.apache.maven.shared.dependency.graph.internal.DefaultDependencyNode;
+import org.apache.maven.shared.dependency.graph.traversal.DependencyNodeVisitor;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.maven.plugins.dependency.tree.DependencyNodes.newNode;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IncludingDependencyNodeVisitorTest {
+    @Test
+    void delegatesAcceptedNodesAndTheirAncestors() {
+        DefaultDependencyNode root = newNode(null, "root");
+        DefaultDependencyNode parent = newNode(root, "parent");
+        newNode(parent, "unmatched");
+        DefaultDependencyNode matched = newNode(parent, "matched");
+        newNode(matched, "matched-child");
+        DefaultDependencyNode sibling = newNode(root, "sibling");
+        newNode(sibling, "sibling-child");
+        DependencyNodeFilter filter = node -> node == matched;
+
+        RecordingVisitor recordingVisitor = new RecordingVisitor();
+        root.accept(new IncludingDependencyNodeVisitor(recordingVisitor, filter));
+
+        assertEquals(Arrays.asList(root, parent, matched), recordingVisitor.visited);
+        assertEquals(Arrays.asList(matched, parent, root), recordingVisitor.endVisited);
+    }
+
+    @Test
+    void delegatesNothingWithoutAcceptedNode() {
+        DefaultDependencyNode root = newNode(null, "root");
+        newNode(newNode(root, "child"), "grand-child");
+
+        RecordingVisitor recordingVisitor = new RecordingVisitor();
+        root.accept(new IncludingDependencyNodeVisitor(recordingVisitor, node -> false));
+
+        assertEquals(Collections.emptyList(), recordingVisitor.visited);
+        assertEquals(Collections.emptyList(), recordingVisitor.endVisited);
+    }
+
+    @Test
+    void delegatesSecondMatchUnderSameAncestorOnce() {
+        DefaultDependencyNode root = newNode(null, "root");
+        DefaultDependencyNode first = newNode(root, "first");
+        DefaultDependencyNode second = newNode(root, "second");
+
+        RecordingVisitor recordingVisitor = new RecordingVisitor();
+        root.accept(new IncludingDependencyNodeVisitor(recordingVisitor, node -> node != root));
+
+        assertEquals(Arrays.asList(root, first, second), recordingVisitor.visited);
+        assertEquals(Arrays.asList(first, second, root), recordingVisitor.endVisited);
+    }
+
+    private static final class RecordingVisitor implements DependencyNodeVisitor {
+        private final List<DependencyNode> visited = new ArrayList<>();
+
+        private final List<DependencyNode> endVisited = new ArrayList<>();
+
+        @Override
+        public boolean visit(DependencyNode node) {
+            visited.add(node);
+            return true;
+        }
+
+        @Override
+        public boolean endVisit(DependencyNode node) {
+            endVisited.add(node);
+            return true;
+        }
+    }
+}
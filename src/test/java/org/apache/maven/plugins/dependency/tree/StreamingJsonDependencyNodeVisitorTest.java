@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.tree;
+
+import java.io.File;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.maven.plugins.dependency.utils.DependencyUtil;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.internal.DefaultDependencyNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.apache.maven.plugins.dependency.tree.DependencyNodes.newNode;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamingJsonDependencyNodeVisitorTest {
+    @TempDir
+    private File tempDir;
+
+    @Test
+    void writesSameOutputAsJsonVisitor() {
+        DefaultDependencyNode root = newNode(null, "root");
+        DefaultDependencyNode child = newNode(root, "child");
+        DefaultDependencyNode grandChild = newNode(child, "grand-child");
+        newNode(grandChild, "leaf");
+        newNode(child, "second-grand-child");
+        newNode(root, "sibling");
+
+        assertEquals(serializeWithJsonVisitor(root), serializeWithStreamingVisitor(root));
+    }
+
+    @Test
+    void writesSingleNodeLikeJsonVisitor() {
+        DefaultDependencyNode root = newNode(null, "root");
+
+        assertEquals(serializeWithJsonVisitor(root), serializeWithStreamingVisitor(root));
+    }
+
+    @Test
+    void leavesOutPrunedNodes() {
+        DefaultDependencyNode root = newNode(null, "root");
+        DefaultDependencyNode pruned = newNode(root, "pruned");
+        newNode(pruned, "pruned-child");
+        newNode(root, "kept");
+
+        StringWriter writer = new StringWriter();
+        root.accept(new PruningDependencyNodeVisitor(
+                new StreamingJsonDependencyNodeVisitor(writer), node -> node != pruned));
+
+        root.getChildren().remove(pruned);
+        assertEquals(serializeWithJsonVisitor(root), writer.toString());
+    }
+
+    @Test
+    void appendsTreesOfParallelModulesWhole() throws Exception {
+        DependencyNode first = newModule("first");
+        DependencyNode second = newModule("second");
+        File file = new File(tempDir, "tree.json");
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<?>> writes = new ArrayList<>();
+            for (DependencyNode root : Arrays.asList(first, second)) {
+                writes.add(executor.submit(() -> {
+                    start.await();
+                    DependencyUtil.write(
+                            writer -> root.accept(new StreamingJsonDependencyNodeVisitor(new YieldingWriter(writer))),
+                            file,
+                            true,
+                            "UTF-8");
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> write : writes) {
+                write.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        String firstJson = serializeWithStreamingVisitor(first);
+        String secondJson = serializeWithStreamingVisitor(second);
+        String written = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        assertTrue(written.equals(firstJson + secondJson) || written.equals(secondJson + firstJson), written);
+    }
+
+    private static String serializeWithJsonVisitor(DependencyNode root) {
+        StringWriter writer = new StringWriter();
+        root.accept(new BuildingDependencyNodeVisitor(new JsonDependencyNodeVisitor(writer)));
+        return writer.toString();
+    }
+
+    private static String serializeWithStreamingVisitor(DependencyNode root) {
+        StringWriter writer = new StringWriter();
+        root.accept(new StreamingJsonDependencyNodeVisitor(writer));
+        return writer.toString();
+    }
+
+    private static DependencyNode newModule(String artifactId) {
+        DefaultDependencyNode root = newNode(null, artifactId);
+        for (int i = 0; i < 50; i++) {
+            newNode(newNode(root, artifactId + "-child-" + i), artifactId + "-grand-child-" + i);
+        }
+        return root;
+    }
+
+    /**
+     * Hands the written characters over right away, giving the other writers a chance to interleave.
+     */
+    private static final class YieldingWriter extends FilterWriter {
+        YieldingWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        public void write(String string, int offset, int length) throws IOException {
+            super.write(string, offset, length);
+            flush();
+            Thread.yield();
+        }
+    }
+}
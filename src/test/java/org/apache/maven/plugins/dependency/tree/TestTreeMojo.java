@@ -29,6 +29,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
@@ -43,6 +44,8 @@ import org.apache.maven.api.plugin.testing.MojoParameter;
 import org.apache.maven.api.plugin.testing.MojoTest;
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.plugins.dependency.testUtils.DependencyArtifactStubFactory;
 import org.apache.maven.project.DefaultProjectBuildingRequest;
 import org.apache.maven.project.MavenProject;
@@ -54,10 +57,15 @@ import org.junit.jupiter.api.io.TempDir;
 
 import static org.apache.maven.api.plugin.testing.MojoExtension.setVariableValueToObject;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.endsWith;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -255,6 +263,90 @@ class TestTreeMojo {
         }
     }
 
+    /**
+     * Test the binary format serialization, read back as a snapshot
+     *
+     * @throws Exception in case of an error.
+     */
+    @Test
+    @InjectMojo(goal = "tree")
+    @MojoParameter(name = "outputType", value = "binary")
+    void testTreeBinarySerializing(TreeMojo mojo) throws Exception {
+        File outputFile = new File(tempDir, "tree.bin");
+        executeTreeMojo(mojo, outputFile);
+
+        List<DependencyGraphSnapshot> snapshots = DependencyGraphSnapshot.readAll(outputFile);
+        assertEquals(1, snapshots.size());
+
+        DependencyGraphSnapshot snapshot = snapshots.get(0);
+        assertEquals("testGroupId", snapshot.getGroupId(0));
+        assertEquals("project", snapshot.getArtifactId(0));
+        assertEquals("1.0", snapshot.getVersion(0));
+
+        List<String> children = snapshot.getChildren(0).stream()
+                .map(snapshot::getArtifactId)
+                .sorted()
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList("release", "snapshot"), children);
+    }
+
+    /**
+     * The binary format cannot be streamed to the log.
+     */
+    @Test
+    @InjectMojo(goal = "tree")
+    @MojoParameter(name = "outputType", value = "binary")
+    void testTreeBinaryRequiresOutputFile(TreeMojo mojo) {
+        MojoFailureException exception = assertThrows(MojoFailureException.class, () -> executeTreeMojo(mojo, null));
+        assertEquals("The binary output type requires an outputFile", exception.getMessage());
+    }
+
+    /**
+     * The binary format cannot tell the nodes omitted from a verbose tree from the resolved ones.
+     */
+    @Test
+    @InjectMojo(goal = "tree")
+    @MojoParameter(name = "outputType", value = "binary")
+    @MojoParameter(name = "verbose", value = "true")
+    void testTreeBinaryRejectsVerbose(TreeMojo mojo) {
+        MojoFailureException exception = assertThrows(MojoFailureException.class, () -> runTreeMojo(mojo));
+        assertEquals("The binary output type does not support verbose trees", exception.getMessage());
+    }
+
+    /**
+     * Test the includes, keeping the matching nodes and their ancestors only
+     *
+     * @throws Exception in case of an error.
+     */
+    @Test
+    @InjectMojo(goal = "tree")
+    void testTreeIncludes(TreeMojo mojo) throws Exception {
+        setVariableValueToObject(mojo, "includes", Collections.singletonList("testGroupId:release"));
+
+        List<String> contents = runTreeMojo(mojo);
+        assertTrue(findString(contents, "testGroupId:project:jar:1.0:compile"));
+        assertTrue(findString(contents, "testGroupId:release:jar:1.0:compile"));
+        assertFalse(findString(contents, "testGroupId:snapshot"));
+    }
+
+    /**
+     * Test the tree is written to the log, line by line, without an output file
+     *
+     * @throws Exception in case of an error.
+     */
+    @Test
+    @InjectMojo(goal = "tree")
+    void testTreeLogging(TreeMojo mojo) throws Exception {
+        Log log = mock(Log.class);
+        mojo.setLog(log);
+
+        executeTreeMojo(mojo, null);
+
+        verify(log).info("testGroupId:project:jar:1.0:compile");
+        verify(log).info(endsWith("- testGroupId:release:jar:1.0:compile"));
+        verify(log).info(endsWith("- testGroupId:snapshot:jar:2.0-SNAPSHOT:compile"));
+    }
+
     /**
      * Help finding content in the given list of string
      *
@@ -263,8 +355,19 @@ class TestTreeMojo {
      */
     private List<String> runTreeMojo(TreeMojo mojo) throws Exception {
         Path outputFilePath = Paths.get(tempDir.getPath(), "outputFile.txt");
+        executeTreeMojo(mojo, outputFilePath.toFile());
+
+        return Files.readAllLines(outputFilePath);
+    }
+
+    /**
+     * Runs the mojo on the stub project, writing the tree to the given file, or to the log if it is null.
+     *
+     * @throws Exception in case of an error.
+     */
+    private void executeTreeMojo(TreeMojo mojo, File outputFile) throws Exception {
         setVariableValueToObject(mojo, "outputEncoding", "UTF-8");
-        setVariableValueToObject(mojo, "outputFile", outputFilePath.toFile());
+        setVariableValueToObject(mojo, "outputFile", outputFile);
 
         assertNotNull(mojo);
         assertNotNull(mojo.getProject());
@@ -279,8 +382,6 @@ class TestTreeMojo {
         project.setDependencyArtifacts(directArtifacts);
 
         mojo.execute();
-
-        return Files.readAllLines(outputFilePath);
     }
 
     /**
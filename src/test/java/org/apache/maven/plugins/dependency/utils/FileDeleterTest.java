@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileDeleterTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void deletesTreesAndCountsFiles() throws IOException {
+        Path version = Files.createDirectories(tempDir.resolve("org/example/artifact/1.0"));
+        Files.write(version.resolve("artifact-1.0.jar"), new byte[100]);
+        Files.write(version.resolve("artifact-1.0.pom"), new byte[20]);
+        Path other = Files.write(tempDir.resolve("other.txt"), new byte[5]);
+
+        FileDeleter deleter = new FileDeleter();
+        deleter.delete(tempDir.resolve("org/example/artifact"));
+        deleter.delete(other);
+
+        assertThat(tempDir.resolve("org/example/artifact")).doesNotExist();
+        assertThat(other).doesNotExist();
+        assertThat(tempDir.resolve("org/example")).exists();
+        assertThat(deleter.getDeletedFiles()).isEqualTo(3);
+        assertThat(deleter.getDeletedBytes()).isEqualTo(125);
+        assertThat(deleter.getFailures()).isEmpty();
+    }
+
+    @Test
+    void missingPathsAreIgnored() {
+        FileDeleter deleter = new FileDeleter();
+        deleter.delete(tempDir.resolve("missing"));
+
+        assertThat(deleter.getDeletedFiles()).isZero();
+        assertThat(deleter.getFailures()).isEmpty();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalRepositoryIndexTest {
+
+    @TempDir
+    private Path repository;
+
+    @Test
+    void versionDirectoriesAreIndexedLeastRecentlyUsedFirst() throws IOException {
+        Path recent = createVersion("org/apache/maven/maven/3.9.0", "maven-3.9.0.pom", 10, 2000);
+        Path old = createVersion("junit/junit/4.13.2", "junit-4.13.2.jar", 300, 1000);
+        // artifact metadata does not make a version directory, even when its name starts like one
+        Files.write(repository.resolve("org/apache/maven/maven/maven-metadata-central.xml"), new byte[7]);
+
+        LocalRepositoryIndex index = LocalRepositoryIndex.scan(repository, 2);
+
+        assertThat(index.getEntries())
+                .extracting(LocalRepositoryIndex.Entry::getDirectory)
+                .containsExactly(old, recent);
+        assertThat(index.getEntries().get(0).getSize()).isEqualTo(300);
+        assertThat(index.getEntries().get(0).getLastUsed()).isGreaterThanOrEqualTo(1000);
+        assertThat(index.getSize()).isEqualTo(310);
+    }
+
+    private Path createVersion(String directory, String fileName, int size, long time) throws IOException {
+        Path version = Files.createDirectories(repository.resolve(directory));
+        Path file = Files.write(version.resolve(fileName), new byte[size]);
+        Files.setAttribute(file, "lastAccessTime", FileTime.fromMillis(time));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(time));
+        return version;
+    }
+}
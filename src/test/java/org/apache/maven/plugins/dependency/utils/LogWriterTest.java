@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.utils;
+
+import java.io.IOException;
+
+import org.apache.maven.plugin.logging.Log;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+class LogWriterTest {
+
+    @Test
+    void logsLinesOnceComplete() throws IOException {
+        Log log = mock(Log.class);
+        LogWriter writer = new LogWriter(log);
+
+        writer.write("first ");
+        writer.flush();
+        verify(log, never()).info(any(CharSequence.class));
+
+        writer.write("line\r\nsecond line\n\nthi");
+        writer.write(new char[] {'r', 'd', '\n', 'l', 'a', 's', 't'}, 0, 7);
+        writer.close();
+
+        InOrder inOrder = inOrder(log);
+        inOrder.verify(log).info("first line");
+        inOrder.verify(log).info("second line");
+        inOrder.verify(log).info("");
+        inOrder.verify(log).info("third");
+        inOrder.verify(log).info("last");
+        verifyNoMoreInteractions(log);
+    }
+
+    @Test
+    void terminatedLastLineIsLoggedOnce() throws IOException {
+        Log log = mock(Log.class);
+        LogWriter writer = new LogWriter(log);
+
+        writer.write("only line\n");
+        writer.close();
+
+        verify(log).info("only line");
+        verifyNoMoreInteractions(log);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Optional;
+
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParentPomReaderTest {
+
+    @TempDir
+    private File tempDir;
+
+    private final ParentPomReader reader = new ParentPomReader();
+
+    @Test
+    void readParentCoordinates() throws Exception {
+        Artifact pom = pom("<project>\n"
+                + "  <modelVersion>4.0.0</modelVersion>\n"
+                + "  <parent>\n"
+                + "    <groupId> org.example </groupId>\n"
+                + "    <artifactId>parent</artifactId>\n"
+                + "    <version>1.0</version>\n"
+                + "    <relativePath/>\n"
+                + "  </parent>\n"
+                + "  <artifactId>child</artifactId>\n"
+                + "</project>\n");
+
+        Artifact parent = reader.getParent(pom).get();
+        assertEquals("org.example:parent:pom:1.0", parent.toString());
+    }
+
+    @Test
+    void ignoreNestedParentElements() throws Exception {
+        Artifact pom = pom("<project>\n"
+                + "  <artifactId>child</artifactId>\n"
+                + "  <build><plugins><plugin><configuration><parent>\n"
+                + "    <groupId>g</groupId><artifactId>a</artifactId><version>1</version>\n"
+                + "  </parent></configuration></plugin></plugins></build>\n"
+                + "</project>\n");
+
+        assertFalse(reader.getParent(pom).isPresent());
+    }
+
+    @Test
+    void rejectExpressionInParentVersion() throws Exception {
+        Artifact pom = pom("<project><parent>"
+                + "<groupId>g</groupId><artifactId>a</artifactId><version>${revision}</version>"
+                + "</parent></project>");
+
+        assertThrows(IOException.class, () -> reader.getParent(pom));
+    }
+
+    @Test
+    void readerIsSharedBySession() throws Exception {
+        DefaultRepositorySystemSession session = new DefaultRepositorySystemSession();
+        ParentPomReader sessionReader = ParentPomReader.of(session);
+        assertSame(sessionReader, ParentPomReader.of(session));
+
+        Artifact pom = pom("<project><parent>"
+                + "<groupId>g</groupId><artifactId>a</artifactId><version>1</version>"
+                + "</parent></project>");
+        Optional<Artifact> parent = sessionReader.getParent(pom);
+        assertSame(parent, sessionReader.getParent(pom));
+    }
+
+    private Artifact pom(String content) throws IOException {
+        File file = File.createTempFile("test", ".pom", tempDir);
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return new DefaultArtifact("org.example", "child", "", "pom", "1.0").setFile(file);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.utils;
+
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PurgeReportTest {
+
+    @TempDir
+    private Path repository;
+
+    @Test
+    void nestedTargetsAreCountedOnce() throws Exception {
+        Path artifact = Files.createDirectories(repository.resolve("org/example/artifact"));
+        Path version = Files.createDirectories(artifact.resolve("1.0"));
+        Files.write(version.resolve("artifact-1.0.jar"), new byte[100]);
+        Files.write(artifact.resolve("maven-metadata-central.xml"), new byte[10]);
+
+        PurgeReport report = new PurgeReport(repository);
+        report.addTarget(version, "org.example:artifact:jar:1.0");
+        report.addTarget(artifact, "org.example:artifact");
+        report.addTarget(repository.resolve("missing"), "org.example:missing");
+        report.measure(2);
+
+        assertThat(report.getTargetCount()).isEqualTo(2);
+        assertThat(report.getFiles()).isEqualTo(2);
+        assertThat(report.getBytes()).isEqualTo(110);
+
+        StringWriter json = new StringWriter();
+        report.write(json);
+        assertThat(json.toString())
+                .contains("\"bytes\": 110,")
+                .contains("\"reasons\": [\"org.example:artifact\", \"org.example:artifact:jar:1.0\"]")
+                .contains("\"reasons\": [\"org.example:missing\"]");
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.repository.WorkspaceRepository;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ResolutionCacheTest {
+
+    private final DefaultRepositorySystemSession session = new DefaultRepositorySystemSession();
+
+    private final List<RemoteRepository> central = Collections.singletonList(
+            new RemoteRepository.Builder("central", "default", "https://repo.maven.apache.org/maven2").build());
+
+    private final Artifact artifact = new DefaultArtifact("groupId", "artifactId", "sources", "jar", "1.0");
+
+    @TempDir
+    private File tempDir;
+
+    @Test
+    void cacheIsSharedBySession() {
+        assertNull(ResolutionCache.find(session));
+        ResolutionCache cache = ResolutionCache.of(session);
+        assertSame(cache, ResolutionCache.of(session));
+        assertSame(cache, ResolutionCache.find(session));
+    }
+
+    @Test
+    void artifactsAreKeyedByCoordinatesAndRepositories() throws IOException {
+        ResolutionCache cache = ResolutionCache.of(session);
+        Artifact resolved = artifact.setFile(
+                Files.createFile(new File(tempDir, "artifactId-1.0-sources.jar").toPath()).toFile());
+        cache.putArtifact(
+                session, new ArtifactResult(new ArtifactRequest(artifact, central, null)).setArtifact(resolved));
+
+        assertSame(resolved, cache.getArtifact(session, artifact, central));
+        assertNull(cache.getArtifact(session, artifact, Collections.emptyList()));
+        assertNull(cache.getArtifact(session, new DefaultArtifact("groupId:artifactId:jar:1.0"), central));
+        assertEquals("artifacts: 1 hits, 2 misses; descriptors: 0 hits, 0 misses", cache.toString());
+    }
+
+    @Test
+    void deletedArtifactsAreResolvedAgain() throws IOException {
+        ResolutionCache cache = ResolutionCache.of(session);
+        File file = Files.createFile(new File(tempDir, "artifactId-1.0-sources.jar").toPath()).toFile();
+        cache.putArtifact(
+                session,
+                new ArtifactResult(new ArtifactRequest(artifact, central, null)).setArtifact(artifact.setFile(file)));
+        assertEquals(file, cache.getArtifact(session, artifact, central).getFile());
+
+        Files.delete(file.toPath());
+        assertNull(cache.getArtifact(session, artifact, central));
+    }
+
+    @Test
+    void failuresAndReactorArtifactsAreNotCached() {
+        ResolutionCache cache = ResolutionCache.of(session);
+        cache.putArtifact(session, new ArtifactResult(new ArtifactRequest(artifact, central, null)));
+        assertNull(cache.getArtifact(session, artifact, central));
+
+        cache.putArtifact(
+                session,
+                new ArtifactResult(new ArtifactRequest(artifact, central, null))
+                        .setArtifact(artifact.setFile(new File("target/classes")))
+                        .setRepository(new WorkspaceRepository()));
+        assertNull(cache.getArtifact(session, artifact, central));
+    }
+
+    @Test
+    void descriptorsAreSharedBySiblings() {
+        ResolutionCache cache = ResolutionCache.of(session);
+        Artifact relocated = new DefaultArtifact("newGroupId", "artifactId", null, "jar", "1.0");
+        cache.putDescriptorArtifact(session, artifact, central, relocated);
+
+        Artifact pom = new DefaultArtifact("groupId:artifactId:pom:1.0");
+        assertSame(relocated, cache.getDescriptorArtifact(session, pom, central));
+        assertNull(cache.getDescriptorArtifact(session, pom.setVersion("2.0"), central));
+    }
+}
@@ -21,7 +21,9 @@ package org.apache.maven.plugins.dependency.utils;
 import javax.inject.Provider;
 
 import java.io.File;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.apache.maven.RepositoryUtils;
@@ -30,6 +32,7 @@ import org.apache.maven.execution.MavenExecutionRequest;
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.project.artifact.ProjectArtifactMetadata;
 import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.DefaultSessionData;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.artifact.Artifact;
@@ -45,6 +48,7 @@ import org.eclipse.aether.resolution.ArtifactDescriptorException;
 import org.eclipse.aether.resolution.ArtifactDescriptorRequest;
 import org.eclipse.aether.resolution.ArtifactDescriptorResult;
 import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResolutionException;
 import org.eclipse.aether.resolution.ArtifactResult;
 import org.eclipse.aether.resolution.DependencyRequest;
 import org.eclipse.aether.resolution.DependencyResult;
@@ -67,6 +71,7 @@ import static org.junit.jupiter.params.provider.Arguments.of;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -224,6 +229,7 @@ class ResolverUtilTest {
                 new ArtifactDescriptorException(new ArtifactDescriptorResult(descriptorRequest));
         ArtifactResult artifactResult = new ArtifactResult(new ArtifactRequest()).setArtifact(artifact);
 
+        when(repositorySystemSession.getData()).thenReturn(new DefaultSessionData());
         when(repositorySystem.readArtifactDescriptor(eq(repositorySystemSession), any(ArtifactDescriptorRequest.class)))
                 .thenThrow(descriptorException);
         when(repositorySystem.resolveArtifact(eq(repositorySystemSession), any(ArtifactRequest.class)))
@@ -236,6 +242,82 @@ class ResolverUtilTest {
         verify(repositorySystem).resolveArtifact(eq(repositorySystemSession), any(ArtifactRequest.class));
     }
 
+    @Test
+    void resolveConcreteArtifactReusesRelocationOfSibling() throws Exception {
+        when(sessionProvider.get()).thenReturn(mavenSession);
+        when(mavenSession.getRepositorySession()).thenReturn(repositorySystemSession);
+        when(repositorySystemSession.getData()).thenReturn(new DefaultSessionData());
+        Artifact jar = new DefaultArtifact("groupId", "artifactId", null, "jar", "1.0");
+        Artifact relocatedJar = new DefaultArtifact("newGroupId", "artifactId", null, "jar", "1.0");
+        ArtifactDescriptorResult descriptorResult =
+                new ArtifactDescriptorResult(new ArtifactDescriptorRequest()).setArtifact(relocatedJar);
+
+        when(repositorySystem.readArtifactDescriptor(eq(repositorySystemSession), any(ArtifactDescriptorRequest.class)))
+                .thenReturn(descriptorResult);
+        when(repositorySystem.resolveArtifact(eq(repositorySystemSession), any(ArtifactRequest.class)))
+                .thenAnswer(invocation -> new ArtifactResult(invocation.getArgument(1))
+                        .setArtifact(invocation.<ArtifactRequest>getArgument(1).getArtifact()));
+
+        assertThat(resolverUtil.resolveArtifact(jar, Collections.emptyList())).isSameAs(relocatedJar);
+        Artifact pom = resolverUtil.resolveConcreteArtifact(
+                new DefaultArtifact("groupId", "artifactId", null, "pom", "1.0"), Collections.emptyList());
+        Artifact sources = resolverUtil.resolveConcreteArtifact(
+                new DefaultArtifact("otherGroupId", "artifactId", "sources", "jar", "1.0"), Collections.emptyList());
+
+        assertThat(pom.getGroupId()).isEqualTo("newGroupId");
+        assertThat(pom.getExtension()).isEqualTo("pom");
+        assertThat(sources.getGroupId()).isEqualTo("otherGroupId");
+        verify(repositorySystem)
+                .readArtifactDescriptor(eq(repositorySystemSession), any(ArtifactDescriptorRequest.class));
+    }
+
+    @Test
+    void resolveArtifactsInOneRequestWithoutDescriptors() throws Exception {
+        when(sessionProvider.get()).thenReturn(mavenSession);
+        when(mavenSession.getRepositorySession()).thenReturn(repositorySystemSession);
+        when(repositorySystemSession.getData()).thenReturn(new DefaultSessionData());
+        Artifact sources = new DefaultArtifact("groupId", "artifactId", "sources", "jar", "1.0");
+        Artifact javadoc = new DefaultArtifact("groupId", "artifactId", "javadoc", "jar", "1.0");
+        ArtifactResult resolved = new ArtifactResult(new ArtifactRequest(sources, null, null))
+                .setArtifact(sources.setFile(new File(tempDir, "artifactId-1.0-sources.jar")));
+        ArtifactResult missing = new ArtifactResult(new ArtifactRequest(javadoc, null, null));
+
+        when(repositorySystem.resolveArtifacts(eq(repositorySystemSession), any()))
+                .thenThrow(new ArtifactResolutionException(Arrays.asList(resolved, missing)));
+
+        List<ArtifactResult> results =
+                resolverUtil.resolveArtifacts(Arrays.asList(sources, javadoc), Collections.emptyList());
+
+        assertThat(results).containsExactly(resolved, missing);
+        verify(repositorySystem)
+                .resolveArtifacts(eq(repositorySystemSession), argThat(requests -> requests.size() == 2));
+        verify(repositorySystem, never()).readArtifactDescriptor(any(), any());
+    }
+
+    @Test
+    void relocateArtifactReadsDescriptorOnce() throws Exception {
+        when(sessionProvider.get()).thenReturn(mavenSession);
+        when(mavenSession.getRepositorySession()).thenReturn(repositorySystemSession);
+        when(repositorySystemSession.getData()).thenReturn(new DefaultSessionData());
+        Artifact jar = new DefaultArtifact("groupId", "artifactId", null, "jar", "1.0");
+        Artifact relocatedJar = new DefaultArtifact("newGroupId", "artifactId", null, "jar", "1.0");
+        ArtifactDescriptorResult descriptorResult =
+                new ArtifactDescriptorResult(new ArtifactDescriptorRequest()).setArtifact(relocatedJar);
+
+        when(repositorySystem.readArtifactDescriptor(eq(repositorySystemSession), any(ArtifactDescriptorRequest.class)))
+                .thenReturn(descriptorResult);
+
+        assertThat(resolverUtil.relocateArtifact(jar, Collections.emptyList())).isSameAs(relocatedJar);
+        Artifact sources = resolverUtil.relocateArtifact(
+                new DefaultArtifact("groupId", "artifactId", "sources", "jar", "1.0"), Collections.emptyList());
+
+        assertThat(sources.getGroupId()).isEqualTo("newGroupId");
+        assertThat(sources.getClassifier()).isEqualTo("sources");
+        verify(repositorySystem)
+                .readArtifactDescriptor(eq(repositorySystemSession), any(ArtifactDescriptorRequest.class));
+        verify(repositorySystem, never()).resolveArtifact(any(), any());
+    }
+
     @Test
     void installArtifact() throws Exception {
         org.apache.maven.artifact.Artifact artifact = new org.apache.maven.artifact.DefaultArtifact(
@@ -274,6 +356,20 @@ class ResolverUtilTest {
                 });
     }
 
+    @Test
+    void installArtifactsInOneRequest() throws Exception {
+        Artifact jar = new DefaultArtifact("org.apache.maven.plugins:artifact:1.0").setFile(new File(tempDir, "a.jar"));
+        Artifact pom =
+                new DefaultArtifact("org.apache.maven.plugins:artifact:pom:1.0").setFile(new File(tempDir, "a.pom"));
+
+        resolverUtil.installArtifacts(Arrays.asList(jar, pom), repositorySystemSession);
+
+        verify(repositorySystem)
+                .install(
+                        eq(repositorySystemSession),
+                        argThat(request -> request.getArtifacts().equals(Arrays.asList(jar, pom))));
+    }
+
     @ParameterizedTest
     @CsvSource({"simple, simple", "enhanced, default"})
     void localRepositorySessionPreservesRepositoryType(String currentType, String expectedType) {
@@ -19,6 +19,17 @@
 package org.apache.maven.plugins.dependency.utils;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.DefaultArtifact;
@@ -342,4 +353,58 @@ class TestDependencyUtil {
         DependencyUtil.write(TEST_CONTENT, file, true, "UTF-8");
         assertThat(file).hasContent(TEST_CONTENT + TEST_CONTENT);
     }
+
+    @Test
+    void concurrentContentsAreAppendedWhole() throws Exception {
+        File file = new File(temDir, "file3.out");
+        String first = lines("first");
+        String second = lines("second");
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<?>> writes = new ArrayList<>();
+            for (String content : Arrays.asList(first, second)) {
+                writes.add(executor.submit(() -> {
+                    start.await();
+                    DependencyUtil.write(writer -> writeSlowly(content, writer), file, true, "UTF-8");
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> write : writes) {
+                write.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8))
+                .isIn(first + second, second + first);
+    }
+
+    @Test
+    void sizesAreFormattedInBinaryUnits() {
+        assertEquals("0 B", DependencyUtil.formatSize(0));
+        assertEquals("1023 B", DependencyUtil.formatSize(1023));
+        assertEquals("1.0 KB", DependencyUtil.formatSize(1024));
+        assertEquals("1.5 MB", DependencyUtil.formatSize(3L << 19));
+        assertEquals("2.0 GB", DependencyUtil.formatSize(2L << 30));
+    }
+
+    private static String lines(String prefix) {
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            lines.append(prefix).append(' ').append(i).append('\n');
+        }
+        return lines.toString();
+    }
+
+    private static void writeSlowly(String content, Writer writer) throws IOException {
+        for (String line : content.split("(?<=\n)")) {
+            writer.write(line);
+            writer.flush();
+            Thread.yield();
+        }
+    }
 }
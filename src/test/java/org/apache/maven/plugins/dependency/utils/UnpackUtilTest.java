@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.apache.maven.plugins.dependency.fromConfiguration.ArtifactItem;
+import org.apache.maven.plugins.dependency.utils.markers.MarkerHandler;
+import org.codehaus.plexus.archiver.manager.ArchiverManager;
+import org.codehaus.plexus.archiver.tar.TarGZipUnArchiver;
+import org.codehaus.plexus.archiver.zip.ZipUnArchiver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sonatype.plexus.build.incremental.BuildContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UnpackUtilTest {
+
+    @TempDir
+    private File tempDir;
+
+    private BuildContext buildContext;
+
+    private ArchiverManager archiverManager;
+
+    private UnpackUtil unpackUtil;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        archiverManager = mock(ArchiverManager.class);
+        when(archiverManager.getUnArchiver("zip")).thenAnswer(invocation -> new ZipUnArchiver());
+        buildContext = mock(BuildContext.class);
+        unpackUtil = new UnpackUtil(archiverManager, buildContext);
+    }
+
+    @Test
+    void incrementalUnpackOnlyWritesChangedEntries() throws Exception {
+        File location = new File(tempDir, "out");
+        File states = new File(tempDir, "markers");
+        File zip = new File(tempDir, "test.zip");
+
+        writeZip(zip, "a.txt", "same", "b.txt", "old", "c.txt", "removed");
+        unpack(zip, location, states);
+        verify(buildContext).refresh(new File(location, "a.txt"));
+        verify(buildContext).refresh(new File(location, "b.txt"));
+        verify(buildContext).refresh(new File(location, "c.txt"));
+
+        File unchanged = new File(location, "a.txt");
+        long time = unchanged.lastModified() - 60000;
+        unchanged.setLastModified(time);
+        clearInvocations(buildContext);
+
+        writeZip(zip, "a.txt", "same", "b.txt", "new", "d.txt", "added");
+        unpack(zip, location, states);
+
+        assertEquals(time, unchanged.lastModified());
+        assertEquals("new", read(new File(location, "b.txt")));
+        assertEquals("added", read(new File(location, "d.txt")));
+        assertFalse(new File(location, "c.txt").exists());
+        verify(buildContext, never()).refresh(unchanged);
+        verify(buildContext).refresh(new File(location, "b.txt"));
+        verify(buildContext).refresh(new File(location, "c.txt"));
+        verify(buildContext).refresh(new File(location, "d.txt"));
+    }
+
+    @Test
+    void incrementalUnpackCreatesEmptyDirectories() throws Exception {
+        File location = new File(tempDir, "out");
+        File states = new File(tempDir, "markers");
+        File zip = new File(tempDir, "test.zip");
+
+        writeZip(zip, "empty/", "", "removed/", "", "a.txt", "same");
+        unpack(zip, location, states);
+        assertTrue(new File(location, "empty").isDirectory());
+        assertTrue(new File(location, "removed").isDirectory());
+
+        assertTrue(new File(location, "empty").delete());
+        clearInvocations(buildContext);
+
+        writeZip(zip, "empty/", "", "a.txt", "same");
+        unpack(zip, location, states);
+
+        assertTrue(new File(location, "empty").isDirectory());
+        assertFalse(new File(location, "removed").exists());
+        verify(buildContext).refresh(new File(location, "empty"));
+        verify(buildContext).refresh(new File(location, "removed"));
+        verify(buildContext, never()).refresh(new File(location, "a.txt"));
+    }
+
+    @Test
+    void parallelUnpackKeepsDeclarationOrderAroundUnlistedArchives() throws Exception {
+        File location = new File(tempDir, "out");
+        File first = new File(tempDir, "first.zip");
+        File tarball = new File(tempDir, "middle.tar.gz");
+        File last = new File(tempDir, "last.zip");
+        writeZip(first, "a.txt", "first");
+        writeZip(last, "b.txt", "last");
+        assertTrue(tarball.createNewFile());
+
+        // the entries of a tarball are not listed upfront, it may overwrite any file
+        TarGZipUnArchiver tarUnArchiver = mock(TarGZipUnArchiver.class);
+        doAnswer(invocation -> {
+                    Files.write(new File(location, "a.txt").toPath(), "tarball".getBytes(StandardCharsets.UTF_8));
+                    Files.write(new File(location, "b.txt").toPath(), "tarball".getBytes(StandardCharsets.UTF_8));
+                    return null;
+                })
+                .when(tarUnArchiver)
+                .extract();
+        when(archiverManager.getUnArchiver("tar.gz")).thenReturn(tarUnArchiver);
+
+        List<ArtifactItem> items = Arrays.asList(
+                item(first, "zip", location), item(tarball, "tar.gz", location), item(last, "zip", location));
+        unpackUtil.unpack(
+                items,
+                false,
+                3,
+                item -> mock(MarkerHandler.class),
+                null,
+                new SystemStreamLog());
+
+        assertEquals("tarball", read(new File(location, "a.txt")));
+        assertEquals("last", read(new File(location, "b.txt")));
+    }
+
+    private static ArtifactItem item(File file, String type, File location) {
+        Artifact artifact = new DefaultArtifact(
+                "test", file.getName(), "1.0", null, type, null, new DefaultArtifactHandler(type));
+        artifact.setFile(file);
+        ArtifactItem item = new ArtifactItem(artifact);
+        item.setOutputDirectory(location);
+        return item;
+    }
+
+    private void unpack(File zip, File location, File states) throws Exception {
+        unpackUtil.unpack(zip, "zip", location, null, null, null, false, null, states, new SystemStreamLog());
+    }
+
+    private static void writeZip(File zip, String... namesAndContents) throws IOException {
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(zip.toPath()))) {
+            for (int i = 0; i < namesAndContents.length; i += 2) {
+                out.putNextEntry(new ZipEntry(namesAndContents[i]));
+                out.write(namesAndContents[i + 1].getBytes(StandardCharsets.UTF_8));
+                out.closeEntry();
+            }
+        }
+    }
+
+    private static String read(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+}
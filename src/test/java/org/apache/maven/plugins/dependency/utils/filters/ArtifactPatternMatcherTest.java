@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.utils.filters;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.shared.artifact.filter.StrictPatternIncludesArtifactFilter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArtifactPatternMatcherTest {
+
+    private static final String[] GROUP_IDS = {"org.apache", "org.apache.maven", "com.example", "junit"};
+
+    private static final String[] ARTIFACT_IDS = {"maven-core", "maven-plugin-api", "junit", "plexus-utils"};
+
+    private static final String[] TYPES = {"jar", "pom", "test-jar"};
+
+    private static final String[] VERSIONS = {"1.0", "2.3.1", "3.0-SNAPSHOT", "3.9.6"};
+
+    private static final String[] RANGES = {"[1.0,3.0)", "[3.0,)", "(,2.0]", "[invalid"};
+
+    @Test
+    void matchesEachKindOfSegment() {
+        Artifact artifact = newArtifact("org.apache.maven", "maven-core", "jar", "3.9.6");
+
+        assertTrue(matches(artifact, "org.apache.maven"));
+        assertTrue(matches(artifact, "org.apache.*"));
+        assertTrue(matches(artifact, ":*-core"));
+        assertTrue(matches(artifact, "*:*ven-co*"));
+        assertTrue(matches(artifact, "::jar"));
+        assertTrue(matches(artifact, ":::[3.0,)"));
+        assertTrue(matches(artifact, "org.apache.maven:maven-core:jar:3.9.6"));
+
+        assertFalse(matches(artifact, "org.apache"));
+        assertFalse(matches(artifact, ":::[1.0,3.0)"));
+        assertFalse(matches(artifact, ":::[invalid"));
+        assertFalse(matches(artifact, "org.apache.maven:maven-core:jar:3.9.6:extra"));
+    }
+
+    @Test
+    void reportsFirstMatchingPattern() {
+        ArtifactPatternMatcher matcher =
+                ArtifactPatternMatcher.compile(Arrays.asList("junit", "*:maven-*", "org.apache.*", "*"));
+
+        assertEquals(1, matcher.indexOfMatch(newArtifact("org.apache.maven", "maven-core", "jar", "3.9.6")));
+        assertEquals(2, matcher.indexOfMatch(newArtifact("org.apache.maven", "plexus-utils", "jar", "3.9.6")));
+        assertEquals(3, matcher.indexOfMatch(newArtifact("com.example", "plexus-utils", "jar", "3.9.6")));
+        assertEquals(
+                -1,
+                ArtifactPatternMatcher.compile(Collections.singletonList("junit"))
+                        .indexOfMatch(newArtifact("com.example", "junit", "jar", "4.13.2")));
+    }
+
+    @Test
+    void matchesLikeStrictPatternFilter() {
+        Random random = new Random(0);
+        for (int i = 0; i < 500; i++) {
+            List<String> patterns = new ArrayList<>();
+            for (int j = random.nextInt(6); j > 0; j--) {
+                patterns.add(randomPattern(random));
+            }
+            ArtifactPatternMatcher matcher = ArtifactPatternMatcher.compile(patterns);
+            StrictPatternIncludesArtifactFilter filter = new StrictPatternIncludesArtifactFilter(patterns);
+            for (int j = 0; j < 20; j++) {
+                Artifact artifact = newArtifact(
+                        pick(random, GROUP_IDS),
+                        pick(random, ARTIFACT_IDS),
+                        pick(random, TYPES),
+                        pick(random, VERSIONS));
+                assertEquals(filter.include(artifact), matcher.matches(artifact), patterns + " " + artifact);
+            }
+        }
+    }
+
+    private static boolean matches(Artifact artifact, String pattern) {
+        return ArtifactPatternMatcher.compile(Collections.singletonList(pattern)).matches(artifact);
+    }
+
+    private static String randomPattern(Random random) {
+        String[][] values = {GROUP_IDS, ARTIFACT_IDS, TYPES, VERSIONS};
+        StringBuilder pattern = new StringBuilder();
+        for (int i = 0, segments = 1 + random.nextInt(4); i < segments; i++) {
+            String value = pick(random, values[i]);
+            if (i > 0) {
+                pattern.append(':');
+            }
+            switch (random.nextInt(7)) {
+                case 0:
+                    pattern.append('*');
+                    break;
+                case 1:
+                    pattern.append(value, 0, random.nextInt(value.length())).append('*');
+                    break;
+                case 2:
+                    pattern.append('*').append(value.substring(random.nextInt(value.length())));
+                    break;
+                case 3:
+                    pattern.append('*').append(value, 1, value.length() - 1).append('*');
+                    break;
+                case 4:
+                    pattern.append(i == 3 ? pick(random, RANGES) : "");
+                    break;
+                default:
+                    pattern.append(value);
+            }
+        }
+        return pattern.toString();
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static Artifact newArtifact(String groupId, String artifactId, String type, String version) {
+        return new DefaultArtifact(
+                groupId, artifactId, version, Artifact.SCOPE_COMPILE, type, null, new DefaultArtifactHandler(type));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.utils.filters;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.shared.artifact.filter.collection.ArtifactFilterException;
+import org.apache.maven.shared.artifact.filter.collection.ArtifactIdFilter;
+import org.apache.maven.shared.artifact.filter.collection.GroupIdFilter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ArtifactPatternsFilterTest {
+
+    private static final String[] INCLUDES = {null, "", "org.apache", "com,org.apache.maven", "junit,org", "a,,b"};
+
+    private static final String[] EXCLUDES = {null, "", "org.apache.maven", "junit,com.example"};
+
+    private static final String[] ARTIFACT_INCLUDES = {null, "", "maven-core", "junit,maven-core", "junit,,core"};
+
+    private static final String[] ARTIFACT_EXCLUDES = {null, "", "junit", "maven-core,plexus-utils"};
+
+    @Test
+    void filtersLikeGroupIdFilter() throws ArtifactFilterException {
+        Set<Artifact> artifacts = newArtifacts();
+        for (String include : INCLUDES) {
+            for (String exclude : EXCLUDES) {
+                assertEquals(
+                        ids(new GroupIdFilter(include, exclude).filter(artifacts)),
+                        ids(ArtifactPatternsFilter.groupIds(include, exclude).filter(artifacts)),
+                        include + " / " + exclude);
+            }
+        }
+    }
+
+    @Test
+    void filtersLikeArtifactIdFilter() throws ArtifactFilterException {
+        Set<Artifact> artifacts = newArtifacts();
+        for (String include : ARTIFACT_INCLUDES) {
+            for (String exclude : ARTIFACT_EXCLUDES) {
+                assertEquals(
+                        ids(new ArtifactIdFilter(include, exclude).filter(artifacts)),
+                        ids(ArtifactPatternsFilter.artifactIds(include, exclude).filter(artifacts)),
+                        include + " / " + exclude);
+            }
+        }
+    }
+
+    private static Set<Artifact> newArtifacts() {
+        Set<Artifact> artifacts = new LinkedHashSet<>();
+        artifacts.add(newArtifact("org.codehaus.plexus", "plexus-utils"));
+        artifacts.add(newArtifact("org.apache.maven", "maven-core"));
+        artifacts.add(newArtifact("junit", "junit"));
+        artifacts.add(newArtifact("com.example", "core"));
+        artifacts.add(newArtifact("org.apache.maven.shared", "maven-shared-utils"));
+        return artifacts;
+    }
+
+    private static List<String> ids(Set<Artifact> artifacts) {
+        List<String> ids = new ArrayList<>();
+        for (Artifact artifact : artifacts) {
+            ids.add(artifact.getGroupId() + ":" + artifact.getArtifactId());
+        }
+        return ids;
+    }
+
+    private static Artifact newArtifact(String groupId, String artifactId) {
+        return new DefaultArtifact(
+                groupId, artifactId, "1.0", Artifact.SCOPE_COMPILE, "jar", null, new DefaultArtifactHandler("jar"));
+    }
+}
@@ -20,9 +20,13 @@ package org.apache.maven.plugins.dependency.utils.filters;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.plugins.dependency.testUtils.DependencyArtifactStubFactory;
+import org.apache.maven.plugins.dependency.utils.ChecksumIndex;
 import org.apache.maven.plugins.dependency.utils.DependencyUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -187,6 +191,87 @@ class TestDestFileFilter {
         assertFalse(filter.isArtifactIncluded(artifact));
     }
 
+    @Test
+    void destFileOverwriteIfChecksumDiffers() throws Exception {
+        DestFileFilter filter = new DestFileFilter(outputFolder);
+        filter.setOverWriteIfNewer(true);
+        ChecksumIndex index = new ChecksumIndex(new File(outputFolder, "index.sha1"), outputFolder);
+        filter.setChecksumIndex(index);
+
+        fact.setCreateFiles(true);
+        Artifact artifact = fact.getSnapshotArtifact();
+        File artifactFile = artifact.getFile();
+
+        // same content, but not copied by the plugin yet
+        File destFile = createFile(artifact, false, false, false);
+        Files.copy(artifactFile.toPath(), destFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        assertTrue(filter.isArtifactIncluded(artifact));
+
+        // same content, but the destination looks older
+        assertTrue(destFile.setLastModified(artifactFile.lastModified() - 1000));
+        index.record(artifactFile, destFile);
+        assertFalse(filter.isArtifactIncluded(artifact));
+
+        // different content, but the destination looks newer
+        Files.write(destFile.toPath(), "changed".getBytes(StandardCharsets.UTF_8));
+        assertTrue(destFile.setLastModified(artifactFile.lastModified() + 1000));
+        assertTrue(filter.isArtifactIncluded(artifact));
+    }
+
+    @Test
+    void destFileKeptIfOnlyTimestampChanged() throws Exception {
+        DestFileFilter filter = new DestFileFilter(outputFolder);
+        filter.setOverWriteIfNewer(true);
+        ChecksumIndex index = new ChecksumIndex(new File(outputFolder, "index.sha1"), outputFolder);
+        filter.setChecksumIndex(index);
+
+        fact.setCreateFiles(true);
+        Artifact artifact = fact.getSnapshotArtifact();
+        File artifactFile = artifact.getFile();
+        Files.write(artifactFile.toPath(), "content".getBytes(StandardCharsets.UTF_8));
+
+        File destFile = createFile(artifact, false, false, false);
+        Files.copy(artifactFile.toPath(), destFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        index.record(artifactFile, destFile);
+
+        // e.g. restored from a cache
+        assertTrue(destFile.setLastModified(destFile.lastModified() + 60_000));
+        assertFalse(filter.isArtifactIncluded(artifact));
+
+        // same size, different content
+        Files.write(destFile.toPath(), "CONTENT".getBytes(StandardCharsets.UTF_8));
+        assertTrue(destFile.setLastModified(destFile.lastModified() + 60_000));
+        assertTrue(filter.isArtifactIncluded(artifact));
+    }
+
+    @Test
+    void destFileOverwriteIfChecksumFileIsStale() throws Exception {
+        DestFileFilter filter = new DestFileFilter(outputFolder);
+        filter.setOverWriteIfNewer(true);
+        File indexFile = new File(outputFolder, "index.sha1");
+        ChecksumIndex index = new ChecksumIndex(indexFile, outputFolder);
+
+        fact.setCreateFiles(true);
+        Artifact artifact = fact.getSnapshotArtifact();
+        File artifactFile = artifact.getFile();
+        Files.write(artifactFile.toPath(), "content".getBytes(StandardCharsets.UTF_8));
+        File checksumFile = new File(artifactFile.getPath() + ".sha1");
+        Files.write(checksumFile.toPath(), ChecksumIndex.sha1(artifactFile).getBytes(StandardCharsets.US_ASCII));
+        assertTrue(checksumFile.setLastModified(artifactFile.lastModified()));
+
+        File destFile = createFile(artifact, false, false, false);
+        Files.copy(artifactFile.toPath(), destFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        index.record(artifactFile, destFile);
+        index.save();
+
+        // installed again, without updating the checksum file
+        Files.write(artifactFile.toPath(), "CONTENT".getBytes(StandardCharsets.UTF_8));
+        assertTrue(artifactFile.setLastModified(checksumFile.lastModified() + 60_000));
+
+        filter.setChecksumIndex(new ChecksumIndex(indexFile, outputFolder));
+        assertTrue(filter.isArtifactIncluded(artifact));
+    }
+
     @Test
     void gettersSetters() {
         DestFileFilter filter = new DestFileFilter(null);
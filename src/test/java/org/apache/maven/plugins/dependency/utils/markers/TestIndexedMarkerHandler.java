@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.dependency.utils.markers;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.versioning.VersionRange;
+import org.apache.maven.plugins.dependency.fromConfiguration.ArtifactItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestIndexedMarkerHandler {
+
+    @TempDir
+    File outputFolder;
+
+    private Artifact artifact;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        VersionRange vr = VersionRange.createFromVersion("1.1");
+        artifact = new DefaultArtifact(
+                "test", "1", vr, Artifact.SCOPE_COMPILE, "jar", "", new DefaultArtifactHandler(), false);
+        File file = new File(outputFolder, "theFile.jar");
+        Files.write(file.toPath(), "content".getBytes(StandardCharsets.UTF_8));
+        artifact.setFile(file);
+    }
+
+    @Test
+    void setMarker() throws Exception {
+        IndexedMarkerHandler handler = new IndexedMarkerHandler(artifact, MarkerIndex.load(outputFolder));
+        assertFalse(handler.isMarkerSet());
+        handler.setMarker();
+        assertTrue(handler.isMarkerSet());
+        assertTrue(handler.clearMarker());
+        assertFalse(handler.isMarkerSet());
+        assertFalse(handler.clearMarker());
+    }
+
+    @Test
+    void markersAreSavedInOneFile() throws Exception {
+        MarkerIndex index = MarkerIndex.load(outputFolder);
+        new IndexedMarkerHandler(artifact, index).setMarker();
+        assertFalse(index.getIndexFile().exists());
+        index.save();
+
+        File[] files = outputFolder.listFiles((dir, name) -> !name.equals("theFile.jar"));
+        assertEquals(1, files.length);
+        assertEquals(MarkerIndex.INDEX_FILE_NAME, files[0].getName());
+
+        IndexedMarkerHandler handler = new IndexedMarkerHandler(artifact, MarkerIndex.load(outputFolder));
+        assertTrue(handler.isMarkerSet());
+        assertFalse(handler.isMarkerOlder(artifact));
+    }
+
+    @Test
+    void markerOlder() throws Exception {
+        File theFile = artifact.getFile();
+        IndexedMarkerHandler handler = new IndexedMarkerHandler(artifact, MarkerIndex.load(outputFolder));
+        assertTrue(handler.isMarkerOlder(artifact));
+        handler.setMarker();
+        assertFalse(handler.isMarkerOlder(artifact));
+
+        assertTrue(theFile.setLastModified(theFile.lastModified() + 60000));
+        assertTrue(handler.isMarkerOlder(artifact));
+        handler.setMarker();
+        assertFalse(handler.isMarkerOlder(artifact));
+
+        // same timestamp, different size
+        long lastModified = theFile.lastModified();
+        Files.write(theFile.toPath(), "other content".getBytes(StandardCharsets.UTF_8));
+        assertTrue(theFile.setLastModified(lastModified));
+        assertTrue(handler.isMarkerOlder(artifact));
+    }
+
+    @Test
+    void includesAndExcludesGetTheirOwnMarker() throws Exception {
+        MarkerIndex index = MarkerIndex.load(outputFolder);
+        ArtifactItem plain = new ArtifactItem(artifact);
+        ArtifactItem filtered = new ArtifactItem(artifact);
+        filtered.setIncludes("**/*.xml");
+
+        new IndexedMarkerHandler(plain, index).setMarker();
+        assertTrue(new IndexedMarkerHandler(plain, index).isMarkerSet());
+        assertFalse(new IndexedMarkerHandler(filtered, index).isMarkerSet());
+
+        new IndexedMarkerHandler(filtered, index).setMarker();
+        assertTrue(new IndexedMarkerHandler(filtered, index).isMarkerSet());
+    }
+}